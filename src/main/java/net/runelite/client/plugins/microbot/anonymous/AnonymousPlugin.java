@@ -5,6 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.ScriptPostFired;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.WidgetLoaded;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
@@ -68,4 +72,24 @@ public class AnonymousPlugin extends Plugin {
 		if (client.getGameState() != GameState.LOGGED_IN) return;
 		if (anonymousScript != null && anonymousScript.isRunning()) anonymousScript.onBeforeRender(client, config);
 	}
+
+	@Subscribe
+	public void onWidgetLoaded(WidgetLoaded event) {
+		if (anonymousScript != null) anonymousScript.onWidgetLoaded(event.getGroupId());
+	}
+
+	@Subscribe
+	public void onScriptPostFired(ScriptPostFired event) {
+		if (anonymousScript != null) anonymousScript.onScriptPostFired(event.getScriptId());
+	}
+
+	@Subscribe
+	public void onStatChanged(StatChanged event) {
+		if (anonymousScript != null) anonymousScript.onStatChanged();
+	}
+
+	@Subscribe
+	public void onItemContainerChanged(ItemContainerChanged event) {
+		if (anonymousScript != null) anonymousScript.onItemContainerChanged();
+	}
 }
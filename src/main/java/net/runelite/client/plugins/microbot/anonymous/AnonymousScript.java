@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Player;
 import net.runelite.api.PlayerComposition;
+import net.runelite.api.ScriptID;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.kit.KitType;
 import net.runelite.api.widgets.ItemQuantityMode;
@@ -13,6 +14,11 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -21,6 +27,9 @@ import java.util.regex.Pattern;
 @Slf4j
 public class AnonymousScript extends Script {
 
+    // Elements rewritten only after an event may have reset their widgets, the others are checked every frame
+    private final Set<AnonymizableElement> dirtyElements = Collections.synchronizedSet(EnumSet.noneOf(AnonymizableElement.class));
+
     /* *
      * Stripper method to remove all equipment from the player's character.
      * Back to tutorial island baby :)
@@ -139,22 +148,50 @@ public class AnonymousScript extends Script {
         public ItemQuantityAnonymizer() {
         }
 
+        private static final int MASKED_QUANTITY = 2147483647;
+
         @Override
         public void anonymize(Widget widget) {
             if (widget == null || widget.isHidden()) return;
             Widget[] inventoryWidgets = widget.getDynamicChildren();
             if (inventoryWidgets == null) return;
             for (Widget inventoryWidget : inventoryWidgets) {
-                if (inventoryWidget == null) continue;
+                if (inventoryWidget == null || inventoryWidget.getItemQuantity() == MASKED_QUANTITY) continue;
                 if (inventoryWidget.getItemQuantityMode() != ItemQuantityMode.ALWAYS && inventoryWidget.getItemQuantityMode() != ItemQuantityMode.STACKABLE) {
                     continue;
                 }
-                inventoryWidget.setItemQuantity(2147483647);
+                inventoryWidget.setItemQuantity(MASKED_QUANTITY);
             }
         }
     }
 
 
+    /**
+     * Remembers the last original and anonymized text per widget id and child index,
+     * so text that is unchanged or already anonymized doesn't need to be rewritten again.
+     */
+    public static class TextMemo {
+        private final Map<Long, String[]> entries = new HashMap<>();
+
+        private static long key(Widget widget) {
+            return ((long) widget.getId() << 32) | (widget.getIndex() & 0xFFFFFFFFL);
+        }
+
+        /**
+         * @return the anonymized text for the widget's current text, or null if it wasn't seen before
+         */
+        public String lookup(Widget widget, String text) {
+            String[] entry = entries.get(key(widget));
+            if (entry == null) return null;
+            if (text.equals(entry[1])) return entry[1];
+            return text.equals(entry[0]) ? entry[1] : null;
+        }
+
+        public void remember(Widget widget, String originalText, String anonymizedText) {
+            entries.put(key(widget), new String[]{originalText, anonymizedText});
+        }
+    }
+
     /**
      * A highly reusable anonymizer driven by regular expressions.
      * This avoids the need to create a new class for every specific find-and-replace rule.
@@ -162,6 +199,7 @@ public class AnonymousScript extends Script {
     public static class RegexAnonymizer implements Anonymizer {
         private final Pattern pattern;
         private final Function<Matcher, String> replacer;
+        private final TextMemo memo = new TextMemo();
 
         /**
          * @param regex    The regular expression to find text to replace.
@@ -179,6 +217,14 @@ public class AnonymousScript extends Script {
             }
 
             String originalText = widget.getText();
+            String memoized = memo.lookup(widget, originalText);
+            if (memoized != null) {
+                if (!originalText.equals(memoized)) {
+                    widget.setText(memoized);
+                }
+                return;
+            }
+
             Matcher matcher = pattern.matcher(originalText);
 
             StringBuilder buffer = new StringBuilder();
@@ -189,6 +235,7 @@ public class AnonymousScript extends Script {
             matcher.appendTail(buffer);
 
             String newText = buffer.toString();
+            memo.remember(widget, originalText, newText);
 
             if (!originalText.equals(newText)) {
                 widget.setText(newText);
@@ -238,40 +285,53 @@ public class AnonymousScript extends Script {
          * The widget ID corresponds to the specific interface element in the RuneLite client.
          * The anonymizer defines how the text of that widget should be modified.
          */
-        CHATBOX_INPUT(InterfaceID.Chatbox.INPUT, new RegexAnonymizer(
+        CHATBOX_INPUT(InterfaceID.Chatbox.INPUT, false, new RegexAnonymizer(
                 "^([^:]+)(:.*)$",
                 Replacers.consistentNamer("Anonymous", 1)
         )),
-        HP_GLOBE(InterfaceID.Orbs.HEALTH_TEXT, new StaticTextAnonymizer("99")),
-        PRAYER_GLOBE(InterfaceID.Orbs.PRAYER_TEXT, new StaticTextAnonymizer("99")),
-        SKILL_LEVELS(InterfaceID.Stats.UNIVERSE, new SkillsAnonymizer("99")),
-        SKILL_LEVELS_TOOLTIP(InterfaceID.Stats.TOOLTIP, new SkillsTooltipAnonymizer()),
-        COMBAT_LEVEL(InterfaceID.CombatInterface.LEVEL, new StaticTextAnonymizer("Combat Lvl: 126")),
-        INVENTORY_ITEM_QUANTITY(InterfaceID.Inventory.ITEMS, new ItemQuantityAnonymizer()),
-        BANK_INVENTORY_QUANTITY(InterfaceID.Bankside.ITEMS, new ItemQuantityAnonymizer()),
-        BANK_ITEM_QUANTITY(InterfaceID.Bankmain.ITEMS, new ItemQuantityAnonymizer()),
-        XP_DROPS_COUNTER(InterfaceID.XpDrops.COUNTER, new StaticTextAnonymizer("2,147,483,647"));
+        HP_GLOBE(InterfaceID.Orbs.HEALTH_TEXT, false, new StaticTextAnonymizer("99")),
+        PRAYER_GLOBE(InterfaceID.Orbs.PRAYER_TEXT, false, new StaticTextAnonymizer("99")),
+        SKILL_LEVELS(InterfaceID.Stats.UNIVERSE, true, new SkillsAnonymizer("99")),
+        SKILL_LEVELS_TOOLTIP(InterfaceID.Stats.TOOLTIP, false, new SkillsTooltipAnonymizer()),
+        COMBAT_LEVEL(InterfaceID.CombatInterface.LEVEL, false, new StaticTextAnonymizer("Combat Lvl: 126")),
+        INVENTORY_ITEM_QUANTITY(InterfaceID.Inventory.ITEMS, true, new ItemQuantityAnonymizer()),
+        BANK_INVENTORY_QUANTITY(InterfaceID.Bankside.ITEMS, true, new ItemQuantityAnonymizer()),
+        BANK_ITEM_QUANTITY(InterfaceID.Bankmain.ITEMS, true, new ItemQuantityAnonymizer()),
+        XP_DROPS_COUNTER(InterfaceID.XpDrops.COUNTER, false, new StaticTextAnonymizer("2,147,483,647"));
 
         @Getter
         private final int widgetId;
+        /**
+         * Whether the element only needs to be rewritten after WidgetLoaded, ScriptPostFired or ItemContainerChanged,
+         * instead of on every frame.
+         */
+        @Getter
+        private final boolean eventDriven;
         private final Anonymizer anonymizer;
 
-        AnonymizableElement(int widgetId, Anonymizer anonymizer) {
+        AnonymizableElement(int widgetId, boolean eventDriven, Anonymizer anonymizer) {
             this.widgetId = widgetId;
+            this.eventDriven = eventDriven;
             this.anonymizer = anonymizer;
         }
 
+        public int getGroupId() {
+            // The interface id is stored in the upper 16 bits of the component id
+            return widgetId >>> 16;
+        }
+
         /**
          * Applies the anonymization to the widget associated with this element.
          * It retrieves the widget by its ID and applies the anonymizer to it.
          *
          * @param client The current client instance.
+         * @return whether the widget was loaded and visible, so it has been rewritten
          */
-        public void apply(Client client) {
+        public boolean apply(Client client) {
             Widget widget = client.getWidget(widgetId);
-            if (widget != null) {
-                anonymizer.anonymize(widget);
-            }
+            if (widget == null || widget.isHidden()) return false;
+            anonymizer.anonymize(widget);
+            return true;
         }
     }
 
@@ -280,11 +340,54 @@ public class AnonymousScript extends Script {
         if (config.maskCharacterVisual()) stripPlayer(client);
     }
 
+    /**
+     * Marks the elements of the loaded interface to be rewritten on the next frame.
+     */
+    public void onWidgetLoaded(int groupId) {
+        for (AnonymizableElement element : AnonymizableElement.values()) {
+            if (element.isEventDriven() && element.getGroupId() == groupId) dirtyElements.add(element);
+        }
+    }
+
+    /**
+     * Rebuilding the bank (tab switches, searches) resets its quantities without changing the containers.
+     */
+    public void onScriptPostFired(int scriptId) {
+        if (scriptId != ScriptID.BANKMAIN_FINISHBUILDING) return;
+        dirtyElements.add(AnonymizableElement.BANK_ITEM_QUANTITY);
+        dirtyElements.add(AnonymizableElement.BANK_INVENTORY_QUANTITY);
+    }
+
+    public void onStatChanged() {
+        dirtyElements.add(AnonymizableElement.SKILL_LEVELS);
+    }
+
+    public void onItemContainerChanged() {
+        dirtyElements.add(AnonymizableElement.INVENTORY_ITEM_QUANTITY);
+        dirtyElements.add(AnonymizableElement.BANK_INVENTORY_QUANTITY);
+        dirtyElements.add(AnonymizableElement.BANK_ITEM_QUANTITY);
+    }
+
+    private void markEventDrivenDirty() {
+        for (AnonymizableElement element : AnonymizableElement.values()) {
+            if (element.isEventDriven()) dirtyElements.add(element);
+        }
+    }
+
+    /**
+     * Rewrites the element if it is dirty. It stays dirty while its widget is closed or hidden,
+     * e.g. on another side panel tab, so it is rewritten as soon as it is shown.
+     */
+    private void applyIfDirty(AnonymizableElement element, Client client) {
+        if (dirtyElements.remove(element) && !element.apply(client)) dirtyElements.add(element);
+    }
+
     /**
      * This method is called before rendering the client.
      * It applies the anonymization based on the provided configuration.
      * Without doing before render, widget value may appear flicking.
-     * As it's a plugin intended to run only when needed, the possible performance impact shouldn't be a concern.
+     * Cheap text elements are checked every frame, the skills and item containers are only
+     * rewritten once an event marked them dirty.
      *
      * @param client The current client instance.
      * @param config The configuration for anonymization.
@@ -293,20 +396,22 @@ public class AnonymousScript extends Script {
         if (!Microbot.isLoggedIn() || !super.run() || !isRunning() || client == null) return;
 
         if (config.maskCharacterName()) AnonymizableElement.CHATBOX_INPUT.apply(client);
-        if (config.maskSkillLevels()) AnonymizableElement.SKILL_LEVELS.apply(client);
+        if (config.maskSkillLevels()) applyIfDirty(AnonymizableElement.SKILL_LEVELS, client);
         if (config.maskSkillLevelTooltips()) AnonymizableElement.SKILL_LEVELS_TOOLTIP.apply(client);
         if (config.maskHPGlobe()) AnonymizableElement.HP_GLOBE.apply(client);
         if (config.maskPrayerGlobe()) AnonymizableElement.PRAYER_GLOBE.apply(client);
         if (config.maskCombatLevel()) AnonymizableElement.COMBAT_LEVEL.apply(client);
         if (config.maskInventoryItemQuantity()) {
-            AnonymizableElement.INVENTORY_ITEM_QUANTITY.apply(client);
-            AnonymizableElement.BANK_INVENTORY_QUANTITY.apply(client);
+            applyIfDirty(AnonymizableElement.INVENTORY_ITEM_QUANTITY, client);
+            applyIfDirty(AnonymizableElement.BANK_INVENTORY_QUANTITY, client);
         }
-        if (config.maskBankItemQuantity()) AnonymizableElement.BANK_ITEM_QUANTITY.apply(client);
+        if (config.maskBankItemQuantity()) applyIfDirty(AnonymizableElement.BANK_ITEM_QUANTITY, client);
         if (config.maskXpDropsCounter()) AnonymizableElement.XP_DROPS_COUNTER.apply(client);
     }
 
     public boolean run(AnonymousConfig config, Client client) {
+        // Widgets which are already open when the script starts have not been anonymized yet
+        markEventDrivenDirty();
 
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
@@ -10,11 +10,13 @@ import javax.inject.Inject;
 import java.awt.*;
 
 public class AutoFishingOverlay extends OverlayPanel {
+    private final AutoFishingPlugin plugin;
 
     @Inject
     AutoFishingOverlay(AutoFishingPlugin plugin)
     {
         super(plugin);
+        this.plugin = plugin;
         setPosition(OverlayPosition.TOP_LEFT);
         setNaughty();
     }
@@ -32,6 +34,14 @@ public class AutoFishingOverlay extends OverlayPanel {
                     .left(Microbot.status)
                     .build());
 
+            FishingSpotTracker spotTracker = plugin.getFishingScript().getSpotTracker();
+            if (spotTracker.getAverageReengageMs() > 0) {
+                panelComponent.getChildren().add(LineComponent.builder()
+                        .left("Spot re-engage:")
+                        .right(spotTracker.getLastReengageMs() + "ms (avg " + spotTracker.getAverageReengageMs() + "ms)")
+                        .build());
+            }
+
         } catch(Exception ex) {
         }
         return super.render(graphics);
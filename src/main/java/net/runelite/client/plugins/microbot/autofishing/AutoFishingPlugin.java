@@ -2,7 +2,11 @@ package net.runelite.client.plugins.microbot.autofishing;
 
 import com.google.inject.Provides;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameState;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
@@ -59,6 +63,27 @@ public class AutoFishingPlugin extends Plugin {
         fishingScript.shutdown();
         overlayManager.remove(fishingOverlay);
     }
+
+    AutoFishingScript getFishingScript() {
+        return fishingScript;
+    }
+
+    @Subscribe
+    public void onNpcSpawned(NpcSpawned event) {
+        fishingScript.getSpotTracker().onNpcSpawned(event.getNpc());
+    }
+
+    @Subscribe
+    public void onNpcDespawned(NpcDespawned event) {
+        fishingScript.getSpotTracker().onNpcDespawned(event.getNpc());
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        if (event.getGameState() == GameState.LOGIN_SCREEN || event.getGameState() == GameState.HOPPING) {
+            fishingScript.getSpotTracker().onWorldLeft();
+        }
+    }
     
     @Subscribe
     public void onGameTick(GameTick tick) {
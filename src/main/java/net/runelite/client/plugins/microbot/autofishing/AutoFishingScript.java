@@ -2,6 +2,7 @@ package net.runelite.client.plugins.microbot.autofishing;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.NPC;
 import net.runelite.api.Skill;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.gameval.ItemID;
@@ -24,13 +25,43 @@ import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.plugins.microbot.autofishing.dependencies.FishingSpotLocation;
 import net.runelite.client.plugins.microbot.util.bank.enums.BankLocation;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Slf4j
 public class AutoFishingScript extends Script {
-    
+
+    private static final int SPOT_SEARCH_DISTANCE = 10;
+    private static final int SPOT_PREDICTION_DISTANCE = 15;
+    // Spots are on water, the walker can only get this close to some of them
+    private static final int SPOT_REACH_DISTANCE = 3;
+    private static final int SPOT_DENSITY_RADIUS = 10;
+
+    // Configured location per fish, AUTO maps to null
+    private static final Map<Fish, Function<AutoFishingConfig, FishingSpotLocation>> CONFIGURED_LOCATIONS = new EnumMap<>(Fish.class);
+
+    static {
+        CONFIGURED_LOCATIONS.put(Fish.SHRIMP, c -> c.shrimpLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.ANCHOVIES, c -> c.anchoviesLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.HERRING, c -> c.herringLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.LOBSTER, c -> c.lobsterLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.SHARK, c -> c.sharkLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.SALMON, c -> c.salmonLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.TROUT, c -> c.troutLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.MONKFISH, c -> c.monkfishLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.KARAMBWAN, c -> c.karambwanLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.KARAMBWANJI, c -> c.karambwanjiLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.LAVA_EEL, c -> c.lavaEelLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.CAVE_EEL, c -> c.caveEelLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.BARBARIAN_FISH, c -> c.barbarianFishLocation().toFishingSpotLocation());
+        CONFIGURED_LOCATIONS.put(Fish.ANGLERFISH, c -> c.anglerfishLocation().toFishingSpotLocation());
+    }
+
+    @Getter
+    private final FishingSpotTracker spotTracker = new FishingSpotTracker();
+
     private AutoFishingState state = AutoFishingState.INITIALIZING;
     private AutoFishingConfig config;
     private Fish selectedFish;
@@ -42,6 +73,7 @@ public class AutoFishingScript extends Script {
     private FishingSpotLocation selectedSpotLocation;
     private int currentLocationIndex = 0;
     private String fishAction = "";
+    private WorldPoint lastPredictedSpot;
     
     public AutoFishingState getCurrentState() {
         return state;
@@ -54,6 +86,9 @@ public class AutoFishingScript extends Script {
         
         Rs2Antiban.resetAntibanSettings();
         Rs2Antiban.antibanSetupTemplates.applyFishingSetup();
+
+        spotTracker.setSpotIds(selectedFish.getFishingSpot());
+        seedFishingSpots();
         
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
@@ -142,13 +177,49 @@ public class AutoFishingScript extends Script {
     }
 
     private Rs2NpcModel getFishingSpot() {
-        WorldPoint playerLocation = Rs2Player.getWorldLocation();
-        return Arrays.stream(selectedFish.getFishingSpot())
-                .mapToObj(Rs2Npc::getNpc)
-                .filter(Objects::nonNull)
-                .filter(npc -> npc.getWorldLocation().distanceTo(playerLocation) <= 10)
-                .findFirst()
-                .orElse(null);
+        NPC spot = spotTracker.getNearest(Rs2Player.getWorldLocation(), SPOT_SEARCH_DISTANCE);
+        return spot == null ? null : new Rs2NpcModel(spot);
+    }
+
+    /**
+     * Registers the fishing spots which spawned before the script was started.
+     */
+    private void seedFishingSpots() {
+        Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            for (NPC npc : Microbot.getClient().getTopLevelWorldView().npcs()) {
+                if (npc != null) spotTracker.onNpcSpawned(npc);
+            }
+            return true;
+        });
+    }
+
+    private void selectFishingLocation() {
+        setupFishingSpotLocation();
+        WorldPoint selectedLocation = getCurrentFishingLocation();
+        if (selectedLocation != null) {
+            fishingLocation = selectedLocation;
+        } else {
+            fishingLocation = getDensestAutoLocation(Rs2Player.getWorldLocation());
+        }
+    }
+
+    /**
+     * For AUTO locations, picks the location where the most spots were seen, or the closest one
+     * if no spots were seen around any of them yet.
+     */
+    private WorldPoint getDensestAutoLocation(WorldPoint playerLocation) {
+        WorldPoint densest = null;
+        int bestDensity = 0;
+        for (FishingSpotLocation location : selectedFish.getAvailableLocations()) {
+            for (WorldPoint point : location.getLocations()) {
+                int density = spotTracker.getDensity(point, SPOT_DENSITY_RADIUS);
+                if (density > bestDensity) {
+                    bestDensity = density;
+                    densest = point;
+                }
+            }
+        }
+        return densest != null ? densest : selectedFish.getClosestLocation(playerLocation);
     }
 
     private void handleInitializing() {
@@ -165,19 +236,7 @@ public class AutoFishingScript extends Script {
         }
         
         if (fishingLocation == null) {
-            setupFishingSpotLocation();
-            WorldPoint selectedLocation = getCurrentFishingLocation();
-            if (selectedLocation != null) {
-                fishingLocation = selectedLocation;
-            } else {
-                WorldPoint playerLocation = Rs2Player.getWorldLocation();
-                WorldPoint closestLocation = selectedFish.getClosestLocation(playerLocation);
-                if (closestLocation != null) {
-                    fishingLocation = closestLocation;
-                } else {
-                    fishingLocation = selectedFish.getClosestLocation(playerLocation);
-                }
-            }
+            selectFishingLocation();
         }
         
         if (!isAtFishingLocation()) {
@@ -308,19 +367,7 @@ public class AutoFishingScript extends Script {
         Microbot.status = "Traveling to fishing location...";
         
         if (fishingLocation == null) {
-            setupFishingSpotLocation();
-            WorldPoint selectedLocation = getCurrentFishingLocation();
-            if (selectedLocation != null) {
-                fishingLocation = selectedLocation;
-            } else {
-                WorldPoint playerLocation = Rs2Player.getWorldLocation();
-                WorldPoint closestLocation = selectedFish.getClosestLocation(playerLocation);
-                if (closestLocation != null) {
-                    fishingLocation = closestLocation;
-                } else {
-                    fishingLocation = selectedFish.getClosestLocation(playerLocation);
-                }
-            }
+            selectFishingLocation();
         }
         
         if (isAtFishingLocation()) {
@@ -345,6 +392,16 @@ public class AutoFishingScript extends Script {
         
         Rs2NpcModel fishingSpot = getFishingSpot();
         if (fishingSpot == null) {
+            // Walk to where spots recently appeared around here before giving up on the location
+            WorldPoint playerLocation = Rs2Player.getWorldLocation();
+            WorldPoint predictedSpot = spotTracker.predictNextSpot(playerLocation, SPOT_PREDICTION_DISTANCE);
+            // Each predicted tile is walked to once, so an unreachable one can't keep the script walking
+            if (predictedSpot != null && !predictedSpot.equals(lastPredictedSpot)
+                    && predictedSpot.distanceTo(playerLocation) > SPOT_REACH_DISTANCE) {
+                lastPredictedSpot = predictedSpot;
+                Rs2Walker.walkTo(predictedSpot, SPOT_REACH_DISTANCE);
+                return;
+            }
             if (selectedSpotLocation != null && selectedSpotLocation.getLocations().length > 1) {
                 cycleToNextLocation();
                 if (fishingLocation != null) {
@@ -370,6 +427,8 @@ public class AutoFishingScript extends Script {
         }
         
         if (Rs2Npc.interact(fishingSpot, fishAction)) {
+            spotTracker.markEngaged(fishingSpot.getIndex());
+            lastPredictedSpot = null;
             Rs2Player.waitForXpDrop(Skill.FISHING, true);
             Rs2Antiban.actionCooldown();
             Rs2Antiban.takeMicroBreakByChance();
@@ -483,92 +542,10 @@ public class AutoFishingScript extends Script {
     private void setupFishingSpotLocation() {
         selectedSpotLocation = null;
         currentLocationIndex = 0;
-        
-        switch (selectedFish) {
-            case SHRIMP:
-                var shrimpLoc = config.shrimpLocation();
-                if (shrimpLoc != AutoFishingConfig.ShrimpLocation.AUTO) {
-                    selectedSpotLocation = shrimpLoc.toFishingSpotLocation();
-                }
-                break;
-            case ANCHOVIES:
-                var anchoviesLoc = config.anchoviesLocation();
-                if (anchoviesLoc != AutoFishingConfig.AnchoviesLocation.AUTO) {
-                    selectedSpotLocation = anchoviesLoc.toFishingSpotLocation();
-                }
-                break;
-            case HERRING:
-                var herringLoc = config.herringLocation();
-                if (herringLoc != AutoFishingConfig.HerringLocation.AUTO) {
-                    selectedSpotLocation = herringLoc.toFishingSpotLocation();
-                }
-                break;
-            case LOBSTER:
-                var lobsterLoc = config.lobsterLocation();
-                if (lobsterLoc != AutoFishingConfig.LobsterLocation.AUTO) {
-                    selectedSpotLocation = lobsterLoc.toFishingSpotLocation();
-                }
-                break;
-            case SHARK:
-                var sharkLoc = config.sharkLocation();
-                if (sharkLoc != AutoFishingConfig.SharkLocation.AUTO) {
-                    selectedSpotLocation = sharkLoc.toFishingSpotLocation();
-                }
-                break;
-            case SALMON:
-                var salmonLoc = config.salmonLocation();
-                if (salmonLoc != AutoFishingConfig.SalmonLocation.AUTO) {
-                    selectedSpotLocation = salmonLoc.toFishingSpotLocation();
-                }
-                break;
-            case TROUT:
-                var troutLoc = config.troutLocation();
-                if (troutLoc != AutoFishingConfig.TroutLocation.AUTO) {
-                    selectedSpotLocation = troutLoc.toFishingSpotLocation();
-                }
-                break;
-            case MONKFISH:
-                var monkfishLoc = config.monkfishLocation();
-                if (monkfishLoc != AutoFishingConfig.MonkfishLocation.AUTO) {
-                    selectedSpotLocation = monkfishLoc.toFishingSpotLocation();
-                }
-                break;
-            case KARAMBWAN:
-                var karambwanLoc = config.karambwanLocation();
-                if (karambwanLoc != AutoFishingConfig.KarambwanLocation.AUTO) {
-                    selectedSpotLocation = karambwanLoc.toFishingSpotLocation();
-                }
-                break;
-            case KARAMBWANJI:
-                var karambwanjiLoc = config.karambwanjiLocation();
-                if (karambwanjiLoc != AutoFishingConfig.KarambwanjiLocation.AUTO) {
-                    selectedSpotLocation = karambwanjiLoc.toFishingSpotLocation();
-                }
-                break;
-            case LAVA_EEL:
-                var lavaEelLoc = config.lavaEelLocation();
-                if (lavaEelLoc != AutoFishingConfig.LavaEelLocation.AUTO) {
-                    selectedSpotLocation = lavaEelLoc.toFishingSpotLocation();
-                }
-                break;
-            case CAVE_EEL:
-                var caveEelLoc = config.caveEelLocation();
-                if (caveEelLoc != AutoFishingConfig.CaveEelLocation.AUTO) {
-                    selectedSpotLocation = caveEelLoc.toFishingSpotLocation();
-                }
-                break;
-            case BARBARIAN_FISH:
-                var barbarianFishLoc = config.barbarianFishLocation();
-                if (barbarianFishLoc != AutoFishingConfig.BarbarianFishLocation.AUTO) {
-                    selectedSpotLocation = barbarianFishLoc.toFishingSpotLocation();
-                }
-                break;
-            case ANGLERFISH:
-                var anglerfishLoc = config.anglerfishLocation();
-                if (anglerfishLoc != AutoFishingConfig.AnglerfishLocation.AUTO) {
-                    selectedSpotLocation = anglerfishLoc.toFishingSpotLocation();
-                }
-                break;
+
+        Function<AutoFishingConfig, FishingSpotLocation> configuredLocation = CONFIGURED_LOCATIONS.get(selectedFish);
+        if (configuredLocation != null) {
+            selectedSpotLocation = configuredLocation.apply(config);
         }
     }
 
@@ -584,7 +561,19 @@ public class AutoFishingScript extends Script {
 
     private void cycleToNextLocation() {
         if (selectedSpotLocation != null && selectedSpotLocation.getLocations().length > 1) {
-            currentLocationIndex = (currentLocationIndex + 1) % selectedSpotLocation.getLocations().length;
+            WorldPoint[] locations = selectedSpotLocation.getLocations();
+            // Prefer the location where the most spots were seen, otherwise take the next one in order
+            int next = (currentLocationIndex + 1) % locations.length;
+            int bestDensity = 0;
+            for (int i = 0; i < locations.length; i++) {
+                if (i == currentLocationIndex) continue;
+                int density = spotTracker.getDensity(locations[i], SPOT_DENSITY_RADIUS);
+                if (density > bestDensity) {
+                    bestDensity = density;
+                    next = i;
+                }
+            }
+            currentLocationIndex = next;
             fishingLocation = getCurrentFishingLocation();
         }
     }
@@ -615,6 +604,7 @@ public class AutoFishingScript extends Script {
         // reset all state variables
         closestBank = null;
         fishingLocation = null;
+        lastPredictedSpot = null;
         selectedSpotLocation = null;
         currentLocationIndex = 0;
         fishAction = "";
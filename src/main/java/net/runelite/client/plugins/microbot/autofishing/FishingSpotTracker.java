@@ -0,0 +1,179 @@
+package net.runelite.client.plugins.microbot.autofishing;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the fishing spots of the selected fish from NpcSpawned/NpcDespawned, keyed by NPC index,
+ * so finding the nearest spot doesn't scan every NPC once per spot id.
+ * Also remembers where spots recently spawned, which is used to walk towards the likely next spot
+ * when none is left nearby and to rank locations by how many spots were seen around them.
+ */
+@Slf4j
+public class FishingSpotTracker {
+    private static final int HISTORY = 32;
+
+    private final Set<Integer> spotIds = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, NPC> spots = new ConcurrentHashMap<>();
+
+    // Ring buffer of the most recent spawn locations
+    private final WorldPoint[] recentSpawns = new WorldPoint[HISTORY];
+    private final int[] recentSpawnIndices = new int[HISTORY];
+    private int recentIndex = 0;
+    private int recentCount = 0;
+
+    // Spot move to re-engage latency
+    private volatile int engagedSpotIndex = -1;
+    private volatile long engagedSpotLostAt = 0;
+    private volatile long lastReengageMs = 0;
+    private long reengageSum = 0;
+    private int reengageSamples = 0;
+
+    /**
+     * Tracks the spots with the given NPC ids, forgetting the spots and history of the previous ones.
+     */
+    public synchronized void setSpotIds(int[] ids) {
+        spotIds.clear();
+        for (int id : ids) {
+            spotIds.add(id);
+        }
+        spots.clear();
+        recentIndex = 0;
+        recentCount = 0;
+        engagedSpotIndex = -1;
+        engagedSpotLostAt = 0;
+    }
+
+    public void onNpcSpawned(NPC npc) {
+        if (!spotIds.contains(npc.getId())) return;
+        spots.put(npc.getIndex(), npc);
+        recordSpawn(npc.getIndex(), npc.getWorldLocation());
+    }
+
+    public void onNpcDespawned(NPC npc) {
+        if (spots.remove(npc.getIndex()) == null) return;
+        if (npc.getIndex() == engagedSpotIndex) {
+            engagedSpotLostAt = System.currentTimeMillis();
+            engagedSpotIndex = -1;
+        }
+    }
+
+    /**
+     * NPCs of the world left are not despawned one by one, the spawn history is kept.
+     * A scene reload within the world keeps the NPCs still in view without spawning them again,
+     * so the spots are not cleared then.
+     */
+    public void onWorldLeft() {
+        spots.clear();
+    }
+
+    /**
+     * @return the nearest tracked spot within the distance of the origin, or null if there is none
+     */
+    public NPC getNearest(WorldPoint origin, int maxDistance) {
+        NPC nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (NPC npc : spots.values()) {
+            WorldPoint location = npc.getWorldLocation();
+            if (location == null) continue;
+            int distance = location.distanceTo(origin);
+            if (distance <= maxDistance && distance < nearestDistance) {
+                nearest = npc;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * @return the recent spawn location within the distance of the origin seen most often and not taken by
+     * a live spot, or null if no spot spawned around the origin recently
+     */
+    public synchronized WorldPoint predictNextSpot(WorldPoint origin, int maxDistance) {
+        WorldPoint best = null;
+        int bestCount = 0;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < recentCount; i++) {
+            WorldPoint candidate = recentSpawns[i];
+            int distance = candidate.distanceTo(origin);
+            if (distance > maxDistance || isOccupied(candidate)) continue;
+
+            int count = 0;
+            for (int j = 0; j < recentCount; j++) {
+                if (recentSpawns[j].equals(candidate)) count++;
+            }
+            if (count > bestCount || count == bestCount && distance < bestDistance) {
+                best = candidate;
+                bestCount = count;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return the number of live and recently spawned spots within the radius of the point,
+     * a live spot is not counted again for its own spawn
+     */
+    public synchronized int getDensity(WorldPoint point, int radius) {
+        int density = 0;
+        for (NPC npc : spots.values()) {
+            WorldPoint location = npc.getWorldLocation();
+            if (location != null && location.distanceTo(point) <= radius) density++;
+        }
+        for (int i = 0; i < recentCount; i++) {
+            if (recentSpawns[i].distanceTo(point) > radius) continue;
+            NPC live = spots.get(recentSpawnIndices[i]);
+            if (live != null && recentSpawns[i].equals(live.getWorldLocation())) continue;
+            density++;
+        }
+        return density;
+    }
+
+    /**
+     * Called when the script starts fishing at a spot. If the previous spot moved away,
+     * the time between the move and this interaction is recorded.
+     */
+    public void markEngaged(int npcIndex) {
+        long lostAt = engagedSpotLostAt;
+        if (lostAt > 0) {
+            long latency = System.currentTimeMillis() - lostAt;
+            synchronized (this) {
+                reengageSum += latency;
+                reengageSamples++;
+            }
+            lastReengageMs = latency;
+            engagedSpotLostAt = 0;
+            log.info("Re-engaged fishing spot {} ms after it moved", latency);
+        }
+        engagedSpotIndex = npcIndex;
+    }
+
+    public long getLastReengageMs() {
+        return lastReengageMs;
+    }
+
+    public synchronized long getAverageReengageMs() {
+        return reengageSamples == 0 ? 0 : reengageSum / reengageSamples;
+    }
+
+    private synchronized void recordSpawn(int npcIndex, WorldPoint location) {
+        if (location == null) return;
+        recentSpawns[recentIndex] = location;
+        recentSpawnIndices[recentIndex] = npcIndex;
+        recentIndex = (recentIndex + 1) % HISTORY;
+        if (recentCount < HISTORY) recentCount++;
+    }
+
+    private boolean isOccupied(WorldPoint location) {
+        for (NPC npc : spots.values()) {
+            if (location.equals(npc.getWorldLocation())) return true;
+        }
+        return false;
+    }
+}
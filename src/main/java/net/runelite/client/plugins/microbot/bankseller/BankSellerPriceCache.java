@@ -0,0 +1,91 @@
+package net.runelite.client.plugins.microbot.bankseller;
+
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.grandexchange.Rs2GrandExchange;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sell prices for the items being liquidated. Prices are requested for a whole batch of items at once
+ * on a small pool, so by the time an offer is placed its price is usually already known.
+ * Items are ranked by their expected proceeds using the item manager's cached price.
+ */
+public class BankSellerPriceCache {
+    private static final int FETCH_THREADS = 4;
+    private static final long FETCH_TIMEOUT_MS = 5000;
+
+    private final Map<Integer, CompletableFuture<Integer>> prices = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    /**
+     * Starts fetching the sell price of every item which isn't known or pending yet.
+     */
+    public synchronized void prefetch(Collection<Rs2ItemModel> items) {
+        if (executor == null || executor.isShutdown()) {
+            executor = Executors.newFixedThreadPool(FETCH_THREADS);
+        }
+        for (Rs2ItemModel item : items) {
+            prices.computeIfAbsent(item.getId(), id -> CompletableFuture.supplyAsync(() -> Rs2GrandExchange.getPrice(id), executor));
+        }
+    }
+
+    /**
+     * @return the sell price of the item, at least 1 gp
+     */
+    public int getPrice(int itemId) {
+        CompletableFuture<Integer> future = prices.get(itemId);
+        int price;
+        try {
+            price = future != null ? future.get(FETCH_TIMEOUT_MS, TimeUnit.MILLISECONDS) : Rs2GrandExchange.getPrice(itemId);
+        } catch (Exception ex) {
+            // Drop the failed lookup so it is retried on the next prefetch
+            prices.remove(itemId);
+            price = Rs2GrandExchange.getPrice(itemId);
+        }
+        return Math.max(price, 1);
+    }
+
+    /**
+     * @return the items ordered by expected proceeds, highest first
+     */
+    public static List<Rs2ItemModel> rankByProceeds(Collection<Rs2ItemModel> items) {
+        List<Rs2ItemModel> ranked = new ArrayList<>(items);
+        // Each price is looked up once, on the client thread, before sorting
+        Map<Rs2ItemModel, Long> proceeds = Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            Map<Rs2ItemModel, Long> values = new IdentityHashMap<>();
+            for (Rs2ItemModel item : ranked) {
+                values.put(item, getExpectedProceeds(item));
+            }
+            return values;
+        }).orElse(Collections.emptyMap());
+        ranked.sort(Comparator.comparingLong((Rs2ItemModel item) -> proceeds.getOrDefault(item, 0L)).reversed());
+        return ranked;
+    }
+
+    /**
+     * @return the expected proceeds of the whole stack, based on the item manager's price
+     */
+    private static long getExpectedProceeds(Rs2ItemModel item) {
+        return (long) Math.max(Microbot.getItemManager().getItemPrice(item.getId()), 0) * item.getQuantity();
+    }
+
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        prices.clear();
+    }
+}
@@ -11,13 +11,25 @@ import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
 
 public class BankSellerScript extends Script {
 
+    private static final int INVENTORY_SIZE = 28;
+
+    private final BankSellerPriceCache priceCache = new BankSellerPriceCache();
+
+    private long startTime;
+    private int itemsListed = 0;
+    private long gpListed = 0;
+
     public boolean run(BankSellerPlugin plugin) {
         Microbot.enableAutoRunOn = false;
+        startTime = System.currentTimeMillis();
+        itemsListed = 0;
+        gpListed = 0;
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
                 if (!Microbot.isLoggedIn()) return;
@@ -64,45 +76,43 @@ public class BankSellerScript extends Script {
         Rs2Bank.depositAll();
         sleepUntil(Rs2Inventory::isEmpty);
         Rs2Bank.setWithdrawAsNote();
-        for (Rs2ItemModel item : Rs2Bank.bankItems()) {
-            if (Rs2Inventory.isFull()) {
-                break;
-            }
-            if (!item.isTradeable()) {
-                continue;
-            }
+
+        // Notes take a slot each, so a full inventory is the most valuable stacks withdrawn back to back
+        List<Rs2ItemModel> batch = BankSellerPriceCache.rankByProceeds(Rs2Bank.bankItems().stream()
+                        .filter(Rs2ItemModel::isTradeable)
+                        .collect(Collectors.toList()))
+                .stream()
+                .limit(INVENTORY_SIZE)
+                .collect(Collectors.toList());
+        for (Rs2ItemModel item : batch) {
             Rs2Bank.withdrawAll(item.getId());
-            sleepUntil(() -> Rs2Inventory.hasItem(item.getName(), true));
+        }
+        if (!batch.isEmpty()) {
+            Rs2ItemModel last = batch.get(batch.size() - 1);
+            sleepUntil(() -> Rs2Inventory.hasItem(last.getName(), true));
         }
         Rs2Bank.closeBank();
     }
 
     private void sellInventory() {
-        List<Rs2ItemModel> items = Rs2Inventory.all(Rs2ItemModel::isTradeable);
+        List<Rs2ItemModel> items = BankSellerPriceCache.rankByProceeds(Rs2Inventory.all(Rs2ItemModel::isTradeable));
         if (items.isEmpty()) {
             return;
         }
 
+        // Prices load while the exchange is being opened
+        priceCache.prefetch(items);
+
         if (!Rs2GrandExchange.openExchange()) {
             return;
         }
         sleepUntil(Rs2GrandExchange::isOpen);
 
         for (Rs2ItemModel item : items) {
-            while (Rs2GrandExchange.getAvailableSlotsCount() == 0) {
-                if (Rs2GrandExchange.hasSoldOffer()) {
-                    Rs2GrandExchange.collectAllToBank();
-                }
-                sleepUntil(() -> Rs2GrandExchange.getAvailableSlotsCount() > 0
-                        || Rs2GrandExchange.hasSoldOffer());
-            }
-            if (Rs2GrandExchange.getAvailableSlotsCount() == 0) {
+            if (!waitForFreeSlot()) {
                 break;
             }
-            int price = Rs2GrandExchange.getPrice(item.getId());
-            if (price <= 0) {
-                price = 1;
-            }
+            int price = priceCache.getPrice(item.getId());
             GrandExchangeRequest request = GrandExchangeRequest.builder()
                     .action(GrandExchangeAction.SELL)
                     .itemName(item.getName())
@@ -113,9 +123,47 @@ public class BankSellerScript extends Script {
             Rs2GrandExchange.processOffer(request);
             sleepUntil(Rs2GrandExchange::isOpen);
             sleepUntil(() -> !Rs2Inventory.hasItem(item.getName(), true));
+            itemsListed++;
+            gpListed += (long) price * item.getQuantity();
         }
 
         Rs2GrandExchange.closeExchange();
         sleepUntil(() -> !Rs2GrandExchange.isOpen());
+        logThroughput();
+    }
+
+    /**
+     * Stays in the exchange until an offer slot is free, collecting finished offers as soon as they sell.
+     *
+     * @return false if the script stopped or the exchange was closed while waiting
+     */
+    private boolean waitForFreeSlot() {
+        while (Rs2GrandExchange.getAvailableSlotsCount() == 0) {
+            if (!isRunning() || !Rs2GrandExchange.isOpen()) {
+                return false;
+            }
+            if (Rs2GrandExchange.hasSoldOffer()) {
+                Rs2GrandExchange.collectAllToBank();
+                sleepUntil(() -> Rs2GrandExchange.getAvailableSlotsCount() > 0);
+            } else {
+                sleepUntil(Rs2GrandExchange::hasSoldOffer, 5000);
+            }
+        }
+        return true;
+    }
+
+    private void logThroughput() {
+        double minutes = (System.currentTimeMillis() - startTime) / 60_000.0;
+        if (minutes <= 0) {
+            return;
+        }
+        Microbot.log(String.format("Listed %d items (%.1f/min), %,d gp (%,.0f gp/min)",
+                itemsListed, itemsListed / minutes, gpListed, gpListed / minutes));
+    }
+
+    @Override
+    public void shutdown() {
+        priceCache.shutdown();
+        super.shutdown();
     }
 }
\ No newline at end of file
@@ -57,9 +57,10 @@ public class HerbiboarMinimapOverlay extends Overlay
 			return null;
 		}
 
-		TrailToSpot nextTrail = plugin.getNextTrail();
-		int finishId = plugin.getFinishId();
-		Set<Integer> shownTrailIds = plugin.getShownTrails();
+		HerbiboarTrailState trailState = plugin.getTrailState();
+		TrailToSpot nextTrail = trailState.getNextTrail();
+		int finishId = trailState.getFinishId();
+		Set<Integer> shownTrailIds = trailState.getShownTrails();
 
 		for (TileObject tileObject : plugin.getTrails().values())
 		{
@@ -20,18 +20,32 @@ import java.awt.image.BufferedImage;
 @Slf4j
 public class HerbiboarOverlay extends Overlay {
 
+    private static final Color BACKGROUND_COLOR = new Color(0, 0, 0, 200);
+    private static final Color BORDER_COLOR = new Color(33, 173, 4, 131);
+    private static final Color SEPARATOR_COLOR = new Color(255, 255, 255, 100);
+    private static final Stroke BORDER_STROKE = new BasicStroke(2);
+    private static final Font TITLE_FONT = new Font("Ink Free", Font.BOLD, 14);
+    private static final Font STATUS_FONT = new Font("Arial", Font.BOLD, 12);
+
     private final HerbiboarPlugin plugin;
     private final int panelWidth = 170;
     private final int panelHeight = 130;
     private final Color[] rainbowColors = {
             Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.CYAN, Color.BLUE, Color.MAGENTA
     };
+
+    // Formatted values, only refreshed when the plugin publishes new statistics
+    private int formattedVersion = -1;
+    private int formattedCaught = -1;
+    private String xpPerHourText = "";
+    private String xpGainedText = "";
+    private String caughtText = "";
     @Getter
     @Setter
     private BufferedImage herbiIcon;
     @Getter
     private int size = 24;
-    private Rectangle bounds;
+    private final Rectangle bounds = new Rectangle();
     private Widget boundsWidget;
     private int rainbowIndex = 0;
     private long lastRainbowChange = System.currentTimeMillis();
@@ -63,13 +77,15 @@ public class HerbiboarOverlay extends Overlay {
             graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
+            updateFormattedValues();
+
             // Draw background
-            graphics.setColor(new Color(0, 0, 0, 200));
+            graphics.setColor(BACKGROUND_COLOR);
             graphics.fillRect(bounds.x, bounds.y, panelWidth, panelHeight);
 
             // Draw border
-            graphics.setColor(new Color(33, 173, 4, 131));
-            graphics.setStroke(new BasicStroke(2));
+            graphics.setColor(BORDER_COLOR);
+            graphics.setStroke(BORDER_STROKE);
             graphics.drawRect(bounds.x, bounds.y, panelWidth - 1, panelHeight - 1);
 
             Font originalFont = graphics.getFont();
@@ -77,26 +93,26 @@ public class HerbiboarOverlay extends Overlay {
 
             // === TITLE with custom font ===
             renderCustomText(graphics, "HERBIBOAR", bounds.x, currentY, panelWidth,
-                    new Font("Ink Free", Font.BOLD, 14), Color.GREEN, true, true); // Font size reduced from 20 to 14
+                    TITLE_FONT, Color.GREEN, true, true); // Font size reduced from 20 to 14
             currentY += 13;
 
             // === Separator line ===
-            graphics.setColor(new Color(255, 255, 255, 100));
+            graphics.setColor(SEPARATOR_COLOR);
             graphics.drawLine(bounds.x + 10, currentY, bounds.x + panelWidth - 10, currentY);
             currentY += 25;
 
             // === STATUS ===
             renderCustomText(graphics, HerbiboarScript.getState().getDescription(), bounds.x, currentY, panelWidth,
-                    new Font("Arial", Font.BOLD, 12), getStatusColor(), true, true);
+                    STATUS_FONT, getStatusColor(), true, true);
             currentY += 18;
 
             // === Data with consistent spacing ===
             currentY += 5;
-            currentY = renderDataLine(graphics, "XP/H:", String.format("%,d", plugin.getXpPerHour()),
+            currentY = renderDataLine(graphics, "XP/H:", xpPerHourText,
                     bounds.x, currentY, panelWidth);
-            currentY = renderDataLine(graphics, "XP Gained:", String.format("%,d", plugin.getXpGained()),
+            currentY = renderDataLine(graphics, "XP Gained:", xpGainedText,
                     bounds.x, currentY, panelWidth);
-            currentY = renderDataLine(graphics, "Caught:", String.valueOf(HerbiboarScript.herbiCaught),
+            currentY = renderDataLine(graphics, "Caught:", caughtText,
                     bounds.x, currentY, panelWidth);
 
             // === Icon ===
@@ -129,18 +145,32 @@ public class HerbiboarOverlay extends Overlay {
     private void setBounds() {
         boundsWidget = Rs2Widget.getWidget(ComponentID.CHATBOX_PARENT);
         if (boundsWidget != null) {
-            bounds = new Rectangle(
-                    boundsWidget.getBounds().x + 5, boundsWidget.getBounds().y - boundsWidget.getHeight() + 30,
+            Rectangle widgetBounds = boundsWidget.getBounds();
+            bounds.setBounds(
+                    widgetBounds.x + 5, widgetBounds.y - boundsWidget.getHeight() + 30,
                     panelWidth, panelHeight
             );
         } else {
-            bounds = new Rectangle(
+            bounds.setBounds(
                     10, 10,  // Default position if widget is not found
                     panelWidth, panelHeight
             );
         }
     }
 
+    private void updateFormattedValues() {
+        int version = plugin.getOverlayVersion();
+        if (version != formattedVersion) {
+            xpPerHourText = String.format("%,d", plugin.getXpPerHour());
+            xpGainedText = String.format("%,d", plugin.getXpGained());
+            formattedVersion = version;
+        }
+        if (HerbiboarScript.herbiCaught != formattedCaught) {
+            formattedCaught = HerbiboarScript.herbiCaught;
+            caughtText = String.valueOf(formattedCaught);
+        }
+    }
+
     private void renderCustomText(Graphics2D graphics, String text, int x, int y, int width,
                                   Font font, Color color, boolean centered, boolean withShadow) {
         graphics.setFont(font);
@@ -2,7 +2,6 @@ package net.runelite.client.plugins.microbot.herbiboar;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
 import com.google.inject.Provides;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,7 +9,6 @@ import net.runelite.api.*;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.*;
 import net.runelite.api.gameval.ObjectID;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
@@ -68,6 +66,10 @@ public class HerbiboarPlugin extends Plugin {
     @Setter
     private Integer xpPerHour = 0;
 
+    // Incremented every game tick once the statistics are updated, the overlay reformats its values when it changes
+    @Getter
+    private volatile int overlayVersion;
+
     private static final List<WorldPoint> END_LOCATIONS = ImmutableList.of(
             new WorldPoint(3693, 3798, 0),
             new WorldPoint(3702, 3808, 0),
@@ -140,37 +142,13 @@ public class HerbiboarPlugin extends Plugin {
     @Getter
     private final Map<WorldPoint, TileObject> tunnels = new HashMap<>();
     /**
-     * Trail object IDs which should be highlighted
-     */
-    @Getter
-    private final Set<Integer> shownTrails = new HashSet<>();
-    /**
-     * Sequence of herbiboar spots searched along the current trail
+     * Decodes the trail varbits, only touched from the client thread
      */
-    @Getter
-    private final List<HerbiboarSearchSpot> currentPath = Lists.newArrayList();
+    private final HerbiboarTrailTracker trailTracker = new HerbiboarTrailTracker();
 
     @Getter
     private boolean inHerbiboarArea;
 
-    @Getter
-    private TrailToSpot nextTrail;
-
-    @Getter
-    private HerbiboarSearchSpot.Group currentGroup;
-
-    @Getter
-    private int finishId;
-
-    @Getter
-    private boolean started;
-
-    @Getter
-    private WorldPoint startPoint;
-
-    @Getter
-    private HerbiboarStart startSpot;
-
     @Override
     protected void startUp() throws AWTException {
         ClientThread clientThread = Microbot.getClientThread();
@@ -230,59 +208,13 @@ public class HerbiboarPlugin extends Plugin {
             return;
         }
 
-        boolean pathActive = false;
-        boolean wasStarted = started;
-
-        // Get trail data
-        for (HerbiboarSearchSpot spot : HerbiboarSearchSpot.values())
-        {
-            for (TrailToSpot trail : spot.getTrails())
-            {
-                int value = client.getVarbitValue(trail.getVarbitId());
-
-                if (value == trail.getValue())
-                {
-                    // The trail after you have searched the spot
-                    currentGroup = spot.getGroup();
-                    nextTrail = trail;
-
-                    // You never visit the same spot twice
-                    if (!currentPath.contains(spot))
-                    {
-                        currentPath.add(spot);
-                    }
-                }
-                else if (value > 0)
-                {
-                    // The current trail
-                    shownTrails.addAll(trail.getFootprintIds());
-                    pathActive = true;
-                }
-            }
-        }
-
-        finishId = client.getVarbitValue(VarbitID.HUNTING_TRAIL_ENDS_FOSSIL);
-
-        // The started varbit doesn't get set until the first spot of the rotation has been searched
-        // so we need to use the current group as an indicator of the rotation being started
-        started = client.getVarbitValue(VarbitID.HUNTING_TRAILS_USED_FOSSIL) > 0 || currentGroup != null;
-        boolean finished = !pathActive && started;
-
-        if (!wasStarted && started)
-        {
-            startSpot = HerbiboarStart.from(startPoint);
-        }
-
-        if (finished)
-        {
-            resetTrailData();
-        }
+        trailTracker.rebuild(client::getVarbitValue);
     }
 
     @Subscribe
     public void onMenuOptionClicked(MenuOptionClicked menuOpt)
     {
-        if (!inHerbiboarArea || started || MenuAction.GAME_OBJECT_FIRST_OPTION != menuOpt.getMenuAction())
+        if (!inHerbiboarArea || getTrailState().isStarted() || MenuAction.GAME_OBJECT_FIRST_OPTION != menuOpt.getMenuAction())
         {
             return;
         }
@@ -292,21 +224,14 @@ public class HerbiboarPlugin extends Plugin {
             case "Rock":
             case "Mushroom":
             case "Driftwood":
-                startPoint = WorldPoint.fromScene(client.getTopLevelWorldView(), menuOpt.getParam0(), menuOpt.getParam1(), client.getTopLevelWorldView().getPlane());
+                trailTracker.setStartPoint(WorldPoint.fromScene(client.getTopLevelWorldView(), menuOpt.getParam0(), menuOpt.getParam1(), client.getTopLevelWorldView().getPlane()));
         }
     }
 
     private void resetTrailData()
     {
         Microbot.log("Reset trail data");
-        shownTrails.clear();
-        currentPath.clear();
-        nextTrail = null;
-        currentGroup = null;
-        finishId = 0;
-        started = false;
-        startPoint = null;
-        startSpot = null;
+        trailTracker.reset();
     }
 
     private void clearCache()
@@ -328,7 +253,13 @@ public class HerbiboarPlugin extends Plugin {
                 break;
             case LOADING:
                 clearCache();
+                boolean wasInHerbiboarArea = inHerbiboarArea;
                 inHerbiboarArea = checkArea();
+                if (inHerbiboarArea && !wasInHerbiboarArea)
+                {
+                    // Trail varbits may have changed while we were away
+                    updateTrailData();
+                }
                 break;
             default:
                 break;
@@ -338,7 +269,17 @@ public class HerbiboarPlugin extends Plugin {
     @Subscribe
     public void onVarbitChanged(VarbitChanged event)
     {
-        updateTrailData();
+        if (!isInHerbiboarArea() || !HerbiboarTrailTracker.isTrailVarbit(event.getVarbitId()))
+        {
+            return;
+        }
+
+        HerbiboarTrailState previous = trailTracker.getState();
+        HerbiboarTrailState state = trailTracker.onVarbitChanged(event.getVarbitId(), event.getValue());
+        if (previous.isStarted() && state == HerbiboarTrailState.EMPTY)
+        {
+            Microbot.log("Reset trail data");
+        }
     }
 
     @Subscribe
@@ -425,6 +366,7 @@ public class HerbiboarPlugin extends Plugin {
     public void onGameTick(GameTick event) {
         setRunningTime(Instant.now().getEpochSecond() - getStartTime().getEpochSecond());
         setXpPerHour(calculateXpPerHour());
+        overlayVersion++;
     }
 
     private boolean checkArea()
@@ -444,4 +386,52 @@ public class HerbiboarPlugin extends Plugin {
     {
         return END_LOCATIONS;
     }
+
+    /**
+     * The current trail, read this once per loop or frame to get a consistent view
+     */
+    public HerbiboarTrailState getTrailState()
+    {
+        return trailTracker.getState();
+    }
+
+    public List<HerbiboarSearchSpot> getCurrentPath()
+    {
+        return getTrailState().getCurrentPath();
+    }
+
+    public Set<Integer> getShownTrails()
+    {
+        return getTrailState().getShownTrails();
+    }
+
+    public TrailToSpot getNextTrail()
+    {
+        return getTrailState().getNextTrail();
+    }
+
+    public HerbiboarSearchSpot.Group getCurrentGroup()
+    {
+        return getTrailState().getCurrentGroup();
+    }
+
+    public int getFinishId()
+    {
+        return getTrailState().getFinishId();
+    }
+
+    public boolean isStarted()
+    {
+        return getTrailState().isStarted();
+    }
+
+    public WorldPoint getStartPoint()
+    {
+        return getTrailState().getStartPoint();
+    }
+
+    public HerbiboarStart getStartSpot()
+    {
+        return getTrailState().getStartSpot();
+    }
 }
@@ -31,7 +31,6 @@ import org.slf4j.event.Level;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -560,14 +559,15 @@ public class HerbiboarScript extends Script {
                     case TRAIL:
                         Microbot.status = "Following trail";
                         Microbot.log(Level.INFO,"Following trail");
-                        if (herbiboarPlugin.getFinishId() > 0) {
+                        HerbiboarTrailState trailState = herbiboarPlugin.getTrailState();
+                        if (trailState.getFinishId() > 0) {
                             if (checkForConfusionMessage(herbiboarPlugin)) return;
                             setState(HerbiboarState.TUNNEL);
                             break; 
                         }
-                        List<HerbiboarSearchSpot> path = herbiboarPlugin.getCurrentPath();
-                        if (!path.isEmpty()) {
-                            WorldPoint loc = path.get(path.size() - 1).getLocation();
+                        HerbiboarSearchSpot lastSearchedSpot = trailState.getLastSearchedSpot();
+                        if (lastSearchedSpot != null) {
+                            WorldPoint loc = lastSearchedSpot.getLocation();
                             LocalPoint localPoint = LocalPoint.fromWorld(Microbot.getClient().getTopLevelWorldView(), loc);
                             TileObject object = herbiboarPlugin.getTrailObjects().get(loc);
                             if (localPoint == null || Rs2Player.getWorldLocation().distanceTo(loc) >= config.interactionDistance()){
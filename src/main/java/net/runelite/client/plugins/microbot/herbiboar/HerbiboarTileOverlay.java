@@ -24,7 +24,6 @@
  */
 package net.runelite.client.plugins.microbot.herbiboar;
 
-import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 import net.runelite.api.TileObject;
 import net.runelite.api.coords.WorldPoint;
@@ -60,9 +59,10 @@ public class HerbiboarTileOverlay extends Overlay
 			return null;
 		}
 
-		HerbiboarSearchSpot.Group currentGroup = plugin.getCurrentGroup();
-		TrailToSpot nextTrail = plugin.getNextTrail();
-		int finishId = plugin.getFinishId();
+		HerbiboarTrailState trailState = plugin.getTrailState();
+		HerbiboarSearchSpot.Group currentGroup = trailState.getCurrentGroup();
+		TrailToSpot nextTrail = trailState.getNextTrail();
+		int finishId = trailState.getFinishId();
 
 		// Draw start objects
 		if (config.isStartShown() && (currentGroup == null && finishId == 0))
@@ -73,7 +73,7 @@ public class HerbiboarTileOverlay extends Overlay
 		// Draw trails
 		if (config.isTrailShown())
 		{
-			Set<Integer> shownTrailIds = plugin.getShownTrails();
+			Set<Integer> shownTrailIds = trailState.getShownTrails();
 			plugin.getTrails().values().forEach((x) ->
 			{
 				int id = x.getId();
@@ -85,10 +85,10 @@ public class HerbiboarTileOverlay extends Overlay
 		}
 
 		// Draw trail objects (mushrooms, mud, etc.)
-		if (config.isObjectShown() && !(finishId > 0 || currentGroup == null))
+		HerbiboarSearchSpot lastSearchedSpot = trailState.getLastSearchedSpot();
+		if (config.isObjectShown() && !(finishId > 0 || currentGroup == null) && lastSearchedSpot != null)
 		{
-			WorldPoint correct = Iterables.getLast(plugin.getCurrentPath()).getLocation();
-			TileObject object = plugin.getTrailObjects().get(correct);
+			TileObject object = plugin.getTrailObjects().get(lastSearchedSpot.getLocation());
 			drawObjectLocation(graphics, object, config.getObjectColor());
 		}
 
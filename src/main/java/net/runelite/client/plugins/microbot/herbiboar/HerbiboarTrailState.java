@@ -0,0 +1,40 @@
+package net.runelite.client.plugins.microbot.herbiboar;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Value;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Immutable snapshot of the current herbiboar trail.
+ * <p>
+ * A new snapshot is published whenever a trail varbit changes, so the script and the overlays can read a consistent
+ * state without locking.
+ */
+@Value
+public class HerbiboarTrailState
+{
+	static final HerbiboarTrailState EMPTY = new HerbiboarTrailState(ImmutableList.of(), ImmutableSet.of(), null, null, 0, false, null, null);
+
+	/**
+	 * Sequence of herbiboar spots searched along the current trail
+	 */
+	List<HerbiboarSearchSpot> currentPath;
+	/**
+	 * Trail object IDs which should be highlighted
+	 */
+	Set<Integer> shownTrails;
+	TrailToSpot nextTrail;
+	HerbiboarSearchSpot.Group currentGroup;
+	int finishId;
+	boolean started;
+	WorldPoint startPoint;
+	HerbiboarStart startSpot;
+
+	public HerbiboarSearchSpot getLastSearchedSpot()
+	{
+		return currentPath.isEmpty() ? null : currentPath.get(currentPath.size() - 1);
+	}
+}
@@ -0,0 +1,226 @@
+package net.runelite.client.plugins.microbot.herbiboar;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Ints;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.gameval.VarbitID;
+
+/**
+ * Decodes the herbiboar trail varbits into a {@link HerbiboarTrailState}.
+ * <p>
+ * Every {@link TrailToSpot} gets a fixed index and the varbits are mapped to the trails they drive, so a varbit change
+ * only re-evaluates the one or two trails it affects instead of reading every trail varbit. The tracker does not
+ * depend on the client: values are pushed in through {@link #onVarbitChanged(int, int)} or read through the function
+ * given to {@link #rebuild(IntUnaryOperator)}, which also allows replaying recorded varbit sequences.
+ */
+class HerbiboarTrailTracker
+{
+	private static final List<TrailToSpot> TRAILS;
+	private static final HerbiboarSearchSpot[] TRAIL_SPOTS;
+	private static final Map<Integer, int[]> TRAILS_BY_VARBIT;
+
+	static
+	{
+		ImmutableList.Builder<TrailToSpot> trails = ImmutableList.builder();
+		List<HerbiboarSearchSpot> spots = new ArrayList<>();
+		Map<Integer, List<Integer>> byVarbit = new HashMap<>();
+
+		for (HerbiboarSearchSpot spot : HerbiboarSearchSpot.values())
+		{
+			for (TrailToSpot trail : spot.getTrails())
+			{
+				byVarbit.computeIfAbsent(trail.getVarbitId(), k -> new ArrayList<>()).add(spots.size());
+				trails.add(trail);
+				spots.add(spot);
+			}
+		}
+
+		ImmutableMap.Builder<Integer, int[]> byVarbitBuilder = ImmutableMap.builder();
+		byVarbit.forEach((varbitId, indexes) -> byVarbitBuilder.put(varbitId, Ints.toArray(indexes)));
+
+		TRAILS = trails.build();
+		TRAIL_SPOTS = spots.toArray(new HerbiboarSearchSpot[0]);
+		TRAILS_BY_VARBIT = byVarbitBuilder.build();
+	}
+
+	/**
+	 * Trails whose varbit equals their cutoff value, i.e. the spot has been searched
+	 */
+	private final BitSet searchedTrails = new BitSet(TRAILS.size());
+	/**
+	 * Trails whose varbit is set but not equal to their cutoff value, i.e. the trail is visible
+	 */
+	private final BitSet activeTrails = new BitSet(TRAILS.size());
+
+	private final List<HerbiboarSearchSpot> currentPath = new ArrayList<>();
+	private final Set<HerbiboarSearchSpot> pathSpots = EnumSet.noneOf(HerbiboarSearchSpot.class);
+	private final Set<Integer> shownTrails = new HashSet<>();
+
+	private TrailToSpot nextTrail;
+	private HerbiboarSearchSpot.Group currentGroup;
+	private int finishValue;
+	private int trailsUsedValue;
+	private boolean started;
+	private WorldPoint startPoint;
+	private HerbiboarStart startSpot;
+
+	private volatile HerbiboarTrailState state = HerbiboarTrailState.EMPTY;
+
+	static boolean isTrailVarbit(int varbitId)
+	{
+		return TRAILS_BY_VARBIT.containsKey(varbitId)
+			|| varbitId == VarbitID.HUNTING_TRAIL_ENDS_FOSSIL
+			|| varbitId == VarbitID.HUNTING_TRAILS_USED_FOSSIL;
+	}
+
+	HerbiboarTrailState getState()
+	{
+		return state;
+	}
+
+	/**
+	 * Re-reads every trail varbit, used when entering the area or starting the plugin.
+	 */
+	HerbiboarTrailState rebuild(IntUnaryOperator varbits)
+	{
+		for (int i = 0; i < TRAILS.size(); i++)
+		{
+			applyTrail(i, varbits.applyAsInt(TRAILS.get(i).getVarbitId()));
+		}
+		finishValue = varbits.applyAsInt(VarbitID.HUNTING_TRAIL_ENDS_FOSSIL);
+		trailsUsedValue = varbits.applyAsInt(VarbitID.HUNTING_TRAILS_USED_FOSSIL);
+		return publish();
+	}
+
+	/**
+	 * Applies a single varbit change, only the trails driven by that varbit are re-evaluated.
+	 *
+	 * @return the new state, or the current state if the varbit is not a trail varbit
+	 */
+	HerbiboarTrailState onVarbitChanged(int varbitId, int value)
+	{
+		int[] trailIndexes = TRAILS_BY_VARBIT.get(varbitId);
+		if (trailIndexes != null)
+		{
+			for (int index : trailIndexes)
+			{
+				applyTrail(index, value);
+			}
+		}
+		else if (varbitId == VarbitID.HUNTING_TRAIL_ENDS_FOSSIL)
+		{
+			finishValue = value;
+		}
+		else if (varbitId == VarbitID.HUNTING_TRAILS_USED_FOSSIL)
+		{
+			trailsUsedValue = value;
+		}
+		else
+		{
+			return state;
+		}
+		return publish();
+	}
+
+	HerbiboarTrailState setStartPoint(WorldPoint startPoint)
+	{
+		this.startPoint = startPoint;
+		return publish(false);
+	}
+
+	/**
+	 * Clears the current trail, the last known varbit values are kept.
+	 */
+	HerbiboarTrailState reset()
+	{
+		resetTrail();
+		state = HerbiboarTrailState.EMPTY;
+		return state;
+	}
+
+	private void applyTrail(int index, int value)
+	{
+		int cutoff = TRAILS.get(index).getValue();
+		searchedTrails.set(index, value == cutoff);
+		activeTrails.set(index, value > 0 && value != cutoff);
+	}
+
+	private HerbiboarTrailState publish()
+	{
+		return publish(true);
+	}
+
+	private HerbiboarTrailState publish(boolean trailChanged)
+	{
+		if (trailChanged)
+		{
+			// The trail after you have searched the spot, you never visit the same spot twice
+			for (int i = searchedTrails.nextSetBit(0); i >= 0; i = searchedTrails.nextSetBit(i + 1))
+			{
+				HerbiboarSearchSpot spot = TRAIL_SPOTS[i];
+				currentGroup = spot.getGroup();
+				nextTrail = TRAILS.get(i);
+				if (pathSpots.add(spot))
+				{
+					currentPath.add(spot);
+				}
+			}
+
+			// The current trail
+			for (int i = activeTrails.nextSetBit(0); i >= 0; i = activeTrails.nextSetBit(i + 1))
+			{
+				shownTrails.addAll(TRAILS.get(i).getFootprintIds());
+			}
+
+			boolean wasStarted = started;
+
+			// The started varbit doesn't get set until the first spot of the rotation has been searched
+			// so we need to use the current group as an indicator of the rotation being started
+			started = trailsUsedValue > 0 || currentGroup != null;
+
+			if (!wasStarted && started)
+			{
+				startSpot = HerbiboarStart.from(startPoint);
+			}
+
+			if (started && activeTrails.isEmpty())
+			{
+				return reset();
+			}
+		}
+
+		state = new HerbiboarTrailState(
+			ImmutableList.copyOf(currentPath),
+			ImmutableSet.copyOf(shownTrails),
+			nextTrail,
+			currentGroup,
+			finishValue,
+			started,
+			startPoint,
+			startSpot);
+		return state;
+	}
+
+	private void resetTrail()
+	{
+		currentPath.clear();
+		pathSpots.clear();
+		shownTrails.clear();
+		nextTrail = null;
+		currentGroup = null;
+		started = false;
+		startPoint = null;
+		startSpot = null;
+	}
+}
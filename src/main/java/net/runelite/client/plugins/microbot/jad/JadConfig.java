@@ -10,6 +10,7 @@ import net.runelite.client.config.ConfigItem;
 public interface JadConfig extends Config {
     String configGroup = "micro-jadhelper";
     String shouldAttackHealers = "shouldAttackHealers";
+    String reactivePrayer = "reactivePrayer";
 
     @ConfigItem(
             keyName = shouldAttackHealers,
@@ -20,4 +21,14 @@ public interface JadConfig extends Config {
     default boolean shouldAttackHealers() {
         return true;
     }
+
+    @ConfigItem(
+            keyName = reactivePrayer,
+            name = "Reactive Prayer",
+            description = "Switch prayers as soon as Jad starts an attack instead of polling Jad's animation",
+            position = 1
+    )
+    default boolean reactivePrayer() {
+        return true;
+    }
 }
@@ -10,9 +10,12 @@ import javax.inject.Inject;
 import java.awt.*;
 
 public class JadOverlay extends OverlayPanel {
+    private final JadPrayerEngine prayerEngine;
+
     @Inject
-    JadOverlay(JadPlugin plugin) {
+    JadOverlay(JadPlugin plugin, JadPrayerEngine prayerEngine) {
         super(plugin);
+        this.prayerEngine = prayerEngine;
         setPosition(OverlayPosition.TOP_LEFT);
         setNaughty();
     }
@@ -32,6 +35,17 @@ public class JadOverlay extends OverlayPanel {
                     .left(Microbot.status)
                     .build());
 
+            if (prayerEngine.getSwitchCount() > 0) {
+                panelComponent.getChildren().add(LineComponent.builder()
+                        .left("Switch latency")
+                        .right(String.format("%.1f / %.1f ms", prayerEngine.getLastLatencyMs(), prayerEngine.getAverageLatencyMs()))
+                        .build());
+                panelComponent.getChildren().add(LineComponent.builder()
+                        .left("Max latency")
+                        .right(String.format("%.1f ms", prayerEngine.getMaxLatencyMs()))
+                        .build());
+            }
+
 
         } catch (Exception ex) {
             System.out.println(ex.getMessage());
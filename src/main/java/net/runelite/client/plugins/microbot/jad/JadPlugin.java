@@ -1,8 +1,15 @@
 package net.runelite.client.plugins.microbot.jad;
 
 import com.google.inject.Provides;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameState;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.microbot.PluginConstants;
@@ -41,6 +48,9 @@ public class JadPlugin extends Plugin {
 
     @Inject
     JadScript jadScript;
+    @Inject
+    @Getter
+    private JadPrayerEngine prayerEngine;
 
 
     @Override
@@ -55,4 +65,26 @@ public class JadPlugin extends Plugin {
         jadScript.shutdown();
         overlayManager.remove(jadOverlay);
     }
+
+    @Subscribe
+    public void onAnimationChanged(AnimationChanged event) {
+        prayerEngine.onAnimationChanged(event.getActor());
+    }
+
+    @Subscribe
+    public void onNpcSpawned(NpcSpawned event) {
+        prayerEngine.onNpcSpawned(event.getNpc());
+    }
+
+    @Subscribe
+    public void onNpcDespawned(NpcDespawned event) {
+        prayerEngine.onNpcDespawned(event.getNpc());
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        if (event.getGameState() == GameState.LOADING) {
+            prayerEngine.onSceneLoading();
+        }
+    }
 }
@@ -0,0 +1,181 @@
+package net.runelite.client.plugins.microbot.jad;
+
+import net.runelite.api.Actor;
+import net.runelite.api.NPC;
+import net.runelite.client.plugins.microbot.util.prayer.Rs2PrayerEnum;
+
+import javax.inject.Singleton;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps track of the Jads and their healers from spawn/despawn events and turns Jad attack animations
+ * into prayer switches. Animation events arrive on the client thread; the script thread waits for the
+ * next switch instead of polling, and records how long each switch took from the event to the toggle.
+ */
+@Singleton
+public class JadPrayerEngine {
+    private static final int MAX_NPC_INDEX = 65536;
+    private static final long HEALER_COOLDOWN_MS = 4600;
+
+    private final Set<NPC> jads = ConcurrentHashMap.newKeySet();
+    private final Set<NPC> healers = ConcurrentHashMap.newKeySet();
+
+    // Per Jad, the time the healers may be handled again, indexed by NPC index
+    private final long[] healerCooldownUntil = new long[MAX_NPC_INDEX];
+
+    private final AtomicReference<PrayerSwitch> pendingSwitch = new AtomicReference<>();
+    private final Semaphore switchSignal = new Semaphore(0);
+
+    private volatile long lastLatencyNanos = 0;
+    private volatile long maxLatencyNanos = 0;
+    private long totalLatencyNanos = 0;
+    private volatile int switchCount = 0;
+
+    static final class PrayerSwitch {
+        final Rs2PrayerEnum prayer;
+        final int npcIndex;
+        final long eventNanos;
+
+        PrayerSwitch(Rs2PrayerEnum prayer, int npcIndex, long eventNanos) {
+            this.prayer = prayer;
+            this.npcIndex = npcIndex;
+            this.eventNanos = eventNanos;
+        }
+    }
+
+    static boolean isJad(NPC npc) {
+        return nameContains(npc, "jad");
+    }
+
+    static boolean isHealer(NPC npc) {
+        return nameContains(npc, "hurkot");
+    }
+
+    private static boolean nameContains(NPC npc, String term) {
+        String name = npc.getName();
+        return name != null && name.toLowerCase().contains(term);
+    }
+
+    /**
+     * @return the prayer protecting against the attack animation, or null if it is not a Jad attack
+     */
+    static Rs2PrayerEnum getProtectionPrayer(int animationId) {
+        if (animationId == 7592 || animationId == 2656) {
+            return Rs2PrayerEnum.PROTECT_MAGIC;
+        } else if (animationId == 7593 || animationId == 2652) {
+            return Rs2PrayerEnum.PROTECT_RANGE;
+        }
+        return null;
+    }
+
+    public void onNpcSpawned(NPC npc) {
+        if (isJad(npc)) {
+            jads.add(npc);
+        } else if (isHealer(npc)) {
+            healers.add(npc);
+        }
+    }
+
+    public void onNpcDespawned(NPC npc) {
+        if (jads.remove(npc) && npc.getIndex() >= 0 && npc.getIndex() < MAX_NPC_INDEX) {
+            healerCooldownUntil[npc.getIndex()] = 0;
+        }
+        healers.remove(npc);
+    }
+
+    /**
+     * NPCs of the previous scene are not despawned one by one.
+     */
+    public void onSceneLoading() {
+        jads.clear();
+        healers.clear();
+    }
+
+    /**
+     * Called from AnimationChanged on the client thread.
+     */
+    public void onAnimationChanged(Actor actor) {
+        if (!(actor instanceof NPC) || !jads.contains(actor)) return;
+
+        Rs2PrayerEnum prayer = getProtectionPrayer(actor.getAnimation());
+        if (prayer == null) return;
+
+        pendingSwitch.set(new PrayerSwitch(prayer, ((NPC) actor).getIndex(), System.nanoTime()));
+        switchSignal.release();
+    }
+
+    /**
+     * Blocks until a Jad starts an attack or the timeout passes.
+     * @return the latest pending switch, or null on timeout
+     */
+    PrayerSwitch awaitSwitch(long timeoutMs) throws InterruptedException {
+        if (!switchSignal.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) return null;
+        // Several attacks may have arrived while busy, only the latest one matters
+        switchSignal.drainPermits();
+        return pendingSwitch.getAndSet(null);
+    }
+
+    synchronized void recordLatency(PrayerSwitch prayerSwitch) {
+        long latency = System.nanoTime() - prayerSwitch.eventNanos;
+        lastLatencyNanos = latency;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+        totalLatencyNanos += latency;
+        switchCount++;
+    }
+
+    /**
+     * Starts the healer cooldown of the Jad if it has passed.
+     * @return true if the healers may be handled for this Jad now
+     */
+    boolean tryStartHealerCooldown(int npcIndex, long now) {
+        if (npcIndex < 0 || npcIndex >= MAX_NPC_INDEX) return true;
+        if (now < healerCooldownUntil[npcIndex]) return false;
+        healerCooldownUntil[npcIndex] = now + HEALER_COOLDOWN_MS;
+        return true;
+    }
+
+    boolean isOnHealerCooldown(int npcIndex, long now) {
+        return npcIndex >= 0 && npcIndex < MAX_NPC_INDEX && now < healerCooldownUntil[npcIndex];
+    }
+
+    Set<NPC> getJads() {
+        return jads;
+    }
+
+    Set<NPC> getHealers() {
+        return healers;
+    }
+
+    public synchronized void reset() {
+        jads.clear();
+        healers.clear();
+        Arrays.fill(healerCooldownUntil, 0);
+        pendingSwitch.set(null);
+        switchSignal.drainPermits();
+        lastLatencyNanos = 0;
+        maxLatencyNanos = 0;
+        totalLatencyNanos = 0;
+        switchCount = 0;
+    }
+
+    public int getSwitchCount() {
+        return switchCount;
+    }
+
+    public double getLastLatencyMs() {
+        return lastLatencyNanos / 1_000_000.0;
+    }
+
+    public double getMaxLatencyMs() {
+        return maxLatencyNanos / 1_000_000.0;
+    }
+
+    public synchronized double getAverageLatencyMs() {
+        return switchCount == 0 ? 0 : totalLatencyNanos / (double) switchCount / 1_000_000.0;
+    }
+}
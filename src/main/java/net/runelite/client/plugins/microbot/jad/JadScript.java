@@ -1,5 +1,6 @@
 package net.runelite.client.plugins.microbot.jad;
 
+import net.runelite.api.NPC;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
@@ -8,62 +9,102 @@ import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.prayer.Rs2Prayer;
 import net.runelite.client.plugins.microbot.util.prayer.Rs2PrayerEnum;
 
-import java.util.HashMap;
-import java.util.Map;
+import javax.inject.Inject;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 public class JadScript extends Script {
-    public static final Map<Integer, Long> npcAttackCooldowns = new HashMap<>();
+    private static final long SWITCH_WAIT_MS = 600;
+
+    private final JadPrayerEngine engine;
+
+    @Inject
+    public JadScript(JadPrayerEngine engine) {
+        this.engine = engine;
+    }
 
     public boolean run(JadConfig config) {
         Microbot.enableAutoRunOn = false;
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            try {
-                if (!Microbot.isLoggedIn() || !super.run()) return;
-
-                var jadNpcs = Rs2Npc.getNpcs("Jad", false);
-
-                for (Rs2NpcModel jadNpc : jadNpcs.collect(Collectors.toList())) {
-                    if (jadNpc == null) continue;
-
-                    long currentTimeMillis = System.currentTimeMillis();
-                    int npcIndex = jadNpc.getIndex();
-
-                    if (npcAttackCooldowns.containsKey(npcIndex)) {
-                        if (currentTimeMillis - npcAttackCooldowns.get(npcIndex) < 4600) {
-                            continue;
-                        } else {
-                            npcAttackCooldowns.remove(npcIndex);
-                        }
-                    }
-
-                    int npcAnimation = jadNpc.getAnimation();
-                    handleJadPrayer(npcAnimation);
-                    if (config.shouldAttackHealers()) {
-                        handleHealerInteraction();
-                        npcAttackCooldowns.put(npcIndex, currentTimeMillis);
-                    }
+        seedNpcs();
+        if (config.reactivePrayer()) {
+            // Each run blocks until the next Jad attack, so the fixed delay only applies between attacks
+            mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+                try {
+                    if (!Microbot.isLoggedIn() || !super.run()) return;
+                    handleNextSwitch(config);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception ex) {
+                    System.out.println(ex.getMessage());
                 }
-            } catch (Exception ex) {
-                System.out.println(ex.getMessage());
-            }
-        }, 0, 10, TimeUnit.MILLISECONDS);
+            }, 0, 1, TimeUnit.MILLISECONDS);
+        } else {
+            mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+                try {
+                    if (!Microbot.isLoggedIn() || !super.run()) return;
+                    pollJads(config);
+                } catch (Exception ex) {
+                    System.out.println(ex.getMessage());
+                }
+            }, 0, 10, TimeUnit.MILLISECONDS);
+        }
         return true;
     }
 
+    private void handleNextSwitch(JadConfig config) throws InterruptedException {
+        JadPrayerEngine.PrayerSwitch prayerSwitch = engine.awaitSwitch(SWITCH_WAIT_MS);
+        if (prayerSwitch == null) return;
+
+        Rs2Prayer.toggle(prayerSwitch.prayer, true);
+        engine.recordLatency(prayerSwitch);
+
+        if (config.shouldAttackHealers() && engine.tryStartHealerCooldown(prayerSwitch.npcIndex, System.currentTimeMillis())) {
+            handleHealerInteraction();
+        }
+    }
+
+    private void pollJads(JadConfig config) {
+        for (NPC jad : engine.getJads()) {
+            long currentTimeMillis = System.currentTimeMillis();
+            int npcIndex = jad.getIndex();
+
+            if (engine.isOnHealerCooldown(npcIndex, currentTimeMillis)) continue;
+
+            handleJadPrayer(jad.getAnimation());
+            if (config.shouldAttackHealers()) {
+                handleHealerInteraction();
+                engine.tryStartHealerCooldown(npcIndex, currentTimeMillis);
+            }
+        }
+    }
+
+    /**
+     * Registers the Jads and healers which spawned before the plugin was started.
+     */
+    private void seedNpcs() {
+        Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            for (NPC npc : Microbot.getClient().getTopLevelWorldView().npcs()) {
+                if (npc != null) engine.onNpcSpawned(npc);
+            }
+            return true;
+        });
+    }
+
     private void handleHealerInteraction() {
-        var healer = Rs2Npc.getNpcs("hurkot", false)
-                .filter(npc -> npc != null && npc.getInteracting() != Microbot.getClient().getLocalPlayer())
-                .findFirst()
-                .orElse(null);
+        NPC healer = null;
+        for (NPC npc : engine.getHealers()) {
+            if (npc.getInteracting() != Microbot.getClient().getLocalPlayer()) {
+                healer = npc;
+                break;
+            }
+        }
 
         if (healer != null) {
-            Rs2Npc.interact(healer, "attack");
+            Rs2Npc.interact(new Rs2NpcModel(healer), "attack");
         } else {
             var npc = Rs2Player.getInteracting();
             if (npc == null || npc != null && npc.getName().contains("hurkot")) {
-                Rs2Npc.interact(Rs2Npc.getNpc("Jad", false), "attack");
+                engine.getJads().stream().findFirst()
+                        .ifPresent(jad -> Rs2Npc.interact(new Rs2NpcModel(jad), "attack"));
             }
         }
 
@@ -72,14 +113,13 @@ public class JadScript extends Script {
     @Override
     public void shutdown() {
         super.shutdown();
-        npcAttackCooldowns.clear();
+        engine.reset();
     }
 
     private void handleJadPrayer(int animationId) {
-        if (animationId == 7592 || animationId == 2656) {
-            Rs2Prayer.toggle(Rs2PrayerEnum.PROTECT_MAGIC, true);
-        } else if (animationId == 7593 || animationId == 2652) {
-            Rs2Prayer.toggle(Rs2PrayerEnum.PROTECT_RANGE, true);
+        Rs2PrayerEnum prayer = JadPrayerEngine.getProtectionPrayer(animationId);
+        if (prayer != null) {
+            Rs2Prayer.toggle(prayer, true);
         }
     }
-}
\ No newline at end of file
+}
@@ -361,9 +361,9 @@ public class MageTrainingArenaScript extends Script {
         }
 
         var room = mtaPlugin.getTelekineticRoom();
-        var teleRoom = Arrays.stream(TelekineticRooms.values())
-                .filter(x -> Rs2Player.getWorldLocation().distanceTo(x.getArea()) == 0)
-                .findFirst().orElseThrow();
+        var teleRoom = TelekineticRooms.fromLocation(Rs2Player.getWorldLocation());
+        if (teleRoom == null)
+            return;
 
         // Walk to maze if guardian is not visible
         WorldPoint target;
@@ -561,7 +561,7 @@ public class MageTrainingArenaScript extends Script {
 
     public static Rooms getCurrentRoom() {
         for (var room : Rooms.values()) {
-            if (room == Rooms.TELEKINETIC && Arrays.stream(TelekineticRooms.values()).anyMatch(x -> Rs2Player.getWorldLocation().distanceTo(x.getArea()) == 0)
+            if (room == Rooms.TELEKINETIC && TelekineticRooms.fromLocation(Rs2Player.getWorldLocation()) != null
                     || room.getArea() != null && Rs2Player.getWorldLocation().distanceTo(room.getArea()) == 0)
                 return room;
         }
@@ -589,12 +589,9 @@ public class MageTrainingArenaScript extends Script {
         if (room != Rooms.TELEKINETIC)
             exit = room.getExit();
         else {
-            for (var teleRoom : TelekineticRooms.values()) {
-                if (Rs2Player.getWorldLocation().distanceTo(teleRoom.getArea()) == 0) {
-                    exit = teleRoom.getExit();
-                    break;
-                }
-            }
+            var teleRoom = TelekineticRooms.fromLocation(Rs2Player.getWorldLocation());
+            if (teleRoom != null)
+                exit = teleRoom.getExit();
         }
 
         if (!Rs2Walker.walkTo(exit))
@@ -1,5 +1,6 @@
 package net.runelite.client.plugins.microbot.magetrainingarena.enums;
 
+import java.util.Arrays;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import net.runelite.api.coords.WorldArea;
@@ -22,4 +23,49 @@ public enum TelekineticRooms {
     private final WorldArea area;
     private final WorldPoint exit;
     private final WorldPoint maze;
+
+    private static final int PLANES = 4;
+
+    // Rooms grouped by plane, with the bounding box of each plane's rooms for a quick reject
+    private static final TelekineticRooms[][] ROOMS_BY_PLANE = new TelekineticRooms[PLANES][];
+    private static final int[][] PLANE_BOUNDS = new int[PLANES][];
+
+    static {
+        for (int plane = 0; plane < PLANES; plane++) {
+            final int p = plane;
+            ROOMS_BY_PLANE[plane] = Arrays.stream(values())
+                    .filter(room -> room.area.getPlane() == p)
+                    .toArray(TelekineticRooms[]::new);
+
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+            for (TelekineticRooms room : ROOMS_BY_PLANE[plane]) {
+                minX = Math.min(minX, room.area.getX());
+                minY = Math.min(minY, room.area.getY());
+                maxX = Math.max(maxX, room.area.getX() + room.area.getWidth() - 1);
+                maxY = Math.max(maxY, room.area.getY() + room.area.getHeight() - 1);
+            }
+            PLANE_BOUNDS[plane] = new int[]{minX, minY, maxX, maxY};
+        }
+    }
+
+    /**
+     * Returns the telekinetic room containing the location, or null when it is not inside one.
+     */
+    public static TelekineticRooms fromLocation(WorldPoint location) {
+        if (location == null || location.getPlane() < 0 || location.getPlane() >= PLANES) {
+            return null;
+        }
+
+        int[] bounds = PLANE_BOUNDS[location.getPlane()];
+        if (location.getX() < bounds[0] || location.getY() < bounds[1] || location.getX() > bounds[2] || location.getY() > bounds[3]) {
+            return null;
+        }
+
+        for (TelekineticRooms room : ROOMS_BY_PLANE[location.getPlane()]) {
+            if (room.area.contains(location)) {
+                return room;
+            }
+        }
+        return null;
+    }
 }
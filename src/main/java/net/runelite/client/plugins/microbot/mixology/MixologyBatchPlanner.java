@@ -0,0 +1,163 @@
+package net.runelite.client.plugins.microbot.mixology;
+
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.plugins.microbot.mixology.enums.PotionComponent;
+import net.runelite.client.plugins.microbot.mixology.enums.PotionModifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Plans the order in which the visible potion orders are mixed and refined, and keeps the lab's
+ * paste and resin counters parsed from the lab widget once per game tick.
+ * <p>
+ * Orders are batched by station: all orders for the same station are processed back to back, stations
+ * follow the configured priority and within a station the potion worth the most experience goes first.
+ * Orders whose recipe can't be covered by the paste stock are left out of the mixing plan.
+ */
+public class MixologyBatchPlanner {
+    // Dynamic children of widget 882,2
+    private static final int MOX_PASTE_CHILD = 8;
+    private static final int AGA_PASTE_CHILD = 11;
+    private static final int LYE_PASTE_CHILD = 14;
+    private static final int MOX_POINTS_CHILD = 16;
+    private static final int AGA_POINTS_CHILD = 17;
+    private static final int LYE_POINTS_CHILD = 18;
+
+    // Paste used by a single lever pull
+    private static final int PASTE_PER_COMPONENT = 10;
+
+    // Counters which haven't been parsed since the lab widget was loaded
+    private static final int NOT_PARSED = -1;
+
+    private volatile int hopperMox = NOT_PARSED, hopperAga = NOT_PARSED, hopperLye = NOT_PARSED;
+    private volatile int moxPoints = NOT_PARSED, agaPoints = NOT_PARSED, lyePoints = NOT_PARSED;
+
+    private volatile List<PotionOrder> plan = Collections.emptyList();
+
+    /**
+     * Parses the paste and resin counters, called once per game tick on the client thread.
+     * The counters are invalidated while the lab widget isn't loaded.
+     */
+    public void onGameTick(Widget labWidget) {
+        Widget[] children = labWidget == null ? null : labWidget.getDynamicChildren();
+        if (children == null || children.length <= LYE_POINTS_CHILD) {
+            invalidate();
+            return;
+        }
+
+        hopperMox = parse(children[MOX_PASTE_CHILD], hopperMox);
+        hopperAga = parse(children[AGA_PASTE_CHILD], hopperAga);
+        hopperLye = parse(children[LYE_PASTE_CHILD], hopperLye);
+        moxPoints = parse(children[MOX_POINTS_CHILD], moxPoints);
+        agaPoints = parse(children[AGA_POINTS_CHILD], agaPoints);
+        lyePoints = parse(children[LYE_POINTS_CHILD], lyePoints);
+    }
+
+    /**
+     * Rebuilds the processing order, called whenever the orders change.
+     * @param stationOrder station priority, earlier modifiers are processed first
+     */
+    public void plan(List<PotionOrder> orders, List<PotionModifier> stationOrder) {
+        List<PotionOrder> planned = new ArrayList<>(orders);
+        planned.sort(Comparator
+                .comparingInt((PotionOrder order) -> stationRank(stationOrder, order.potionModifier()))
+                .thenComparing(Comparator.comparingInt((PotionOrder order) -> order.potionType().experience()).reversed())
+                .thenComparingInt(PotionOrder::idx));
+        plan = Collections.unmodifiableList(planned);
+    }
+
+    /**
+     * @return the planned orders, in processing order
+     */
+    public List<PotionOrder> getPlan() {
+        return plan;
+    }
+
+    /**
+     * @return the first order of the plan which is not fulfilled yet, or null if all of them are
+     */
+    public PotionOrder nextToProcess() {
+        for (PotionOrder order : plan) {
+            if (!order.fulfilled()) return order;
+        }
+        return null;
+    }
+
+    /**
+     * @param hasPotion whether the unfinished potion of the order is already in the inventory
+     * @return the first order of the plan that still has to be mixed and can be covered by the paste stock
+     */
+    public PotionOrder nextToMix(Predicate<PotionOrder> hasPotion, int mox, int aga, int lye) {
+        int[] stock = {mox, aga, lye};
+        for (PotionOrder order : plan) {
+            if (hasPotion.test(order)) continue;
+            if (canCover(order, stock)) return order;
+        }
+        return null;
+    }
+
+    /**
+     * @return whether all counters were parsed since the lab widget was loaded
+     */
+    public boolean hasLabCounters() {
+        return hopperMox != NOT_PARSED && hopperAga != NOT_PARSED && hopperLye != NOT_PARSED
+                && moxPoints != NOT_PARSED && agaPoints != NOT_PARSED && lyePoints != NOT_PARSED;
+    }
+
+    public void invalidate() {
+        hopperMox = hopperAga = hopperLye = NOT_PARSED;
+        moxPoints = agaPoints = lyePoints = NOT_PARSED;
+    }
+
+    public int getHopperMox() {
+        return hopperMox;
+    }
+
+    public int getHopperAga() {
+        return hopperAga;
+    }
+
+    public int getHopperLye() {
+        return hopperLye;
+    }
+
+    public int getMoxPoints() {
+        return moxPoints;
+    }
+
+    public int getAgaPoints() {
+        return agaPoints;
+    }
+
+    public int getLyePoints() {
+        return lyePoints;
+    }
+
+    private static boolean canCover(PotionOrder order, int[] stock) {
+        int mox = 0, aga = 0, lye = 0;
+        for (PotionComponent component : order.potionType().components()) {
+            if (component == PotionComponent.MOX) mox += PASTE_PER_COMPONENT;
+            else if (component == PotionComponent.AGA) aga += PASTE_PER_COMPONENT;
+            else lye += PASTE_PER_COMPONENT;
+        }
+        return mox <= stock[0] && aga <= stock[1] && lye <= stock[2];
+    }
+
+    private static int stationRank(List<PotionModifier> stationOrder, PotionModifier modifier) {
+        int rank = stationOrder.indexOf(modifier);
+        return rank < 0 ? stationOrder.size() : rank;
+    }
+
+    private static int parse(Widget widget, int fallback) {
+        if (widget == null || widget.getText() == null) return fallback;
+        try {
+            return Integer.parseInt(widget.getText().trim());
+        } catch (NumberFormatException ex) {
+            return fallback;
+        }
+    }
+}
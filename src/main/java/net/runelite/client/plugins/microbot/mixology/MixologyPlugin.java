@@ -100,6 +100,11 @@ public class MixologyPlugin extends Plugin {
 
     }
 
+    @Subscribe
+    public void onGameTick(GameTick event) {
+        mixologyScript.batchPlanner.onGameTick(this.client.getWidget(882, 2));
+    }
+
     @Subscribe
     public void onWidgetLoaded(WidgetLoaded event) {
         if (event.getGroupId() == 882) {
@@ -261,10 +266,9 @@ public class MixologyPlugin extends Plugin {
 
     private void updatePotionOrders() {
         System.out.println("Updating potion orders");
-        mixologyScript.potionOrders = this.getPotionOrders();
         // Desired order: CRYSTALISED > CONCENTRATED > HOMOGENOUS
-
-        mixologyScript.potionOrders.sort(Comparator.comparingInt(mixologyScript.customOrder::indexOf));
+        mixologyScript.batchPlanner.plan(this.getPotionOrders(), mixologyScript.customOrder);
+        mixologyScript.potionOrders = new ArrayList<>(mixologyScript.batchPlanner.getPlan());
 
         VarbitComposition varbitType = this.client.getVarbit(11315);
         if (varbitType != null) {
@@ -24,7 +24,6 @@ import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import static net.runelite.client.plugins.microbot.mixology.enums.AlchemyObject.MIXING_VESSEL;
 
@@ -32,6 +31,7 @@ public class MixologyScript extends Script {
     private static final Integer DIGWEED = ItemID.MM_LAB_SPECIAL_HERB;
 
     public java.util.List<PotionOrder> potionOrders = Collections.emptyList();
+    public final MixologyBatchPlanner batchPlanner = new MixologyBatchPlanner();
 
     public static MixologyState mixologyState = MixologyState.IDLE;
     public static int lyePasteAmount, agaPasteAmount, moxPasteAmount = 0;
@@ -78,6 +78,9 @@ public class MixologyScript extends Script {
 
                 if (isInMinigame) {
 
+                    // Don't decide on stale or missing counters, wait for the first tick to parse them
+                    if (!batchPlanner.hasLabCounters()) return;
+
                     if (startLyePoints == 0 && startAgaPoints == 0 && startMoxPoints == 0) {
                         startMoxPoints = getMoxPoints();
                         startAgaPoints = getAgaPoints();
@@ -106,19 +109,20 @@ public class MixologyScript extends Script {
                         }
                     }
 
-                    moxPasteAmount = Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[8].getText()) + Rs2Inventory.itemQuantity(ItemID.MM_MOX_PASTE);
-                    agaPasteAmount = Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[11].getText()) + Rs2Inventory.itemQuantity(ItemID.MM_AGA_PASTE);
-                    lyePasteAmount = Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[14].getText()) + Rs2Inventory.itemQuantity(ItemID.MM_LYE_PASTE);
+                    // Hopper counters are parsed once per tick by the batch planner
+                    moxPasteAmount = batchPlanner.getHopperMox() + Rs2Inventory.itemQuantity(ItemID.MM_MOX_PASTE);
+                    agaPasteAmount = batchPlanner.getHopperAga() + Rs2Inventory.itemQuantity(ItemID.MM_AGA_PASTE);
+                    lyePasteAmount = batchPlanner.getHopperLye() + Rs2Inventory.itemQuantity(ItemID.MM_LYE_PASTE);
 
                     if (mixologyState != MixologyState.REFINER && (moxPasteAmount < 100 || agaPasteAmount < 100 || lyePasteAmount < 100)) {
                         mixologyState = MixologyState.REFINER;
                     } else if (Rs2Inventory.hasItem(ItemID.MM_MOX_PASTE) || Rs2Inventory.hasItem(ItemID.MM_LYE_PASTE) || Rs2Inventory.hasItem(ItemID.MM_AGA_PASTE)) {
-                        if (Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[8].getText()) >= 3000 && Rs2Inventory.hasItem(ItemID.MM_MOX_PASTE)) {
+                        if (batchPlanner.getHopperMox() >= 3000 && Rs2Inventory.hasItem(ItemID.MM_MOX_PASTE)) {
                             mixologyState = MixologyState.BANK;
-                        } else if (Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[11].getText()) >= 3000 && Rs2Inventory.hasItem(ItemID.MM_AGA_PASTE)) {
+                        } else if (batchPlanner.getHopperAga() >= 3000 && Rs2Inventory.hasItem(ItemID.MM_AGA_PASTE)) {
                             mixologyState = MixologyState.BANK;
 
-                        } else if (Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[14].getText()) >= 3000 && Rs2Inventory.hasItem(ItemID.MM_LYE_PASTE)) {
+                        } else if (batchPlanner.getHopperLye() >= 3000 && Rs2Inventory.hasItem(ItemID.MM_LYE_PASTE)) {
                             mixologyState = MixologyState.BANK;
                         } else {
                             mixologyState = MixologyState.DEPOSIT_HOPPER;
@@ -203,7 +207,6 @@ public class MixologyScript extends Script {
                     case MIX_POTION_STAGE_1:
 
                         Map<Integer, Integer> itemsToCheck = new HashMap<>();
-                        PotionOrder potionToMake = null;
 
                         for (PotionOrder _potionOrder : potionOrders) {
                             int key = _potionOrder.potionType().itemId();
@@ -211,21 +214,10 @@ public class MixologyScript extends Script {
                             itemsToCheck.put(key, value + 1);
                         }
 
-                        for (int itemId : itemsToCheck.keySet()) {
-                            PotionOrder _potionOrder = potionOrders
-                                    .stream()
-                                    .filter(x -> x.potionType().itemId() == itemId)
-                                    .findFirst()
-                                    .orElse(null);
-
-                            if (_potionOrder == null) continue;
-
-                            int itemAmount = itemsToCheck.getOrDefault(itemId, 1);
-
-                            if (!Rs2Inventory.hasItemAmount(itemId, itemAmount)) {
-                                potionToMake = _potionOrder;
-                            }
-                        }
+                        // Mix in the planned processing order, skipping recipes the paste stock can't cover
+                        PotionOrder potionToMake = batchPlanner.nextToMix(
+                                x -> Rs2Inventory.hasItemAmount(x.potionType().itemId(), itemsToCheck.get(x.potionType().itemId())),
+                                moxPasteAmount, agaPasteAmount, lyePasteAmount);
 
                         if (potionToMake == null) {
                             mixologyState = MixologyState.MIX_POTION_STAGE_2;
@@ -248,20 +240,14 @@ public class MixologyScript extends Script {
                         break;
                     case MIX_POTION_STAGE_2:
 
-                        // Sort using a custom comparator
-                        List<PotionOrder> nonFulfilledPotions = potionOrders
-                                .stream()
-                                .filter(x -> !x.fulfilled())
-                                .sorted(Comparator.comparingInt(customOrder::indexOf))
-                                .collect(Collectors.toList());
+                        // Orders for the same station are planned back to back
+                        PotionOrder nonFulfilledPotion = batchPlanner.nextToProcess();
 
-                        if (nonFulfilledPotions.isEmpty()) {
+                        if (nonFulfilledPotion == null) {
                             mixologyState = MixologyState.CONVEYER_BELT;
                             return;
                         }
 
-                        PotionOrder nonFulfilledPotion = nonFulfilledPotions.get(0);
-
                         if (Rs2Player.isAnimating()) {
                             if (agitatorQuickActionTicks > 0 && config.useQuickActionOnAgitator()) {
                                 int clicks =  Rs2AntibanSettings.naturalMouse ? Rs2Random.between(4, 6) : Rs2Random.between(6, 10);
@@ -449,15 +435,15 @@ public class MixologyScript extends Script {
     }
 
     private int getMoxPoints() {
-        return Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[16].getText());
+        return batchPlanner.getMoxPoints();
     }
 
     private int getAgaPoints() {
-        return Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[17].getText());
+        return batchPlanner.getAgaPoints();
     }
 
     private int getLyePoints() {
-        return Integer.parseInt(Rs2Widget.getWidget(882, 2).getDynamicChildren()[18].getText());
+        return batchPlanner.getLyePoints();
     }
 
     @Override
@@ -4,22 +4,43 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2Antiban;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.mke_wintertodt.enums.State;
+import net.runelite.client.plugins.microbot.mke_wintertodt.enums.TimedAction;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.LayoutableRenderableEntity;
 import net.runelite.client.ui.overlay.components.LineComponent;
 import net.runelite.client.ui.overlay.components.TitleComponent;
 
 import javax.inject.Inject;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Overlay panel for displaying Wintertodt bot statistics and current status.
  * Shows real-time information about bot performance, actions taken, and current state.
  */
 public class MKE_WintertodtOverlay extends OverlayPanel {
+    private static final Dimension PANEL_SIZE = new Dimension(220, 450);
+    // Game ticks stop while logged out (e.g. logout breaks), so the timers are still refreshed every second
+    private static final long MAX_LINES_AGE_MS = 1000;
+
+    private static final Color GOLD = new Color(255, 215, 0);
+    private static final Color LIGHT_GREEN = new Color(144, 238, 144);
+    private static final Color ORANGE = new Color(255, 165, 0);
+    private static final Color DARK_ORANGE = new Color(255, 140, 0);
+    private static final Color DODGER_BLUE = new Color(30, 144, 255);
+    private static final Color DEEP_PINK = new Color(255, 20, 147);
+    private static final Color LIME_GREEN = new Color(50, 205, 50);
+
     private final MKE_WintertodtPlugin plugin;
     private final MKE_WintertodtConfig config;
 
+    // Retained lines, rebuilt only when the plugin's overlay version changes
+    private final List<LayoutableRenderableEntity> lines = new ArrayList<>();
+    private int builtVersion = -1;
+    private long builtAt = 0;
+
     @Inject
     MKE_WintertodtOverlay(MKE_WintertodtPlugin plugin, MKE_WintertodtConfig config) {
         super(plugin);
@@ -37,388 +58,431 @@ public class MKE_WintertodtOverlay extends OverlayPanel {
     public Dimension render(Graphics2D graphics) {
         try {
             // Set panel dimensions and styling (increased for antiban info)
-            panelComponent.setPreferredSize(new Dimension(220, 450));
-
-            // Main title with version
-            panelComponent.getChildren().add(TitleComponent.builder()
-                    .text("MKE Wintertodt Bot v" + MKE_WintertodtPlugin.version)
-                    .color(Color.CYAN)
-                    .build());
-
-            // Separator line
-            addSeparator();
-
-            // Runtime information
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Runtime:")
-                    .right(plugin.getTimeRunning())
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.GREEN)
-                    .build());
+            panelComponent.setPreferredSize(PANEL_SIZE);
+
+            // Lines only change once per game tick, so they are rebuilt when the plugin publishes a new version
+            int version = plugin.getOverlayVersion();
+            long now = System.currentTimeMillis();
+            if (version != builtVersion || now - builtAt >= MAX_LINES_AGE_MS) {
+                lines.clear();
+                buildLines();
+                builtVersion = version;
+                builtAt = now;
+            }
+            panelComponent.getChildren().addAll(lines);
 
-            // Show startup phase if not completed
-            if (!plugin.isStartupCompleted()) {
-                String phase = plugin.getStartupPhase();
-                Color phaseColor = Color.CYAN;
-                
-                // Use different colors for different phases
-                if (phase.contains("game room")) {
-                    phaseColor = Color.GREEN;
-                } else if (phase.contains("gear")) {
-                    phaseColor = Color.ORANGE;
-                } else if (phase.contains("inventory")) {
-                    phaseColor = Color.MAGENTA;
-                }
-                
-                panelComponent.getChildren().add(LineComponent.builder()
-                        .left("Startup Phase:")
-                        .right(phase)
-                        .leftColor(Color.WHITE)
-                        .rightColor(phaseColor)
-                        .build());
-                
-                panelComponent.getChildren().add(LineComponent.builder()
-                        .left("Status:")
-                        .right(plugin.getStartupStatus())
-                        .leftColor(Color.WHITE)
-                        .rightColor(Color.YELLOW)
-                        .build());
-            } else {
-                // Current state with color coding
-                Color stateColor = getStateColor(MKE_WintertodtScript.state);
-                panelComponent.getChildren().add(LineComponent.builder()
-                        .left("Current State:")
-                        .right(MKE_WintertodtScript.state.toString())
-                        .leftColor(Color.WHITE)
-                        .rightColor(stateColor)
-                        .build());
+            // Add antiban overlay components if antiban is enabled and user wants to show it
+            if (config.showAntibanOverlay() && Rs2AntibanSettings.antibanEnabled && Rs2Antiban.getActivity() != null) {
+                Rs2Antiban.renderAntibanOverlayComponents(panelComponent);
             }
 
-            addSeparator();
+        } catch (Exception ex) {
+            // Graceful error handling for overlay rendering
+            System.err.println("Error rendering Wintertodt overlay: " + ex.getMessage());
+            ex.printStackTrace();
+        }
+        return super.render(graphics);
+    }
 
-            // Game statistics
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Games Won:")
-                    .right(String.valueOf(plugin.getWon()))
+    /**
+     * Builds the statistics and status lines from the current bot state.
+     */
+    private void buildLines() {
+        // Main title with version
+        lines.add(TitleComponent.builder()
+                .text("MKE Wintertodt Bot v" + MKE_WintertodtPlugin.version)
+                .color(Color.CYAN)
+                .build());
+
+        // Separator line
+        addSeparator();
+
+        // Runtime information
+        lines.add(LineComponent.builder()
+                .left("Runtime:")
+                .right(plugin.getTimeRunning())
+                .leftColor(Color.WHITE)
+                .rightColor(Color.GREEN)
+                .build());
+
+        // Show startup phase if not completed
+        if (!plugin.isStartupCompleted()) {
+            String phase = plugin.getStartupPhase();
+            Color phaseColor = Color.CYAN;
+            
+            // Use different colors for different phases
+            if (phase.contains("game room")) {
+                phaseColor = Color.GREEN;
+            } else if (phase.contains("gear")) {
+                phaseColor = Color.ORANGE;
+            } else if (phase.contains("inventory")) {
+                phaseColor = Color.MAGENTA;
+            }
+            
+            lines.add(LineComponent.builder()
+                    .left("Startup Phase:")
+                    .right(phase)
                     .leftColor(Color.WHITE)
-                    .rightColor(Color.GREEN)
+                    .rightColor(phaseColor)
                     .build());
-
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Games Lost:")
-                    .right(String.valueOf(plugin.getLost()))
+            
+            lines.add(LineComponent.builder()
+                    .left("Status:")
+                    .right(plugin.getStartupStatus())
                     .leftColor(Color.WHITE)
-                    .rightColor(Color.RED)
+                    .rightColor(Color.YELLOW)
                     .build());
-
-            // Calculate win rate
-            int totalGames = plugin.getWon() + plugin.getLost();
-            double winRate = totalGames > 0 ? (double) plugin.getWon() / totalGames * 100 : 0;
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Win Rate:")
-                    .right(String.format("%.1f%%", winRate))
+        } else {
+            // Current state with color coding
+            Color stateColor = getStateColor(MKE_WintertodtScript.state);
+            lines.add(LineComponent.builder()
+                    .left("Current State:")
+                    .right(MKE_WintertodtScript.state.toString())
                     .leftColor(Color.WHITE)
-                    .rightColor(winRate >= 80 ? Color.GREEN : winRate >= 60 ? Color.YELLOW : Color.RED)
+                    .rightColor(stateColor)
                     .build());
+        }
 
-            addSeparator();
-
-            // Action statistics
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Logs Cut:")
-                    .right(String.valueOf(plugin.getLogsCut()))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.LIGHT_GRAY)
+        addSeparator();
+
+        // Game statistics
+        lines.add(LineComponent.builder()
+                .left("Games Won:")
+                .right(String.valueOf(plugin.getWon()))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.GREEN)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Games Lost:")
+                .right(String.valueOf(plugin.getLost()))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.RED)
+                .build());
+
+        // Calculate win rate
+        int totalGames = plugin.getWon() + plugin.getLost();
+        double winRate = totalGames > 0 ? (double) plugin.getWon() / totalGames * 100 : 0;
+        lines.add(LineComponent.builder()
+                .left("Win Rate:")
+                .right(String.format("%.1f%%", winRate))
+                .leftColor(Color.WHITE)
+                .rightColor(winRate >= 80 ? Color.GREEN : winRate >= 60 ? Color.YELLOW : Color.RED)
+                .build());
+
+        addSeparator();
+
+        // Action statistics
+        lines.add(LineComponent.builder()
+                .left("Logs Cut:")
+                .right(String.valueOf(plugin.getLogsCut()))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.LIGHT_GRAY)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Logs Fletched:")
+                .right(String.valueOf(plugin.getLogsFletched()))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.LIGHT_GRAY)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Braziers Fixed:")
+                .right(String.valueOf(plugin.getBraziersFixed()))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.ORANGE)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Braziers Lit:")
+                .right(String.valueOf(plugin.getBraziersLit()))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.ORANGE)
+                .build());
+
+        addSeparator();
+
+        // Resource management
+        lines.add(LineComponent.builder()
+                .left("Food Consumed:")
+                .right(String.valueOf(plugin.getFoodConsumed()))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.PINK)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Banking Trips:")
+                .right(String.valueOf(plugin.getTimesBanked()))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.CYAN)
+                .build());
+
+        // Current bot status
+        lines.add(LineComponent.builder()
+                .left("Status:")
+                .right(Microbot.status)
+                .leftColor(Color.WHITE)
+                .rightColor(Color.YELLOW)
+                .build());
+
+        addSeparator();
+
+        // Reward Cart Looting Status (only show if enabled)
+        if (config.enableRewardCartLooting()) {
+            lines.add(TitleComponent.builder()
+                    .text("Reward Cart Looting")
+                    .color(GOLD)
                     .build());
 
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Logs Fletched:")
-                    .right(String.valueOf(plugin.getLogsFletched()))
+            // Show current points
+            int currentRewards = MKE_WintertodtScript.currentRewardCartRewards;
+            lines.add(LineComponent.builder()
+                    .left("Cart Rewards:")
+                    .right(String.valueOf(currentRewards))
                     .leftColor(Color.WHITE)
-                    .rightColor(Color.LIGHT_GRAY)
+                    .rightColor(currentRewards >= config.minimumRewardsForCollection() ? Color.GREEN : Color.YELLOW)
                     .build());
 
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Braziers Fixed:")
-                    .right(String.valueOf(plugin.getBraziersFixed()))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.ORANGE)
-                    .build());
+            // Show reward threshold (if calculated)
+            if (MKE_WintertodtScript.targetRewardThreshold > 0) {
+                lines.add(LineComponent.builder()
+                        .left("Target Threshold:")
+                        .right(String.valueOf(MKE_WintertodtScript.targetRewardThreshold))
+                        .leftColor(Color.WHITE)
+                        .rightColor(Color.CYAN)
+                        .build());
+            }
 
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Braziers Lit:")
-                    .right(String.valueOf(plugin.getBraziersLit()))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.ORANGE)
-                    .build());
+            // Show looting status
+            if (MKE_WintertodtScript.isLootingRewards) {
+                String rewardStatus = "Collecting Rewards";
+                Color rewardColor = GOLD;
+                
+                // Show specific state if in reward cart states
+                switch (MKE_WintertodtScript.state) {
+                    case EXITING_FOR_REWARDS:
+                        rewardStatus = "Exiting Wintertodt";
+                        rewardColor = Color.ORANGE;
+                        break;
+                    case WALKING_TO_REWARDS_BANK:
+                        rewardStatus = "Walking to Bank";
+                        rewardColor = Color.CYAN;
+                        break;
+                    case BANKING_FOR_REWARDS:
+                        rewardStatus = "Banking Items";
+                        rewardColor = Color.BLUE;
+                        break;
+                    case WALKING_TO_REWARD_CART:
+                        rewardStatus = "Walking to Cart";
+                        rewardColor = Color.MAGENTA;
+                        break;
+                    case LOOTING_REWARD_CART:
+                        rewardStatus = "Looting Cart";
+                        rewardColor = Color.GREEN;
+                        break;
+                    case RETURNING_FROM_REWARDS:
+                        rewardStatus = "Finishing Up";
+                        rewardColor = Color.YELLOW;
+                        break;
+                }
+                
+                lines.add(LineComponent.builder()
+                        .left("Reward Status:")
+                        .right(rewardStatus)
+                        .leftColor(Color.WHITE)
+                        .rightColor(rewardColor)
+                        .build());
+            } else {
+                lines.add(LineComponent.builder()
+                        .left("Reward Status:")
+                        .right("Monitoring")
+                        .leftColor(Color.WHITE)
+                        .rightColor(Color.GREEN)
+                        .build());
+            }
 
             addSeparator();
+        }
 
-            // Resource management
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Food Consumed:")
-                    .right(String.valueOf(plugin.getFoodConsumed()))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.PINK)
-                    .build());
+        // AI Decision Making Panel
+        lines.add(TitleComponent.builder()
+                .text("AI Decision Process")
+                .color(Color.ORANGE)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Est. Time Left (Final):")
+                .right(String.format("%.1fs", MKE_WintertodtScript.estimatedSecondsLeft))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.YELLOW)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("  └─ From History:")
+                .right(String.format("%.1fs", MKE_WintertodtScript.historicalEstimateSecondsLeft))
+                .leftColor(Color.GRAY)
+                .rightColor(Color.ORANGE)
+                .build());
+
+        /* ---------- Action-Plan summary (dynamic) -------------------- */
+        StringBuilder plan = new StringBuilder();
+        StringBuilder prog = new StringBuilder();
+
+        if (MKE_WintertodtScript.rootsToChopGoal > 0) {
+            plan.append("Ch ").append(MKE_WintertodtScript.rootsToChopGoal);
+            prog.append(MKE_WintertodtScript.rootsChoppedThisRun)
+                .append('/').append(MKE_WintertodtScript.rootsToChopGoal);
+        }
+        if (MKE_WintertodtScript.fletchGoal > 0) {
+            if (plan.length() > 0) { plan.append(" | "); prog.append(" | "); }
+            plan.append("Fl ").append(MKE_WintertodtScript.fletchGoal);
+            prog.append(MKE_WintertodtScript.fletchedThisRun)
+                .append('/').append(MKE_WintertodtScript.fletchGoal);
+        }
+        if (MKE_WintertodtScript.feedGoal > 0) {
+            if (plan.length() > 0) { plan.append(" | "); prog.append(" | "); }
+            plan.append("Fe ").append(MKE_WintertodtScript.feedGoal);
+            prog.append(MKE_WintertodtScript.fedThisRun)
+                .append('/').append(MKE_WintertodtScript.feedGoal);
+        }
 
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Banking Trips:")
-                    .right(String.valueOf(plugin.getTimesBanked()))
+        if (plan.length() > 0) {
+            lines.add(LineComponent.builder()
+                    .left("Plan:")
+                    .right(plan.toString())
                     .leftColor(Color.WHITE)
                     .rightColor(Color.CYAN)
                     .build());
 
-            // Current bot status
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Status:")
-                    .right(Microbot.status)
+            lines.add(LineComponent.builder()
+                    .left("Progress:")
+                    .right(prog.toString())
                     .leftColor(Color.WHITE)
-                    .rightColor(Color.YELLOW)
+                    .rightColor(Color.GREEN)
                     .build());
+        }
 
-            addSeparator();
+        /* ---- Possible cycles left in the round ------------------- */
+        if (MKE_WintertodtScript.cycleTimeSec > 0)
+        {
+            int cyclesLeft = (int) Math.floor(
+                    Math.max(0,
+                            (MKE_WintertodtScript.estimatedSecondsLeft - 10)   // keep 10 s safety
+                            / MKE_WintertodtScript.cycleTimeSec));
 
-            // Reward Cart Looting Status (only show if enabled)
-            if (config.enableRewardCartLooting()) {
-                panelComponent.getChildren().add(TitleComponent.builder()
-                        .text("Reward Cart Looting")
-                        .color(new Color(255, 215, 0)) // Gold color
-                        .build());
+            cyclesLeft += MKE_WintertodtScript.EXTRA_ROOTS_BUFFER;           // include the plan buffer
 
-                // Show current points
-                int currentRewards = MKE_WintertodtScript.currentRewardCartRewards;
-                panelComponent.getChildren().add(LineComponent.builder()
-                        .left("Cart Rewards:")
-                        .right(String.valueOf(currentRewards))
+            if (cyclesLeft > 0)     // show only when meaningful
+            {
+                lines.add(LineComponent.builder()
+                        .left("Est. Feeds left:")
+                        .right(String.valueOf(cyclesLeft))
                         .leftColor(Color.WHITE)
-                        .rightColor(currentRewards >= config.minimumRewardsForCollection() ? Color.GREEN : Color.YELLOW)
+                        .rightColor(Color.CYAN)
                         .build());
-
-                // Show reward threshold (if calculated)
-                if (MKE_WintertodtScript.targetRewardThreshold > 0) {
-                    panelComponent.getChildren().add(LineComponent.builder()
-                            .left("Target Threshold:")
-                            .right(String.valueOf(MKE_WintertodtScript.targetRewardThreshold))
-                            .leftColor(Color.WHITE)
-                            .rightColor(Color.CYAN)
-                            .build());
-                }
-
-                // Show looting status
-                if (MKE_WintertodtScript.isLootingRewards) {
-                    String rewardStatus = "Collecting Rewards";
-                    Color rewardColor = new Color(255, 215, 0); // Gold color
-                    
-                    // Show specific state if in reward cart states
-                    switch (MKE_WintertodtScript.state) {
-                        case EXITING_FOR_REWARDS:
-                            rewardStatus = "Exiting Wintertodt";
-                            rewardColor = Color.ORANGE;
-                            break;
-                        case WALKING_TO_REWARDS_BANK:
-                            rewardStatus = "Walking to Bank";
-                            rewardColor = Color.CYAN;
-                            break;
-                        case BANKING_FOR_REWARDS:
-                            rewardStatus = "Banking Items";
-                            rewardColor = Color.BLUE;
-                            break;
-                        case WALKING_TO_REWARD_CART:
-                            rewardStatus = "Walking to Cart";
-                            rewardColor = Color.MAGENTA;
-                            break;
-                        case LOOTING_REWARD_CART:
-                            rewardStatus = "Looting Cart";
-                            rewardColor = Color.GREEN;
-                            break;
-                        case RETURNING_FROM_REWARDS:
-                            rewardStatus = "Finishing Up";
-                            rewardColor = Color.YELLOW;
-                            break;
-                    }
-                    
-                    panelComponent.getChildren().add(LineComponent.builder()
-                            .left("Reward Status:")
-                            .right(rewardStatus)
-                            .leftColor(Color.WHITE)
-                            .rightColor(rewardColor)
-                            .build());
-                } else {
-                    panelComponent.getChildren().add(LineComponent.builder()
-                            .left("Reward Status:")
-                            .right("Monitoring")
-                            .leftColor(Color.WHITE)
-                            .rightColor(Color.GREEN)
-                            .build());
-                }
-
-                addSeparator();
             }
+        }
 
-            // AI Decision Making Panel
-            panelComponent.getChildren().add(TitleComponent.builder()
-                    .text("AI Decision Process")
-                    .color(Color.ORANGE)
-                    .build());
-
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Est. Time Left (Final):")
-                    .right(String.format("%.1fs", MKE_WintertodtScript.estimatedSecondsLeft))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.YELLOW)
-                    .build());
-
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("  └─ From History:")
-                    .right(String.format("%.1fs", MKE_WintertodtScript.historicalEstimateSecondsLeft))
-                    .leftColor(Color.GRAY)
-                    .rightColor(Color.ORANGE)
+        lines.add(LineComponent.builder()
+                .left("Full Cycle Time:")
+                .right(String.format("%.2fs", MKE_WintertodtScript.cycleTimeSec))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.CYAN)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Avg Chop:")
+                .right(formatActionTiming(TimedAction.CHOP))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.LIGHT_GRAY)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Avg Fletch:")
+                .right(formatActionTiming(TimedAction.FLETCH))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.LIGHT_GRAY)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("Avg Feed:")
+                .right(formatActionTiming(TimedAction.FEED))
+                .leftColor(Color.WHITE)
+                .rightColor(Color.LIGHT_GRAY)
+                .build());
+
+        // Per-tick cost of the script loop and the game state snapshot
+        lines.add(LineComponent.builder()
+                .left("Loop Time:")
+                .right(MKE_WintertodtScript.lastLoopTimeMs + "ms")
+                .leftColor(Color.WHITE)
+                .rightColor(Color.LIGHT_GRAY)
+                .build());
+
+        lines.add(LineComponent.builder()
+                .left("  └─ State Snapshot:")
+                .right(MKE_WintertodtScript.lastGameStateBuildMicros + "µs / "
+                        + MKE_WintertodtScript.gameStateReadsLastTick + " reads")
+                .leftColor(Color.GRAY)
+                .rightColor(Color.LIGHT_GRAY)
+                .build());
+
+        addSeparator();
+
+        // Break System Information
+        if (config.enableCustomBreaks()) {
+            lines.add(TitleComponent.builder()
+                    .text("Custom Break System")
+                    .color(Color.MAGENTA)
                     .build());
 
-            /* ---------- Action-Plan summary (dynamic) -------------------- */
-            StringBuilder plan = new StringBuilder();
-            StringBuilder prog = new StringBuilder();
-
-            if (MKE_WintertodtScript.rootsToChopGoal > 0) {
-                plan.append("Ch ").append(MKE_WintertodtScript.rootsToChopGoal);
-                prog.append(MKE_WintertodtScript.rootsChoppedThisRun)
-                    .append('/').append(MKE_WintertodtScript.rootsToChopGoal);
-            }
-            if (MKE_WintertodtScript.fletchGoal > 0) {
-                if (plan.length() > 0) { plan.append(" | "); prog.append(" | "); }
-                plan.append("Fl ").append(MKE_WintertodtScript.fletchGoal);
-                prog.append(MKE_WintertodtScript.fletchedThisRun)
-                    .append('/').append(MKE_WintertodtScript.fletchGoal);
-            }
-            if (MKE_WintertodtScript.feedGoal > 0) {
-                if (plan.length() > 0) { plan.append(" | "); prog.append(" | "); }
-                plan.append("Fe ").append(MKE_WintertodtScript.feedGoal);
-                prog.append(MKE_WintertodtScript.fedThisRun)
-                    .append('/').append(MKE_WintertodtScript.feedGoal);
-            }
-
-            if (plan.length() > 0) {
-                panelComponent.getChildren().add(LineComponent.builder()
-                        .left("Plan:")
-                        .right(plan.toString())
+            if (WintertodtBreakManager.isBreakActive()) {
+                String breakType = WintertodtBreakManager.isAfkBreakActive() ? "AFK Break" : "Logout Break";
+                Color breakColor = WintertodtBreakManager.isAfkBreakActive() ? Color.ORANGE : Color.RED;
+                
+                lines.add(LineComponent.builder()
+                        .left("Break Active:")
+                        .right(breakType)
                         .leftColor(Color.WHITE)
-                        .rightColor(Color.CYAN)
+                        .rightColor(breakColor)
                         .build());
 
-                panelComponent.getChildren().add(LineComponent.builder()
-                        .left("Progress:")
-                        .right(prog.toString())
+                lines.add(LineComponent.builder()
+                        .left("Time Remaining:")
+                        .right(WintertodtBreakManager.getBreakTimeRemaining())
+                        .leftColor(Color.WHITE)
+                        .rightColor(Color.YELLOW)
+                        .build());
+            } else {
+                lines.add(LineComponent.builder()
+                        .left("Next Break In:")
+                        .right(WintertodtBreakManager.getTimeUntilNextBreak())
                         .leftColor(Color.WHITE)
                         .rightColor(Color.GREEN)
                         .build());
             }
 
-            /* ---- Possible cycles left in the round ------------------- */
-            if (MKE_WintertodtScript.cycleTimeSec > 0)
-            {
-                int cyclesLeft = (int) Math.floor(
-                        Math.max(0,
-                                (MKE_WintertodtScript.estimatedSecondsLeft - 10)   // keep 10 s safety
-                                / MKE_WintertodtScript.cycleTimeSec));
-
-                cyclesLeft += MKE_WintertodtScript.EXTRA_ROOTS_BUFFER;           // include the plan buffer
-
-                if (cyclesLeft > 0)     // show only when meaningful
-                {
-                    panelComponent.getChildren().add(LineComponent.builder()
-                            .left("Est. Feeds left:")
-                            .right(String.valueOf(cyclesLeft))
-                            .leftColor(Color.WHITE)
-                            .rightColor(Color.CYAN)
-                            .build());
-                }
-            }
-
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Full Cycle Time:")
-                    .right(String.format("%.2fs", MKE_WintertodtScript.cycleTimeSec))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.CYAN)
-                    .build());
-
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Avg Chop:")
-                    .right(String.format("%.2fs", MKE_WintertodtScript.avgChopMs / 1000.0))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.LIGHT_GRAY)
-                    .build());
-
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Avg Fletch:")
-                    .right(String.format("%.2fs", MKE_WintertodtScript.avgFletchMs / 1000.0))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.LIGHT_GRAY)
-                    .build());
-
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left("Avg Feed:")
-                    .right(String.format("%.2fs", MKE_WintertodtScript.avgFeedMs / 1000.0))
-                    .leftColor(Color.WHITE)
-                    .rightColor(Color.LIGHT_GRAY)
-                    .build());
-
             addSeparator();
-
-            // Break System Information
-            if (config.enableCustomBreaks()) {
-                panelComponent.getChildren().add(TitleComponent.builder()
-                        .text("Custom Break System")
-                        .color(Color.MAGENTA)
-                        .build());
-
-                if (WintertodtBreakManager.isBreakActive()) {
-                    String breakType = WintertodtBreakManager.isAfkBreakActive() ? "AFK Break" : "Logout Break";
-                    Color breakColor = WintertodtBreakManager.isAfkBreakActive() ? Color.ORANGE : Color.RED;
-                    
-                    panelComponent.getChildren().add(LineComponent.builder()
-                            .left("Break Active:")
-                            .right(breakType)
-                            .leftColor(Color.WHITE)
-                            .rightColor(breakColor)
-                            .build());
-
-                    panelComponent.getChildren().add(LineComponent.builder()
-                            .left("Time Remaining:")
-                            .right(WintertodtBreakManager.getBreakTimeRemaining())
-                            .leftColor(Color.WHITE)
-                            .rightColor(Color.YELLOW)
-                            .build());
-                } else {
-                    panelComponent.getChildren().add(LineComponent.builder()
-                            .left("Next Break In:")
-                            .right(WintertodtBreakManager.getTimeUntilNextBreak())
-                            .leftColor(Color.WHITE)
-                            .rightColor(Color.GREEN)
-                            .build());
-                }
-
-                addSeparator();
-            }
-
-            // Add antiban overlay components if antiban is enabled and user wants to show it
-            if (config.showAntibanOverlay() && Rs2AntibanSettings.antibanEnabled && Rs2Antiban.getActivity() != null) {
-                Rs2Antiban.renderAntibanOverlayComponents(panelComponent);
-            }
-
-        } catch (Exception ex) {
-            // Graceful error handling for overlay rendering
-            System.err.println("Error rendering Wintertodt overlay: " + ex.getMessage());
-            ex.printStackTrace();
         }
-        return super.render(graphics);
     }
 
     /**
      * Adds a separator line to the overlay for better visual organization.
      */
     private void addSeparator() {
-        panelComponent.getChildren().add(LineComponent.builder().build());
+        lines.add(LineComponent.builder().build());
+    }
+
+    /**
+     * Formats the smoothed duration of an action together with its p90.
+     */
+    private String formatActionTiming(TimedAction action) {
+        WintertodtRollingStats stats = MKE_WintertodtScript.timingStats.getAction(action);
+        if (stats.isEmpty()) {
+            return String.format("%.2fs", stats.getEma() / 1000.0);
+        }
+        return String.format("%.2fs (p90 %.2fs)", stats.getEma() / 1000.0, stats.getP90() / 1000.0);
     }
 
     /**
@@ -445,22 +509,22 @@ public class MKE_WintertodtOverlay extends OverlayPanel {
             case GET_CONCOCTIONS:
                 return Color.PINK;
             case GET_HERBS:
-                return new Color(144, 238, 144); // Light green
+                return LIGHT_GREEN;
             case MAKE_POTIONS:
-                return new Color(255, 165, 0); // Orange
+                return ORANGE;
             // Reward Cart Looting States
             case EXITING_FOR_REWARDS:
-                return new Color(255, 215, 0); // Gold
+                return GOLD;
             case WALKING_TO_REWARDS_BANK:
-                return new Color(255, 140, 0); // Dark orange
+                return DARK_ORANGE;
             case BANKING_FOR_REWARDS:
-                return new Color(30, 144, 255); // Dodger blue
+                return DODGER_BLUE;
             case WALKING_TO_REWARD_CART:
-                return new Color(255, 20, 147); // Deep pink
+                return DEEP_PINK;
             case LOOTING_REWARD_CART:
-                return new Color(50, 205, 50); // Lime green
+                return LIME_GREEN;
             case RETURNING_FROM_REWARDS:
-                return new Color(255, 255, 0); // Yellow
+                return Color.YELLOW;
             default:
                 return Color.WHITE;
         }
@@ -7,6 +7,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.HitsplatApplied;
 import net.runelite.api.events.StatChanged;
 import net.runelite.client.config.ConfigManager;
@@ -84,6 +85,10 @@ public class MKE_WintertodtPlugin extends Plugin {
     @Getter(AccessLevel.PACKAGE)
     private boolean scriptStarted;
 
+    // Incremented every game tick, the overlay rebuilds its lines when it changes
+    @Getter(AccessLevel.PACKAGE)
+    private volatile int overlayVersion;
+
     private Instant scriptStartTime;
 
     // Additional tracking for enhanced features
@@ -477,6 +482,14 @@ public class MKE_WintertodtPlugin extends Plugin {
         }
     }
 
+    /**
+     * Publishes a new overlay version, the statistics behind the overlay change at most once per tick.
+     */
+    @Subscribe
+    public void onGameTick(GameTick event) {
+        overlayVersion++;
+    }
+
     /**
      * Handles hitsplat applied events for damage tracking.
      */
@@ -1,6 +1,7 @@
 package net.runelite.client.plugins.microbot.mke_wintertodt;
 
 import net.runelite.api.*;
+import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.HitsplatApplied;
 import net.runelite.api.events.StatChanged;
@@ -27,6 +28,7 @@ import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import net.runelite.client.plugins.microbot.mke_wintertodt.enums.State;
+import net.runelite.client.plugins.microbot.mke_wintertodt.enums.TimedAction;
 import net.runelite.client.plugins.microbot.mke_wintertodt.startup.WintertodtStartupManager;
 import net.runelite.client.plugins.microbot.mke_wintertodt.startup.gear.WintertodtAxeManager;
 import net.runelite.client.plugins.microbot.mke_wintertodt.startup.gear.WintertodtGearManager;
@@ -36,6 +38,7 @@ import net.runelite.client.plugins.microbot.mke_wintertodt.startup.inventory.Win
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -145,7 +148,6 @@ public class MKE_WintertodtScript extends Script {
     private long lastSpamClick = 0;
 
     // For historical round time tracking
-    private final java.util.List<Long> previousRoundDurations = new java.util.LinkedList<>();
     private long currentRoundStartTime = 0;
 
     // Flag to prioritize brazier lighting at round start
@@ -166,10 +168,8 @@ public class MKE_WintertodtScript extends Script {
     public static double  estimatedSecondsLeft = 999;
     private double addToEstimatedTimePerCycleMs = 1200;
 
-    // average action durations (ms) – refined live while the script runs
-    public static double  avgChopMs   = 2800;
-    public static double  avgFletchMs = 2200;
-    public static double  avgFeedMs   = 1600;
+    // action and round durations – refined live while the script runs
+    public static final WintertodtTimingStats timingStats = new WintertodtTimingStats();
 
     public static double cycleTimeSec = 0;
     public static int maxCyclesPossible = 0;
@@ -226,9 +226,6 @@ public class MKE_WintertodtScript extends Script {
     private static final int REWARD_CART_WIDGET_PARENT = 229;
     private static final int REWARD_CART_WIDGET_CHILD = 3;
 
-    /* Default round length (ms) used until we have real data */
-    private static final long DEFAULT_ROUND_DURATION_MS = 250_000;
-
     /** max distance (tiles) from our brazier at which chopping is allowed */
     private static final int CHOPPING_RADIUS = 10;
 
@@ -239,10 +236,28 @@ public class MKE_WintertodtScript extends Script {
     private final WorldPoint BREWMA_NPC_LOCATION = new WorldPoint(1635, 3986, 0);
     private final WorldPoint BREWMA_NPC_INTERACT_LOCATION = new WorldPoint(1634, 3986, 0);
 
+    private static final Pattern ENERGY_PATTERN = Pattern.compile("(\\d+)");
+    private static final Pattern WARMTH_PATTERN = Pattern.compile("(\\d+)%");
+    private static final Pattern DIGITS_PATTERN = Pattern.compile("\\d+");
+
+    /** Snapshot of the current game tick, rebuilt at most once per tick */
+    private GameState tickGameState;
+
+    /* ---------- per-tick cost counters (overlay) ---------- */
+    /** Time in microseconds it took to build the last game state snapshot */
+    public static volatile long lastGameStateBuildMicros = 0;
+    /** Number of game state reads served from the snapshot during the last completed tick */
+    public static volatile int gameStateReadsLastTick = 0;
+    /** Duration of the last main loop iteration in milliseconds */
+    public static volatile long lastLoopTimeMs = 0;
+    private int gameStateReadsThisTick = 0;
+
     /**
      * Inner class to hold comprehensive game state information.
+     * Built once per game tick by {@link #analyzeGameState()} and treated as read-only afterwards.
      */
     private static class GameState {
+        int tick = -1;
         boolean wintertodtRespawning;
         boolean isWintertodtAlive;
         int playerWarmth;
@@ -255,6 +270,10 @@ public class MKE_WintertodtScript extends Script {
         boolean inventoryFull;
         boolean hasItemsToBurn;
         boolean hasRootsToFletch;
+        int rootCount;
+        int kindlingCount;
+        int herbCount;
+        int foodCount;
     }
     
     /**
@@ -361,7 +380,7 @@ public class MKE_WintertodtScript extends Script {
                     {
                         duration = now - lastWoodcuttingXpDropTime;
                         if (duration > 600 && duration < 10000)
-                            noteActionDuration("CHOP", duration);
+                            noteActionDuration(TimedAction.CHOP, duration);
                     }
                     lastWoodcuttingXpDropTime = now;
                 }
@@ -372,7 +391,7 @@ public class MKE_WintertodtScript extends Script {
                     if (lastFletchingXpDropTime > 0) {
                         duration = now - lastFletchingXpDropTime;
                         if (duration > 600 && duration < 10000) { // Sanity check
-                            noteActionDuration("FLETCH", duration);
+                            noteActionDuration(TimedAction.FLETCH, duration);
                         }
                     }
                     lastFletchingXpDropTime = now;
@@ -384,7 +403,7 @@ public class MKE_WintertodtScript extends Script {
                     if (lastFiremakingXpDropTime > 0) {
                         duration = now - lastFiremakingXpDropTime;
                         if (duration > 600 && duration < 10000) { // Sanity check
-                            noteActionDuration("FEED", duration);
+                            noteActionDuration(TimedAction.FEED, duration);
                         }
                     }
                     lastFiremakingXpDropTime = now;
@@ -622,23 +641,18 @@ public class MKE_WintertodtScript extends Script {
      * Checks for all possible fletching interruption conditions
      */
     private FletchingInterruptType checkFletchingInterruptions() {
+        GameState gameState = analyzeGameState();
+
         // Check if we ran out of roots
-        int currentRoots = Rs2Inventory.count(ItemID.BRUMA_ROOT);
-        if (currentRoots == 0) {
+        if (gameState.rootCount == 0) {
             return FletchingInterruptType.OUT_OF_ROOTS;
         }
         
         // Check if round ended
-        GameState gameState = analyzeGameState();
         if (!gameState.isWintertodtAlive || gameState.wintertodtHp == 0) {
             return FletchingInterruptType.ROUND_ENDED;
         }
         
-        // Check if we have no more roots to fletch
-        if (Rs2Inventory.count(ItemID.BRUMA_ROOT) == 0) {
-            return FletchingInterruptType.NO_MORE_ROOTS;
-        }
-        
         // Check if player moved from start location
         WorldPoint currentLocation = Rs2Player.getWorldLocation();
         if (!fletchingState.getStartLocation().equals(currentLocation)) {
@@ -646,7 +660,7 @@ public class MKE_WintertodtScript extends Script {
         }
         
         // Check if player ate (warmth increased) (Foods usually increase at least 30 warmth)
-        if (getWarmthLevel() > fletchingState.getWarmthAtStart() + 29) {
+        if (gameState.playerWarmth > fletchingState.getWarmthAtStart() + 29) {
             return FletchingInterruptType.PLAYER_ATE;
         }
         
@@ -690,14 +704,15 @@ public class MKE_WintertodtScript extends Script {
      * Checks for all possible feeding interruption conditions
      */
     private FeedingInterruptType checkFeedingInterruptions() {
+        GameState gameState = analyzeGameState();
+
         // Check if we ran out of items to feed
-        int currentItems = Rs2Inventory.count(ItemID.BRUMA_ROOT) + Rs2Inventory.count(ItemID.BRUMA_KINDLING);
+        int currentItems = gameState.rootCount + gameState.kindlingCount;
         if (currentItems == 0) {
             return FeedingInterruptType.OUT_OF_ITEMS;
         }
         
         // Check if round ended
-        GameState gameState = analyzeGameState();
         if (!gameState.isWintertodtAlive || gameState.wintertodtHp == 0) {
             return FeedingInterruptType.ROUND_ENDED;
         }
@@ -718,7 +733,7 @@ public class MKE_WintertodtScript extends Script {
         }
         
         // Check if player ate (warmth increased)
-        if (getWarmthLevel() > feedingState.getWarmthAtStart() + 29) {
+        if (gameState.playerWarmth > feedingState.getWarmthAtStart() + 29) {
             return FeedingInterruptType.PLAYER_ATE;
         }
         
@@ -736,7 +751,7 @@ public class MKE_WintertodtScript extends Script {
         }
         
         // Check if warmth is too low (need to eat)
-        int currentWarmth = getWarmthLevel();
+        int currentWarmth = gameState.playerWarmth;
         if (currentWarmth <= config.eatAtWarmthLevel()) {
             return FeedingInterruptType.WARMTH_TOO_LOW;
         }
@@ -1136,8 +1151,6 @@ public class MKE_WintertodtScript extends Script {
         hoverBeforeStartTime = 0;
         lastKnownRemainingSeconds = -1;
         currentRoundStartTime = 0;
-        previousRoundDurations.clear();
-        previousRoundDurations.add(DEFAULT_ROUND_DURATION_MS);
         
         // Reset spam clicking variables
         spamClickingActive = false;
@@ -1155,10 +1168,8 @@ public class MKE_WintertodtScript extends Script {
         estimatedSecondsLeft = 999;
         historicalEstimateSecondsLeft = 0;
         
-        // Reset action timing averages
-        avgChopMs = 2800;
-        avgFletchMs = 2200;
-        avgFeedMs = 1600;
+        // Reset action and round timing statistics
+        timingStats.reset();
         cycleTimeSec = 0;
         maxCyclesPossible = 0;
         
@@ -1341,9 +1352,8 @@ public class MKE_WintertodtScript extends Script {
                 return false;
             }
 
-            /* -------- seed round-duration history with default -------- */
-            previousRoundDurations.clear();
-            previousRoundDurations.add(DEFAULT_ROUND_DURATION_MS);
+            /* -------- start with the default round duration -------- */
+            timingStats.resetRounds();
 
             isInitialized = true;
 
@@ -1428,10 +1438,32 @@ public class MKE_WintertodtScript extends Script {
     }
 
     /**
-     * Analyzes the current game state and returns a comprehensive state object.
+     * Returns the game state snapshot of the current game tick, analyzing it if this is the first read this tick.
      */
     private GameState analyzeGameState() {
+        int tick = Microbot.getClient().getTickCount();
+        GameState cached = tickGameState;
+        if (cached != null && cached.tick == tick) {
+            gameStateReadsThisTick++;
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        GameState gameState = buildGameState(tick);
+        lastGameStateBuildMicros = (System.nanoTime() - start) / 1000;
+        gameStateReadsLastTick = gameStateReadsThisTick;
+        gameStateReadsThisTick = 1;
+
+        tickGameState = gameState;
+        return gameState;
+    }
+
+    /**
+     * Analyzes the current game state and returns a comprehensive state object.
+     */
+    private GameState buildGameState(int tick) {
         GameState gameState = new GameState();
+        gameState.tick = tick;
 
         try {
             /* ----- round-timer + HP based lifecycle detection ----- */
@@ -1442,7 +1474,7 @@ public class MKE_WintertodtScript extends Script {
             int wtHp = -1;
             Widget energyWidget = Rs2Widget.getWidget(396, 26);
             if (energyWidget != null) {
-                Matcher m = Pattern.compile("(\\d+)").matcher(energyWidget.getText());
+                Matcher m = ENERGY_PATTERN.matcher(energyWidget.getText());
                 if (m.find()) {
                     wtHp = Integer.parseInt(m.group(1));
                 }
@@ -1461,21 +1493,43 @@ public class MKE_WintertodtScript extends Script {
 
             gameState.playerWarmth      = getWarmthLevel();
 
-            // Object detection
-            gameState.brazier        = Rs2GameObject.findObject(BRAZIER_29312,
-                                          config.brazierLocation().getOBJECT_BRAZIER_LOCATION());
-            gameState.brokenBrazier  = Rs2GameObject.findObject(BRAZIER_29313,
-                                          config.brazierLocation().getOBJECT_BRAZIER_LOCATION());
-            gameState.burningBrazier = Rs2GameObject.findObject(BURNING_BRAZIER_29314,
-                                          config.brazierLocation().getOBJECT_BRAZIER_LOCATION());
+            // Object detection - all brazier variants share the same tile
+            resolveBraziers(gameState, config.brazierLocation().getOBJECT_BRAZIER_LOCATION());
 
             // Health and food management - determine healing strategy
             if (!autoAdjustedPotionUsage) {
                 usesPotions = (config.healingMethod() == HealingMethod.POTIONS);
             }
-            
-            String foodType = usesPotions ? "Rejuvenation potion " : config.food().getName();
-            int foodCount   = Rs2Inventory.count(foodType);     // current food in inventory
+
+            // Inventory state, counted in a single pass
+            String foodType = (usesPotions ? "Rejuvenation potion " : config.food().getName()).toLowerCase();
+            int occupiedSlots = 0;
+            Iterator<Rs2ItemModel> items = Rs2Inventory.items().iterator();
+            while (items.hasNext()) {
+                Rs2ItemModel item = items.next();
+                if (item == null) {
+                    continue;
+                }
+                occupiedSlots++;
+                switch (item.getId()) {
+                    case ItemID.BRUMA_ROOT:
+                        gameState.rootCount++;
+                        break;
+                    case ItemID.BRUMA_KINDLING:
+                        gameState.kindlingCount++;
+                        break;
+                    case ItemID.BRUMA_HERB:
+                        gameState.herbCount++;
+                        break;
+                    default:
+                        if (item.getName() != null && item.getName().toLowerCase().contains(foodType)) {
+                            gameState.foodCount++;
+                        }
+                        break;
+                }
+            }
+
+            int foodCount   = gameState.foodCount;              // current food in inventory
             boolean inBossRoom = WintertodtLocationManager.isInsideGameRoom();
 
             boolean lowAndOutOfFood =
@@ -1510,13 +1564,12 @@ public class MKE_WintertodtScript extends Script {
                 gameState.needPotions = false;
             }
 
-            // Inventory state
-            gameState.inventoryFull = Rs2Inventory.isFull();
-            gameState.hasItemsToBurn = Rs2Inventory.hasItem(ItemID.BRUMA_KINDLING) || Rs2Inventory.hasItem(ItemID.BRUMA_ROOT);
-            gameState.hasRootsToFletch = Rs2Inventory.hasItem(ItemID.BRUMA_ROOT);
+            gameState.inventoryFull = occupiedSlots >= 28;
+            gameState.hasItemsToBurn = gameState.kindlingCount > 0 || gameState.rootCount > 0;
+            gameState.hasRootsToFletch = gameState.rootCount > 0;
 
             // For overlay action plan
-            currentBurnableCount = Rs2Inventory.count(ItemID.BRUMA_ROOT) + Rs2Inventory.count(ItemID.BRUMA_KINDLING);
+            currentBurnableCount = gameState.rootCount + gameState.kindlingCount;
 
         } catch (Exception e) {
             System.err.println("Error analyzing game state: " + e.getMessage());
@@ -1525,6 +1578,39 @@ public class MKE_WintertodtScript extends Script {
         return gameState;
     }
 
+    /**
+     * Resolves the unlit, broken and burning brazier from a single lookup of the brazier tile.
+     */
+    private static void resolveBraziers(GameState gameState, WorldPoint brazierLocation) {
+        WorldView worldView = Microbot.getClient().getTopLevelWorldView();
+        LocalPoint localPoint = LocalPoint.fromWorld(worldView, brazierLocation);
+        if (localPoint == null) {
+            return;
+        }
+
+        Tile tile = worldView.getScene().getTiles()[brazierLocation.getPlane()][localPoint.getSceneX()][localPoint.getSceneY()];
+        if (tile == null) {
+            return;
+        }
+
+        for (GameObject gameObject : tile.getGameObjects()) {
+            if (gameObject == null) {
+                continue;
+            }
+            switch (gameObject.getId()) {
+                case BRAZIER_29312:
+                    gameState.brazier = gameObject;
+                    break;
+                case BRAZIER_29313:
+                    gameState.brokenBrazier = gameObject;
+                    break;
+                case BURNING_BRAZIER_29314:
+                    gameState.burningBrazier = gameObject;
+                    break;
+            }
+        }
+    }
+
     /**
      * Handles emergency situations that require immediate attention.
      *
@@ -1940,7 +2026,7 @@ public class MKE_WintertodtScript extends Script {
 
         // Determine what we need and start the appropriate state
         int concoctionCount = Rs2Inventory.count(ItemID.REJUVENATION_POTION_UNF);
-        int herbCount = Rs2Inventory.count(ItemID.BRUMA_HERB);
+        int herbCount = gameState.herbCount;
         int currentPotions = getTotalRejuvenationPotions();
         int potionsNeeded = config.healingAmount() - currentPotions;
 
@@ -2262,8 +2348,7 @@ public class MKE_WintertodtScript extends Script {
 
             // stop when plan met (root-count already added in onStatChanged)
             if (targetRootsForThisRun > 0
-                && (Rs2Inventory.count(ItemID.BRUMA_ROOT)
-                    + Rs2Inventory.count(ItemID.BRUMA_KINDLING)) >= targetRootsForThisRun)
+                && (gameState.rootCount + gameState.kindlingCount) >= targetRootsForThisRun)
             {
                 setLockState(State.CHOP_ROOTS, false);
                 changeState(State.WAITING);
@@ -2369,7 +2454,7 @@ public class MKE_WintertodtScript extends Script {
                 deselectSelectedItem();
             }
 
-            int rootCount = Rs2Inventory.count(ItemID.BRUMA_ROOT);
+            int rootCount = gameState.rootCount;
 
             /* --- recalculate threshold only when starting a new full inventory cycle --- */
             if (rootCount > lastInventoryCount) {
@@ -2523,7 +2608,7 @@ public class MKE_WintertodtScript extends Script {
             }
             /* ----------------------------------------------------------------- */
 
-            int currentItems = Rs2Inventory.count(ItemID.BRUMA_ROOT) + Rs2Inventory.count(ItemID.BRUMA_KINDLING);
+            int currentItems = gameState.rootCount + gameState.kindlingCount;
 
             /* END feeding as soon as no items remain ---------------- */
             if (currentItems == 0) {
@@ -3203,7 +3288,7 @@ public class MKE_WintertodtScript extends Script {
             }
 
             // Calculate the total time it takes to get and process one log
-            double singleLogProcessingTimeSec = (avgChopMs + (config.fletchRoots() ? avgFletchMs : 0) + avgFeedMs + addToEstimatedTimePerCycleMs) / 1000.0;
+            double singleLogProcessingTimeSec = (timingStats.getCycleMs(config.fletchRoots()) + addToEstimatedTimePerCycleMs) / 1000.0;
             if (singleLogProcessingTimeSec <= 0.1) {
                 return false; // Avoid division by zero if averages are not ready
             }
@@ -3237,7 +3322,7 @@ public class MKE_WintertodtScript extends Script {
         }
 
         // --- Execute the current plan ---
-        int currentRoots = Rs2Inventory.count(ItemID.BRUMA_ROOT) + Rs2Inventory.count(ItemID.BRUMA_KINDLING);
+        int currentRoots = gameState.rootCount + gameState.kindlingCount;
         if (currentRoots < targetRootsForThisRun) {
             changeState(State.CHOP_ROOTS, true);
             return true; // We need to chop more to meet our goal
@@ -3519,16 +3604,14 @@ public class MKE_WintertodtScript extends Script {
             }
 
             // Primary pattern: digits before %
-            Pattern pattern = Pattern.compile("(\\d+)%");
-            Matcher matcher = pattern.matcher(warmthWidgetText);
+            Matcher matcher = WARMTH_PATTERN.matcher(warmthWidgetText);
 
             if (matcher.find()) {
                 return Integer.parseInt(matcher.group(1));
             }
 
             // Fallback pattern: any digits
-            Pattern fallbackPattern = Pattern.compile("\\d+");
-            Matcher fallbackMatcher = fallbackPattern.matcher(warmthWidgetText);
+            Matcher fallbackMatcher = DIGITS_PATTERN.matcher(warmthWidgetText);
 
             if (fallbackMatcher.find()) {
                 return Integer.parseInt(fallbackMatcher.group());
@@ -3549,6 +3632,7 @@ public class MKE_WintertodtScript extends Script {
      */
     private void trackPerformance(long loopStartTime) {
         long loopTime = System.currentTimeMillis() - loopStartTime;
+        lastLoopTimeMs = loopTime;
 
         // Log performance occasionally
         if (System.currentTimeMillis() - lastPerformanceCheck > 60000) { // Every minute
@@ -4039,6 +4123,9 @@ public class MKE_WintertodtScript extends Script {
     public void shutdown() {
         Microbot.log("Shutting down Enhanced Wintertodt Script");
         
+        // Export timing statistics before they are reset
+        exportTimingStats();
+        
         // Complete state reset to ensure clean shutdown
         resetAllScriptState();
         
@@ -4130,11 +4217,9 @@ public class MKE_WintertodtScript extends Script {
                     if (currentRoundStartTime > 0) {
                         long roundDuration = currentTime - currentRoundStartTime;
                         if (roundDuration > 30000 && roundDuration < 600000) { // 30s-10min sanity check
-                            previousRoundDurations.add(roundDuration);
-                            if (previousRoundDurations.size() > 10) { // Keep last 10 rounds
-                                ((java.util.LinkedList<Long>) previousRoundDurations).removeFirst();
-                            }
-                            Microbot.log("Logged round duration: " + (roundDuration / 1000) + "s. History size: " + previousRoundDurations.size());
+                            timingStats.recordRound(roundDuration);
+                            Microbot.log("Logged round duration: " + (roundDuration / 1000) + "s. History size: " + timingStats.getRoundCount()
+                                    + ", p50: " + (long) (timingStats.getRoundP50Ms() / 1000) + "s, p90: " + (long) (timingStats.getRoundP90Ms() / 1000) + "s");
                         }
                         currentRoundStartTime = 0;
                     }
@@ -4299,19 +4384,14 @@ public class MKE_WintertodtScript extends Script {
         if (hpPerSecond > 0.01) {
             double dpsBasedEstimate = currentHp / hpPerSecond;
 
-            if (!previousRoundDurations.isEmpty()) {
-                double avgDurationMs = previousRoundDurations.stream().mapToLong(Long::longValue).average().orElse(0);
-                if (avgDurationMs > 0) {
-                    // Scale historical average by current HP percentage.
-                    double historicalScaledEstimate = (avgDurationMs / 1000.0) * (currentHp / 100.0);
-                    historicalEstimateSecondsLeft = historicalScaledEstimate;
+            double avgDurationMs = timingStats.getRoundMs();
+            if (avgDurationMs > 0) {
+                // Scale historical average by current HP percentage.
+                double historicalScaledEstimate = (avgDurationMs / 1000.0) * (currentHp / 100.0);
+                historicalEstimateSecondsLeft = historicalScaledEstimate;
 
-                    // Blend the two estimates. Give more weight to historical as it's more stable.
-                    estimatedSecondsLeft = (dpsBasedEstimate * 0.2) + (historicalScaledEstimate * 0.8);
-                } else {
-                    estimatedSecondsLeft = dpsBasedEstimate;
-                    historicalEstimateSecondsLeft = 0;
-                }
+                // Blend the two estimates. Give more weight to historical as it's more stable.
+                estimatedSecondsLeft = (dpsBasedEstimate * 0.2) + (historicalScaledEstimate * 0.8);
             } else {
                 estimatedSecondsLeft = dpsBasedEstimate;
                 historicalEstimateSecondsLeft = 0;
@@ -4323,29 +4403,28 @@ public class MKE_WintertodtScript extends Script {
     }
 
     /* ---- update average action durations live --------------------------- */
-    private static void noteActionDuration(String type, long duration) {
-        double dur = duration;
-        switch (type) {
-            case "CHOP":
-                avgChopMs = (avgChopMs * 0.8) + (dur * 0.2);
-                break;
-            case "FLETCH":
-                avgFletchMs = (avgFletchMs * 0.8) + (dur * 0.2);
-                break;
-            case "FEED":
-                avgFeedMs = (avgFeedMs * 0.8) + (dur * 0.2);
-                break;
-        }
+    private static void noteActionDuration(TimedAction action, long duration) {
+        timingStats.recordAction(action, duration);
 
         /* ---- recompute full-cycle estimate for overlay ---- */
-        cycleTimeSec = (avgChopMs
-                       + (config != null && config.fletchRoots() ? avgFletchMs : 0)
-                       + avgFeedMs) / 1000.0;
+        cycleTimeSec = timingStats.getCycleMs(config != null && config.fletchRoots()) / 1000.0;
     }
 
-    private void noteActionDuration(String type, long startMs, long endMs)
-    {
-        noteActionDuration(type, endMs - startMs);
+    /**
+     * Appends the timing statistics of this session to the export file, so estimates can be tuned across accounts.
+     */
+    private void exportTimingStats() {
+        try {
+            String account = Microbot.getClient().getLocalPlayer() != null
+                    ? Microbot.getClient().getLocalPlayer().getName()
+                    : "";
+            java.nio.file.Path file = timingStats.export(account);
+            if (file != null) {
+                Microbot.log("Exported Wintertodt timing statistics to " + file);
+            }
+        } catch (Exception e) {
+            System.err.println("Error exporting timing statistics: " + e.getMessage());
+        }
     }
 
     /* --------------------------------------------------------------------- */
@@ -0,0 +1,116 @@
+package net.runelite.client.plugins.microbot.mke_wintertodt;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring buffer of duration samples with mean, EMA and percentiles.
+ * Adding a sample never allocates: the oldest sample is overwritten once the buffer is full
+ * and the running sum is adjusted instead of re-averaging the whole history.
+ * Percentiles are computed on demand from a preallocated scratch buffer.
+ *
+ * Samples are added from the client thread and read from the script and overlay threads,
+ * so all access is synchronized.
+ *
+ * @author MakeCD
+ * @version 1.0.0
+ */
+public class WintertodtRollingStats {
+
+    private final long[] samples;
+    private final long[] sorted;
+    private final double emaAlpha;
+    private final double seed;
+
+    private int head = 0;
+    private int count = 0;
+    private long sum = 0;
+    private double ema;
+    private long totalSamples = 0;
+
+    /**
+     * @param capacity number of most recent samples to keep
+     * @param emaAlpha weight of a new sample in the EMA
+     * @param seed value reported while no samples have been added
+     */
+    public WintertodtRollingStats(int capacity, double emaAlpha, double seed) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.samples = new long[capacity];
+        this.sorted = new long[capacity];
+        this.emaAlpha = emaAlpha;
+        this.seed = seed;
+        this.ema = seed;
+    }
+
+    public synchronized void add(long sample) {
+        if (count == samples.length) {
+            sum -= samples[head];
+        } else {
+            count++;
+        }
+        samples[head] = sample;
+        head = (head + 1) % samples.length;
+        sum += sample;
+        totalSamples++;
+
+        ema = (ema * (1 - emaAlpha)) + (sample * emaAlpha);
+    }
+
+    /**
+     * Drops all samples and resets the EMA to the seed value.
+     */
+    public synchronized void reset() {
+        head = 0;
+        count = 0;
+        sum = 0;
+        totalSamples = 0;
+        ema = seed;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * @return number of samples added since the last reset, including overwritten ones
+     */
+    public synchronized long getTotalSamples() {
+        return totalSamples;
+    }
+
+    public synchronized boolean isEmpty() {
+        return count == 0;
+    }
+
+    public synchronized double getMean() {
+        return count == 0 ? seed : (double) sum / count;
+    }
+
+    public synchronized double getEma() {
+        return ema;
+    }
+
+    public synchronized double getP50() {
+        return percentile(0.5);
+    }
+
+    public synchronized double getP90() {
+        return percentile(0.9);
+    }
+
+    /**
+     * Nearest-rank percentile of the buffered samples.
+     *
+     * @param fraction percentile between 0 and 1
+     */
+    public synchronized double percentile(double fraction) {
+        if (count == 0) {
+            return seed;
+        }
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int rank = (int) Math.ceil(fraction * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, rank))];
+    }
+}
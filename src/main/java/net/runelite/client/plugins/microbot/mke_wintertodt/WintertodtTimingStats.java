@@ -0,0 +1,155 @@
+package net.runelite.client.plugins.microbot.mke_wintertodt;
+
+import net.runelite.client.RuneLite;
+import net.runelite.client.plugins.microbot.mke_wintertodt.enums.TimedAction;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Timing statistics for Wintertodt actions and rounds.
+ * Feeds the round-time estimator and the roots-to-chop planner, and can be exported
+ * as CSV so estimates can be tuned with data from many accounts.
+ *
+ * @author MakeCD
+ * @version 1.0.0
+ */
+public class WintertodtTimingStats {
+
+    /** Default round length used until the first real round has been timed */
+    public static final long DEFAULT_ROUND_DURATION_MS = 250_000;
+
+    private static final int ACTION_HISTORY = 50;
+    private static final int ROUND_HISTORY = 10;
+    private static final double ACTION_EMA_ALPHA = 0.2;
+    private static final double ROUND_EMA_ALPHA = 0.3;
+
+    private static final String CSV_HEADER = "timestamp,account,metric,samples,mean_ms,ema_ms,p50_ms,p90_ms";
+    private static final Path EXPORT_FILE = new File(new File(RuneLite.RUNELITE_DIR, "mke_wintertodt"), "timing-stats.csv").toPath();
+
+    private final Map<TimedAction, WintertodtRollingStats> actions = new EnumMap<>(TimedAction.class);
+    private final WintertodtRollingStats rounds = new WintertodtRollingStats(ROUND_HISTORY, ROUND_EMA_ALPHA, DEFAULT_ROUND_DURATION_MS);
+
+    public WintertodtTimingStats() {
+        for (TimedAction action : TimedAction.values()) {
+            actions.put(action, new WintertodtRollingStats(ACTION_HISTORY, ACTION_EMA_ALPHA, action.getDefaultDurationMs()));
+        }
+    }
+
+    public void recordAction(TimedAction action, long durationMs) {
+        actions.get(action).add(durationMs);
+    }
+
+    public void recordRound(long durationMs) {
+        rounds.add(durationMs);
+    }
+
+    public WintertodtRollingStats getAction(TimedAction action) {
+        return actions.get(action);
+    }
+
+    /**
+     * Drops the timed rounds, the round length falls back to {@link #DEFAULT_ROUND_DURATION_MS}.
+     */
+    public void resetRounds() {
+        rounds.reset();
+    }
+
+    public int getRoundCount() {
+        return rounds.getCount();
+    }
+
+    public double getRoundP50Ms() {
+        return rounds.getP50();
+    }
+
+    public double getRoundP90Ms() {
+        return rounds.getP90();
+    }
+
+    /**
+     * Smoothed duration of one action, used for planning.
+     */
+    public double getActionMs(TimedAction action) {
+        return actions.get(action).getEma();
+    }
+
+    /**
+     * Average round length, falls back to {@link #DEFAULT_ROUND_DURATION_MS} until a round has been timed.
+     */
+    public double getRoundMs() {
+        return rounds.getMean();
+    }
+
+    /**
+     * Time to chop, optionally fletch, and feed a single root.
+     */
+    public double getCycleMs(boolean fletch) {
+        return getActionMs(TimedAction.CHOP)
+                + (fletch ? getActionMs(TimedAction.FLETCH) : 0)
+                + getActionMs(TimedAction.FEED);
+    }
+
+    public void reset() {
+        actions.values().forEach(WintertodtRollingStats::reset);
+        rounds.reset();
+    }
+
+    /**
+     * Formats all statistics as CSV rows, one per action plus one for rounds.
+     *
+     * @param account account label written into each row, may be empty
+     */
+    public String toCsv(String account, boolean includeHeader) {
+        long timestamp = System.currentTimeMillis();
+        String label = account == null ? "" : account.replace(",", " ");
+        StringBuilder csv = new StringBuilder();
+        if (includeHeader) {
+            csv.append(CSV_HEADER).append('\n');
+        }
+        for (Map.Entry<TimedAction, WintertodtRollingStats> entry : actions.entrySet()) {
+            appendRow(csv, timestamp, label, entry.getKey().name(), entry.getValue());
+        }
+        appendRow(csv, timestamp, label, "ROUND", rounds);
+        return csv.toString();
+    }
+
+    /**
+     * Appends the statistics to {@code .runelite/mke_wintertodt/timing-stats.csv}.
+     * Nothing is written if no action or round has been measured.
+     *
+     * @return the file written to, or null if there was nothing to export
+     */
+    public Path export(String account) throws IOException {
+        boolean hasData = rounds.getTotalSamples() > 0;
+        for (WintertodtRollingStats stats : actions.values()) {
+            hasData |= stats.getTotalSamples() > 0;
+        }
+        if (!hasData) {
+            return null;
+        }
+
+        Files.createDirectories(EXPORT_FILE.getParent());
+        boolean includeHeader = !Files.exists(EXPORT_FILE);
+        Files.write(EXPORT_FILE, toCsv(account, includeHeader).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return EXPORT_FILE;
+    }
+
+    private static void appendRow(StringBuilder csv, long timestamp, String account, String metric, WintertodtRollingStats stats) {
+        csv.append(timestamp).append(',')
+                .append(account).append(',')
+                .append(metric).append(',')
+                .append(stats.getTotalSamples()).append(',')
+                .append(String.format(Locale.ROOT, "%.0f,%.0f,%.0f,%.0f",
+                        stats.getMean(), stats.getEma(), stats.getP50(), stats.getP90()))
+                .append('\n');
+    }
+}
@@ -0,0 +1,30 @@
+package net.runelite.client.plugins.microbot.mke_wintertodt.enums;
+
+/**
+ * Actions whose durations are measured between XP drops and used to plan runs.
+ */
+public enum TimedAction {
+    CHOP("Chop", 2800),
+    FLETCH("Fletch", 2200),
+    FEED("Feed", 1600);
+
+    private final String displayName;
+    private final long defaultDurationMs;
+
+    TimedAction(String displayName, long defaultDurationMs) {
+        this.displayName = displayName;
+        this.defaultDurationMs = defaultDurationMs;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    /**
+     * Duration assumed before the first real measurement arrives.
+     */
+    public long getDefaultDurationMs() {
+        return defaultDurationMs;
+    }
+}
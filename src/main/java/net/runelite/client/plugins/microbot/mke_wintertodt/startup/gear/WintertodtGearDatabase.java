@@ -5,7 +5,6 @@ import net.runelite.api.ItemID;
 import net.runelite.api.Skill;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static net.runelite.api.EquipmentInventorySlot.*;
 
@@ -29,12 +28,45 @@ import static net.runelite.api.EquipmentInventorySlot.*;
 public class WintertodtGearDatabase {
     
     private final Map<EquipmentInventorySlot, List<WintertodtGearItem>> gearBySlot;
+    private final Map<WintertodtGearItem.GearCategory, List<WintertodtGearItem>> gearByCategory;
     private final List<WintertodtGearItem> allGearItems;
+    private final GearItemIndex gearById;
+    private final Set<String> requiredQuestNames;
     
-    public WintertodtGearDatabase() {
-        this.allGearItems = createGearDatabase();
-        this.gearBySlot = allGearItems.stream()
-                .collect(Collectors.groupingBy(WintertodtGearItem::getSlot));
+    /**
+     * The database is immutable, so a single instance is built lazily and shared by every gear manager.
+     */
+    private static final class Holder {
+        private static final WintertodtGearDatabase INSTANCE = new WintertodtGearDatabase();
+    }
+    
+    public static WintertodtGearDatabase getInstance() {
+        return Holder.INSTANCE;
+    }
+    
+    private WintertodtGearDatabase() {
+        this.allGearItems = Collections.unmodifiableList(createGearDatabase());
+        
+        // Lists keep the database order, so every bucket is already sorted by effective priority
+        Map<EquipmentInventorySlot, List<WintertodtGearItem>> bySlot = new EnumMap<>(EquipmentInventorySlot.class);
+        Map<WintertodtGearItem.GearCategory, List<WintertodtGearItem>> byCategory = new EnumMap<>(WintertodtGearItem.GearCategory.class);
+        GearItemIndex byId = new GearItemIndex(allGearItems.size());
+        Set<String> questNames = new HashSet<>();
+        
+        for (WintertodtGearItem item : allGearItems) {
+            bySlot.computeIfAbsent(item.getSlot(), k -> new ArrayList<>()).add(item);
+            byCategory.computeIfAbsent(item.getCategory(), k -> new ArrayList<>()).add(item);
+            byId.putIfAbsent(item.getItemId(), item);
+            questNames.addAll(item.getQuestRequirements());
+        }
+        
+        bySlot.replaceAll((slot, items) -> Collections.unmodifiableList(items));
+        byCategory.replaceAll((category, items) -> Collections.unmodifiableList(items));
+        
+        this.gearBySlot = Collections.unmodifiableMap(bySlot);
+        this.gearByCategory = Collections.unmodifiableMap(byCategory);
+        this.gearById = byId;
+        this.requiredQuestNames = Collections.unmodifiableSet(questNames);
     }
     
     /**
@@ -1467,36 +1499,41 @@ public class WintertodtGearDatabase {
     }
     
     /**
-     * Gets all gear items for a specific equipment slot.
+     * Gets all gear items for a specific equipment slot, sorted by effective priority (highest first).
+     * The returned list is shared and unmodifiable.
      */
     public List<WintertodtGearItem> getGearForSlot(EquipmentInventorySlot slot) {
-        return gearBySlot.getOrDefault(slot, new ArrayList<>());
+        return gearBySlot.getOrDefault(slot, Collections.emptyList());
     }
     
     /**
-     * Gets all gear items in the database.
+     * Gets all gear items in the database, sorted by effective priority (highest first).
+     * The returned list is shared and unmodifiable.
      */
     public List<WintertodtGearItem> getAllGearItems() {
-        return new ArrayList<>(allGearItems);
+        return allGearItems;
     }
     
     /**
      * Finds a specific gear item by ID.
      */
     public WintertodtGearItem findGearItemById(int itemId) {
-        return allGearItems.stream()
-                .filter(item -> item.getItemId() == itemId)
-                .findFirst()
-                .orElse(null);
+        return gearById.get(itemId);
     }
     
     /**
-     * Gets gear items filtered by category.
+     * Gets gear items filtered by category, sorted by effective priority (highest first).
+     * The returned list is shared and unmodifiable.
      */
     public List<WintertodtGearItem> getGearByCategory(WintertodtGearItem.GearCategory category) {
-        return allGearItems.stream()
-                .filter(item -> item.getCategory() == category)
-                .collect(Collectors.toList());
+        return gearByCategory.getOrDefault(category, Collections.emptyList());
+    }
+    
+    /**
+     * Gets the names of every quest required by at least one gear item.
+     */
+    public Set<String> getRequiredQuestNames() {
+        return requiredQuestNames;
     }
     
     /**
@@ -1505,4 +1542,51 @@ public class WintertodtGearDatabase {
     public int getTotalGearCount() {
         return allGearItems.size();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Open addressing hash map from item ID to gear item, avoids boxing the item IDs on lookup.
+     */
+    private static final class GearItemIndex {
+        private static final int EMPTY = -1;
+        
+        private final int[] keys;
+        private final WintertodtGearItem[] values;
+        private final int mask;
+        
+        GearItemIndex(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1;
+            this.keys = new int[capacity];
+            this.values = new WintertodtGearItem[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+        
+        void putIfAbsent(int key, WintertodtGearItem value) {
+            int index = mix(key) & mask;
+            while (keys[index] != EMPTY) {
+                if (keys[index] == key) {
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+        
+        WintertodtGearItem get(int key) {
+            int index = mix(key) & mask;
+            while (keys[index] != EMPTY) {
+                if (keys[index] == key) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+        
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
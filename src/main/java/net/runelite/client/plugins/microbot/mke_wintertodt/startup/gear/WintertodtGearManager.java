@@ -3,8 +3,6 @@ package net.runelite.client.plugins.microbot.mke_wintertodt.startup.gear;
 import net.runelite.api.EquipmentInventorySlot;
 import net.runelite.api.ItemID;
 import net.runelite.api.Skill;
-import net.runelite.api.Quest;
-import net.runelite.api.QuestState;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
@@ -15,7 +13,6 @@ import net.runelite.client.plugins.microbot.mke_wintertodt.MKE_WintertodtConfig;
 import net.runelite.client.plugins.microbot.mke_wintertodt.startup.inventory.WintertodtInventoryManager;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntilTrue;
@@ -35,13 +32,14 @@ public class WintertodtGearManager {
     private Map<EquipmentInventorySlot, WintertodtGearItem> optimalGear;
     private List<String> gearAnalysisLog;
     
-    // Cache these to avoid repeated API calls during analysis
+    // Captured once per analysis to avoid repeated API calls
+    private WintertodtOwnershipSnapshot ownership;
     private Map<Skill, Integer> cachedPlayerLevels;
     private Set<String> cachedCompletedQuests;
     
     public WintertodtGearManager(MKE_WintertodtConfig config) {
         this.config = config;
-        this.gearDatabase = new WintertodtGearDatabase();
+        this.gearDatabase = WintertodtGearDatabase.getInstance();
         this.optimalGear = new HashMap<>();
         this.gearAnalysisLog = new ArrayList<>();
     }
@@ -77,12 +75,21 @@ public class WintertodtGearManager {
     }
     
     /**
-     * Cache player data once per analysis to improve performance.
+     * Captures items, skill levels and quest states once per analysis, so the analysis runs purely in memory.
+     * Bank items come from the Rs2Bank cache, so they are included as soon as the bank was opened once.
      */
     private void cachePlayerData() {
-        cachedPlayerLevels = getCurrentPlayerSkillLevels();
-        cachedCompletedQuests = getCompletedQuests();
-        gearAnalysisLog.add("Cached player data - " + cachedCompletedQuests.size() + " quests completed");
+        long start = System.currentTimeMillis();
+        ownership = WintertodtOwnershipSnapshot.capture(gearDatabase.getRequiredQuestNames());
+        cachedPlayerLevels = ownership.getSkillLevels();
+        cachedCompletedQuests = ownership.getCompletedQuestNames();
+        
+        if (!ownership.isBankCaptured()) {
+            gearAnalysisLog.add("Bank items not cached yet - only inventory and equipment are considered");
+        }
+        gearAnalysisLog.add("Cached player data in " + (System.currentTimeMillis() - start) + "ms - "
+                + ownership.getCompletedQuestCount() + "/" + gearDatabase.getRequiredQuestNames().size()
+                + " required quests completed");
     }
     
     /**
@@ -98,9 +105,11 @@ public class WintertodtGearManager {
             cachePlayerData();
             
             // Analyze each equipment slot using database
+            long start = System.currentTimeMillis();
             for (EquipmentInventorySlot slot : EquipmentInventorySlot.values()) {
                 analyzeSlotFromDatabase(slot);
             }
+            gearAnalysisLog.add("Analyzed all slots in " + (System.currentTimeMillis() - start) + "ms");
             
             // Log comprehensive analysis
             logDetailedGearAnalysis();
@@ -119,13 +128,13 @@ public class WintertodtGearManager {
     private void analyzeSlotFromDatabase(EquipmentInventorySlot slot) {
         gearAnalysisLog.add("=== " + slot.name() + " SLOT ANALYSIS ===");
         
-        // Get all gear items for this slot from database
-        List<WintertodtGearItem> availableGear = gearDatabase.getGearForSlot(slot)
-            .stream()
-            .filter(this::canPlayerUseItem)
-            .filter(this::hasAccessToItem)
-            .sorted((a, b) -> Integer.compare(b.getEffectivePriority(), a.getEffectivePriority()))
-            .collect(Collectors.toList());
+        // Get all gear items for this slot from database (already sorted by effective priority)
+        List<WintertodtGearItem> availableGear = new ArrayList<>();
+        for (WintertodtGearItem item : gearDatabase.getGearForSlot(slot)) {
+            if (canPlayerUseItem(item) && hasAccessToItem(item)) {
+                availableGear.add(item);
+            }
+        }
             
         if (availableGear.isEmpty()) {
             gearAnalysisLog.add("No suitable gear found for " + slot.name());
@@ -231,49 +240,6 @@ public class WintertodtGearManager {
         return meetsReqs;
     }
     
-    /**
-     * Gets current player skill levels.
-     */
-    private Map<Skill, Integer> getCurrentPlayerSkillLevels() {
-        Map<Skill, Integer> playerLevels = new HashMap<>();
-        for (Skill skill : Skill.values()) {
-            playerLevels.put(skill, Rs2Player.getRealSkillLevel(skill));
-        }
-        return playerLevels;
-    }
-    
-    /**
-     * Enhanced quest checking with better error handling.
-     */
-    private Set<String> getCompletedQuests() {
-        Set<String> completedQuests = new HashSet<>();
-        
-        try {
-            int questCount = 0;
-            // Check all quests using RuneLite's quest state system
-            for (Quest quest : Quest.values()) {
-                try {
-                    if (Rs2Player.getQuestState(quest) == QuestState.FINISHED) {
-                        completedQuests.add(quest.getName());
-                        completedQuests.add(quest.toString());
-                        questCount++;
-                    }
-                } catch (Exception e) {
-                    // Individual quest check failed, continue with others
-                    Microbot.log("Failed to check quest: " + quest.name());
-                }
-            }
-            
-            gearAnalysisLog.add("Detected " + questCount + " completed quests");
-            
-        } catch (Exception e) {
-            Microbot.log("Error checking quest states: " + e.getMessage());
-            gearAnalysisLog.add("Quest checking failed - using conservative gear analysis");
-        }
-        
-        return completedQuests;
-    }
-    
     /**
      * Logs unmet requirements for debugging.
      */
@@ -295,13 +261,10 @@ public class WintertodtGearManager {
     }
     
     /**
-     * Checks if player has access to an item.
+     * Checks if player has access to an item (inventory, equipment or bank).
      */
     private boolean hasAccessToItem(WintertodtGearItem item) {
-        int itemId = item.getItemId();
-        return Rs2Inventory.hasItem(itemId) || 
-               Rs2Equipment.isWearing(itemId) || 
-               Rs2Bank.hasItem(itemId);
+        return ownership.hasItem(item.getItemId());
     }
     
     /**
@@ -0,0 +1,176 @@
+package net.runelite.client.plugins.microbot.mke_wintertodt.startup.gear;
+
+import net.runelite.api.Quest;
+import net.runelite.api.QuestState;
+import net.runelite.api.Skill;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
+import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
+import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+
+import java.util.*;
+
+/**
+ * One-shot snapshot of everything the gear analysis needs from the client.
+ * Captured once per analysis, so the analysis itself runs purely in memory
+ * instead of asking the client for every candidate item in every slot.
+ * Bank items come from the Rs2Bank cache, which is kept after the bank is closed.
+ *
+ * Items are stored as a location bitset indexed by item ID, quests as a bitset indexed by quest ordinal.
+ * Only quests which are actually required by gear in the database are looked up.
+ *
+ * @author MakeCD
+ * @version 1.0.0
+ */
+public final class WintertodtOwnershipSnapshot {
+
+    public static final int INVENTORY = 1;
+    public static final int EQUIPMENT = 1 << 1;
+    public static final int BANK = 1 << 2;
+
+    private static final int INITIAL_ITEM_CAPACITY = 32768;
+
+    /** Quest lookup by both display name and enum name, matching how gear requirements are written */
+    private static final Map<String, Quest> QUESTS_BY_NAME = new HashMap<>();
+
+    static {
+        for (Quest quest : Quest.values()) {
+            QUESTS_BY_NAME.putIfAbsent(quest.getName(), quest);
+            QUESTS_BY_NAME.putIfAbsent(quest.toString(), quest);
+        }
+    }
+
+    private final byte[] itemLocations;
+    private final BitSet completedQuests;
+    private final Map<Skill, Integer> skillLevels;
+    private final boolean bankCaptured;
+
+    private WintertodtOwnershipSnapshot(byte[] itemLocations, BitSet completedQuests, Map<Skill, Integer> skillLevels, boolean bankCaptured) {
+        this.itemLocations = itemLocations;
+        this.completedQuests = completedQuests;
+        this.skillLevels = skillLevels;
+        this.bankCaptured = bankCaptured;
+    }
+
+    /**
+     * Captures inventory, equipment, bank, skill levels and the given quests in one pass.
+     * Bank items are taken from the Rs2Bank cache, they are unknown if the bank was not opened yet.
+     *
+     * @param questNames names of the quests to look up
+     */
+    public static WintertodtOwnershipSnapshot capture(Collection<String> questNames) {
+        byte[] locations = new byte[INITIAL_ITEM_CAPACITY];
+
+        Iterator<Rs2ItemModel> inventory = Rs2Inventory.items().iterator();
+        while (inventory.hasNext()) {
+            locations = mark(locations, inventory.next(), INVENTORY);
+        }
+
+        for (Rs2ItemModel item : Rs2Equipment.items()) {
+            locations = mark(locations, item, EQUIPMENT);
+        }
+
+        List<Rs2ItemModel> bankItems = Rs2Bank.bankItems();
+        boolean bankCaptured = bankItems != null && !bankItems.isEmpty();
+        if (bankCaptured) {
+            for (Rs2ItemModel item : bankItems) {
+                locations = mark(locations, item, BANK);
+            }
+        }
+
+        BitSet completedQuests = new BitSet(Quest.values().length);
+        for (String questName : questNames) {
+            Quest quest = QUESTS_BY_NAME.get(questName);
+            if (quest == null || completedQuests.get(quest.ordinal())) {
+                continue;
+            }
+            try {
+                if (Rs2Player.getQuestState(quest) == QuestState.FINISHED) {
+                    completedQuests.set(quest.ordinal());
+                }
+            } catch (Exception e) {
+                Microbot.log("Failed to check quest: " + quest.name());
+            }
+        }
+
+        Map<Skill, Integer> skillLevels = new EnumMap<>(Skill.class);
+        for (Skill skill : Skill.values()) {
+            skillLevels.put(skill, Rs2Player.getRealSkillLevel(skill));
+        }
+
+        return new WintertodtOwnershipSnapshot(locations, completedQuests, Collections.unmodifiableMap(skillLevels), bankCaptured);
+    }
+
+    private static byte[] mark(byte[] locations, Rs2ItemModel item, int location) {
+        if (item == null || item.getId() < 0) {
+            return locations;
+        }
+        int itemId = item.getId();
+        if (itemId >= locations.length) {
+            locations = Arrays.copyOf(locations, Math.max(itemId + 1, locations.length * 2));
+        }
+        locations[itemId] |= (byte) location;
+        return locations;
+    }
+
+    /**
+     * @return bitset of {@link #INVENTORY}, {@link #EQUIPMENT} and {@link #BANK} for the item
+     */
+    public int getLocations(int itemId) {
+        return itemId >= 0 && itemId < itemLocations.length ? itemLocations[itemId] : 0;
+    }
+
+    /**
+     * @return true if the item is in the inventory, equipped or in the bank
+     */
+    public boolean hasItem(int itemId) {
+        return getLocations(itemId) != 0;
+    }
+
+    public boolean isInInventory(int itemId) {
+        return (getLocations(itemId) & INVENTORY) != 0;
+    }
+
+    public boolean isEquipped(int itemId) {
+        return (getLocations(itemId) & EQUIPMENT) != 0;
+    }
+
+    public boolean isInBank(int itemId) {
+        return (getLocations(itemId) & BANK) != 0;
+    }
+
+    /**
+     * @return false if there were no cached bank items while capturing, in that case bank items are unknown
+     */
+    public boolean isBankCaptured() {
+        return bankCaptured;
+    }
+
+    public boolean isQuestCompleted(String questName) {
+        Quest quest = QUESTS_BY_NAME.get(questName);
+        return quest != null && completedQuests.get(quest.ordinal());
+    }
+
+    /**
+     * @return the completed quests by display and enum name, as used by {@link WintertodtGearItem#meetsRequirements}
+     */
+    public Set<String> getCompletedQuestNames() {
+        Set<String> names = new HashSet<>();
+        Quest[] quests = Quest.values();
+        for (int i = completedQuests.nextSetBit(0); i >= 0; i = completedQuests.nextSetBit(i + 1)) {
+            names.add(quests[i].getName());
+            names.add(quests[i].toString());
+        }
+        return names;
+    }
+
+    public int getCompletedQuestCount() {
+        return completedQuests.cardinality();
+    }
+
+    public Map<Skill, Integer> getSkillLevels() {
+        return skillLevels;
+    }
+}
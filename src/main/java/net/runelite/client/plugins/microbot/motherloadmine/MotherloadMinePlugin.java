@@ -12,6 +12,8 @@ import net.runelite.api.ObjectID;
 import net.runelite.api.WallObject;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.WallObjectDespawned;
 import net.runelite.api.events.WallObjectSpawned;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
@@ -51,6 +53,9 @@ public class MotherloadMinePlugin extends Plugin {
 	@Getter
 	private List<WorldPoint> blacklistedCrates = new ArrayList<>();
 
+	@Getter
+	private final MotherlodeVeinIndex veinIndex = new MotherlodeVeinIndex();
+
     @Provides
 	MotherloadMineConfig provideConfig(ConfigManager configManager) {
         return configManager.getConfig(MotherloadMineConfig.class);
@@ -66,7 +71,10 @@ public class MotherloadMinePlugin extends Plugin {
     public void onWallObjectSpawned(WallObjectSpawned event) {
         WallObject wallObject = event.getWallObject();
         try {
-            if (wallObject == null || MotherloadMineScript.oreVein == null)
+            if (wallObject == null)
+                return;
+            veinIndex.onWallObjectSpawned(wallObject);
+            if (MotherloadMineScript.oreVein == null)
                 return;
             if (MotherloadMineScript.status == MLMStatus.MINING && (wallObject.getId() == ObjectID.DEPLETED_VEIN_26665 || wallObject.getId() == ObjectID.DEPLETED_VEIN_26666 || wallObject.getId() == ObjectID.DEPLETED_VEIN_26667 || wallObject.getId() == ObjectID.DEPLETED_VEIN_26668)) {
                 if (wallObject.getWorldLocation().equals(MotherloadMineScript.oreVein.getWorldLocation())) {
@@ -79,10 +87,25 @@ public class MotherloadMinePlugin extends Plugin {
 
     }
 
+    @Subscribe
+    public void onWallObjectDespawned(WallObjectDespawned event) {
+        if (event.getWallObject() != null) {
+            veinIndex.onWallObjectDespawned(event.getWallObject());
+        }
+    }
+
+    @Subscribe
+    public void onGameTick(GameTick event) {
+        if (MotherloadMineScript.status == MLMStatus.MINING) {
+            veinIndex.updatePlayers();
+        }
+    }
+
     protected void shutDown() {
         motherloadMineScript.shutdown();
         overlayManager.remove(motherloadMineOverlay);
 		blacklistedCrates.clear();
+		veinIndex.clear();
     }
 
 	@Subscribe
@@ -90,6 +113,9 @@ public class MotherloadMinePlugin extends Plugin {
 	{
 		if (event.getGameState() == GameState.HOPPING || event.getGameState() == GameState.LOGIN_SCREEN) {
 			blacklistedCrates.clear();
+			veinIndex.clear();
+		} else if (event.getGameState() == GameState.LOADING) {
+			veinIndex.onSceneLoading();
 		}
 	}
 }
@@ -4,10 +4,8 @@ import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
@@ -48,19 +46,12 @@ import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
 import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
-import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 
 @Slf4j
 public class MotherloadMineScript extends Script
 {
 
-    private static final WorldArea WEST_UPPER_AREA = new WorldArea(3748, 5676, 7, 9, 0);
-    private static final WorldArea EAST_UPPER_AREA = new WorldArea(3756, 5667, 8, 8, 0);
-    // Static areas for lower floor to avoid getting stuck behind rockfall
-    private static final WorldArea WEST_LOWER_AREA = new WorldArea(3729, 5653, 10, 22, 0);
-    private static final WorldArea SOUTH_LOWER_AREA = new WorldArea(3740, 5640, 20, 20, 0);
-
     private static final WorldPoint HOPPER_DEPOSIT_DOWN = new WorldPoint(3748, 5672, 0);
     private static final WorldPoint HOPPER_DEPOSIT_UP = new WorldPoint(3755, 5677, 0);
 
@@ -79,6 +70,7 @@ public class MotherloadMineScript extends Script
 
     public static MLMStatus status = MLMStatus.IDLE;
     public static WallObject oreVein;
+    private WallObject nextVein;
     public static MLMMiningSpot miningSpot = MLMMiningSpot.IDLE;
     private int maxSackSize;
 	private List<String> itemsToKeep;
@@ -197,7 +189,12 @@ public class MotherloadMineScript extends Script
 
 	private void handleMining()
 	{
-		if (oreVein != null && AntibanPlugin.isMining()) return;
+		WallObject currentVein = oreVein;
+		if (currentVein != null && AntibanPlugin.isMining())
+		{
+			preselectNextVein(currentVein);
+			return;
+		}
 
 		if (Rs2Gembag.isUnknown()) {
 			Rs2Gembag.checkGemBag();
@@ -498,7 +495,10 @@ public class MotherloadMineScript extends Script
     }
 
 	private boolean attemptToMineVein() {
-		WallObject vein = findClosestVein();
+		WallObject vein = takeNextVein();
+		if (vein == null) {
+			vein = findClosestVein(null);
+		}
 		if (vein == null) {
 			repositionCameraAndMove();
 			return false;
@@ -509,62 +509,53 @@ public class MotherloadMineScript extends Script
 		if (!Rs2GameObject.interact(vein)) return false;
 		oreVein = vein;
 
+		WorldPoint veinLocation = vein.getWorldLocation();
 		return sleepUntil(() -> {
-			WallObject _vein = Rs2GameObject.getWallObject(o -> Objects.equals(o.getWorldLocation(), vein.getWorldLocation()));
-			if (_vein == null || !isValidVein(_vein)) return false;
-			return AntibanPlugin.isMining() && _vein.getWorldLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation()) <= 2;
+			if (!isValidVein(veinLocation)) return false;
+			return AntibanPlugin.isMining() && veinLocation.distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation()) <= 2;
 		}, 10_000);
 	}
 
-    private WallObject findClosestVein()
+    private WallObject findClosestVein(WorldPoint excluding)
     {
-        return Rs2GameObject.getWallObjects().stream()
-                .filter(this::isValidVein)
-                .min(Comparator.comparing(this::distanceToPlayer))
-                .orElse(null);
+        if (!isSpotOnConfiguredFloor()) return null;
+
+        WorldPoint playerLoc = Microbot.getClient().getLocalPlayer().getWorldLocation();
+        MotherlodeVeinIndex.Vein vein = plugin.getVeinIndex().findClosest(miningSpot, playerLoc, excluding, shouldAvoidPlayers());
+        return vein != null ? vein.getWallObject() : null;
     }
 
-    private boolean isValidVein(WallObject wallObject)
+    /**
+     * Picks the vein to mine next while the current one is still being mined,
+     * so there is no lookup between the current vein depleting and clicking the next one.
+     */
+    private void preselectNextVein(WallObject currentVein)
     {
-        int id = wallObject.getId();
-        boolean isVein = (id == 26661 || id == 26662 || id == 26663 || id == 26664);
-        if (!isVein) return false;
-
-        WorldPoint location = wallObject.getWorldLocation();
+        if (nextVein != null && isValidVein(nextVein.getWorldLocation())) return;
+        nextVein = findClosestVein(currentVein.getWorldLocation());
+    }
 
-		if (!config.mineUpstairs() && config.useAntiCrash())
-		{
-			boolean isPlayerNearBy = Rs2Player.getPlayers(p -> p != null && p.getWorldLocation().distanceTo(wallObject.getWorldLocation()) <= 2).findAny().isPresent();
-			if (isPlayerNearBy) return false;
-		}
+    private WallObject takeNextVein()
+    {
+        WallObject vein = nextVein;
+        nextVein = null;
+        if (vein == null || !isValidVein(vein.getWorldLocation())) return null;
+        return vein;
+    }
 
-        if (config.mineUpstairs())
-        {
-        boolean inUpperArea = (miningSpot == MLMMiningSpot.WEST_UPPER && WEST_UPPER_AREA.contains(location))
-                || (miningSpot == MLMMiningSpot.EAST_UPPER && EAST_UPPER_AREA.contains(location));
-            return inUpperArea && hasWalkableTilesAround(wallObject);
-        }
-        else
-        {
-        boolean inLowerArea = (miningSpot == MLMMiningSpot.WEST_LOWER && WEST_LOWER_AREA.contains(location))
-                || (miningSpot == MLMMiningSpot.WEST_MID && WEST_LOWER_AREA.contains(location))
-                || (miningSpot == MLMMiningSpot.SOUTH_WEST && SOUTH_LOWER_AREA.contains(location))
-                || (miningSpot == MLMMiningSpot.SOUTH_EAST && SOUTH_LOWER_AREA.contains(location));
-        return inLowerArea && hasWalkableTilesAround(wallObject);
-        }
+    private boolean isValidVein(WorldPoint location)
+    {
+        return isSpotOnConfiguredFloor() && plugin.getVeinIndex().isMinable(location, miningSpot, shouldAvoidPlayers());
     }
 
-    private boolean hasWalkableTilesAround(WallObject wallObject)
+    private boolean isSpotOnConfiguredFloor()
     {
-        return Rs2Tile.areSurroundingTilesWalkable(wallObject.getWorldLocation(), 1, 1);
+        return config.mineUpstairs() ? miningSpot.isUpstairs() : miningSpot.isDownstairs();
     }
 
-    private int distanceToPlayer(WallObject wallObject)
+    private boolean shouldAvoidPlayers()
     {
-        WorldPoint playerLoc = Microbot.getClient().getLocalPlayer().getWorldLocation();
-        WorldPoint walkableTile = Rs2Tile.getNearestWalkableTile(wallObject.getWorldLocation());
-        if (walkableTile == null) return Integer.MAX_VALUE;
-        return playerLoc.distanceTo2D(walkableTile);
+        return !config.mineUpstairs() && config.useAntiCrash();
     }
 
     private void repositionCameraAndMove()
@@ -607,6 +598,7 @@ public class MotherloadMineScript extends Script
     private void resetMiningState(boolean force)
     {
         oreVein = null;
+        nextVein = null;
         miningSpot = (ThreadLocalRandom.current().nextBoolean() || force) ? MLMMiningSpot.IDLE : miningSpot;
     }
 
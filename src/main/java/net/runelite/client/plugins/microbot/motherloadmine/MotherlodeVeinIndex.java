@@ -0,0 +1,334 @@
+package net.runelite.client.plugins.microbot.motherloadmine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.WallObject;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.motherloadmine.enums.MLMMiningSpot;
+import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
+import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
+
+/**
+ * Index of the minable ore veins, kept current by the wall object events forwarded from the plugin.
+ * <p>
+ * Veins are partitioned by the mining spot whose area contains them, and the walkable tile checks are done once
+ * per spawned vein on its first lookup instead of on every lookup. They are not done in the spawn event itself,
+ * the collision data may not be complete yet while a scene is loading. Nearby players are counted in a coarse grid rebuilt once per tick,
+ * so picking a vein only looks at the veins of the current spot.
+ */
+public class MotherlodeVeinIndex
+{
+	private static final WorldArea WEST_UPPER_AREA = new WorldArea(3748, 5676, 7, 9, 0);
+	private static final WorldArea EAST_UPPER_AREA = new WorldArea(3756, 5667, 8, 8, 0);
+	// Static areas for lower floor to avoid getting stuck behind rockfall
+	private static final WorldArea WEST_LOWER_AREA = new WorldArea(3729, 5653, 10, 22, 0);
+	private static final WorldArea SOUTH_LOWER_AREA = new WorldArea(3740, 5640, 20, 20, 0);
+
+	private static final int PLAYER_CELL_SHIFT = 2; // 4x4 tile cells
+	private static final int PLAYER_NEARBY_DISTANCE = 2;
+
+	@RequiredArgsConstructor
+	public static class Vein
+	{
+		@Getter
+		private final WallObject wallObject;
+		@Getter
+		private final WorldPoint location;
+
+		private volatile boolean resolved = false;
+		private boolean walkableAround;
+		private WorldPoint nearestWalkableTile;
+
+		public boolean isWalkableAround()
+		{
+			resolve();
+			return walkableAround;
+		}
+
+		public WorldPoint getNearestWalkableTile()
+		{
+			resolve();
+			return nearestWalkableTile;
+		}
+
+		private synchronized void resolve()
+		{
+			if (resolved)
+			{
+				return;
+			}
+			nearestWalkableTile = Rs2Tile.getNearestWalkableTile(location);
+			walkableAround = Rs2Tile.areSurroundingTilesWalkable(location, 1, 1);
+			resolved = true;
+		}
+	}
+
+	private final Map<WorldPoint, Vein> veinsByLocation = new ConcurrentHashMap<>();
+	private final Map<MLMMiningSpot, Set<WorldPoint>> locationsBySpot = new EnumMap<>(MLMMiningSpot.class);
+
+	/**
+	 * Player locations bucketed by grid cell, replaced as a whole every tick.
+	 */
+	private volatile Map<Long, List<WorldPoint>> playersByCell = Collections.emptyMap();
+
+	/**
+	 * True once the veins of the current scene went through the spawn events or a scene scan.
+	 */
+	private volatile boolean seeded = false;
+
+	public MotherlodeVeinIndex()
+	{
+		for (MLMMiningSpot spot : MLMMiningSpot.values())
+		{
+			if (getArea(spot) != null)
+			{
+				locationsBySpot.put(spot, ConcurrentHashMap.newKeySet());
+			}
+		}
+	}
+
+	public static boolean isVein(int id)
+	{
+		return id == 26661 || id == 26662 || id == 26663 || id == 26664;
+	}
+
+	public static boolean isDepletedVein(int id)
+	{
+		return id == 26665 || id == 26666 || id == 26667 || id == 26668;
+	}
+
+	/**
+	 * Returns the area veins are mined in for the spot, or null for the placeholder spots.
+	 */
+	public static WorldArea getArea(MLMMiningSpot spot)
+	{
+		switch (spot)
+		{
+			case WEST_UPPER:
+				return WEST_UPPER_AREA;
+			case EAST_UPPER:
+				return EAST_UPPER_AREA;
+			case WEST_LOWER:
+			case WEST_MID:
+				return WEST_LOWER_AREA;
+			case SOUTH_WEST:
+			case SOUTH_EAST:
+				return SOUTH_LOWER_AREA;
+			default:
+				return null;
+		}
+	}
+
+	public void onWallObjectSpawned(WallObject wallObject)
+	{
+		WorldPoint location = wallObject.getWorldLocation();
+		if (isDepletedVein(wallObject.getId()))
+		{
+			// A depleted vein replaces the minable one at the same location
+			remove(location);
+			return;
+		}
+		if (!isVein(wallObject.getId()))
+		{
+			return;
+		}
+
+		// Walkability is resolved on the first lookup of the spawned vein
+		Vein vein = new Vein(wallObject, location);
+		veinsByLocation.put(location, vein);
+
+		for (Map.Entry<MLMMiningSpot, Set<WorldPoint>> entry : locationsBySpot.entrySet())
+		{
+			if (getArea(entry.getKey()).contains(location))
+			{
+				entry.getValue().add(location);
+			}
+		}
+	}
+
+	public void onWallObjectDespawned(WallObject wallObject)
+	{
+		Vein vein = veinsByLocation.get(wallObject.getWorldLocation());
+		if (vein != null && vein.getWallObject() == wallObject)
+		{
+			remove(vein.getLocation());
+		}
+	}
+
+	/**
+	 * Called on scene loads, every vein of the new scene is spawned again afterwards.
+	 */
+	public void onSceneLoading()
+	{
+		clear();
+		seeded = true;
+	}
+
+	/**
+	 * Rebuilds the nearby player grid, called once per game tick.
+	 */
+	public void updatePlayers()
+	{
+		Map<Long, List<WorldPoint>> cells = new HashMap<>();
+		Rs2Player.getPlayers(p -> p != null && p.getWorldLocation() != null).forEach(p -> {
+			WorldPoint location = p.getWorldLocation();
+			cells.computeIfAbsent(cellKey(location.getX(), location.getY(), location.getPlane()), k -> new ArrayList<>(1)).add(location);
+		});
+		playersByCell = cells;
+	}
+
+	public void clear()
+	{
+		veinsByLocation.clear();
+		locationsBySpot.values().forEach(Set::clear);
+		playersByCell = Collections.emptyMap();
+		seeded = false;
+	}
+
+	public Vein getVein(WorldPoint location)
+	{
+		return veinsByLocation.get(location);
+	}
+
+	/**
+	 * Returns the closest minable vein of the spot by distance from its nearest walkable tile to the given location.
+	 *
+	 * @param spot         the spot whose area to search
+	 * @param origin       the location to measure from, usually the player
+	 * @param excluding    a location to skip, e.g. the vein that is being mined, may be null
+	 * @param avoidPlayers whether veins with another player next to them are skipped
+	 */
+	public Vein findClosest(MLMMiningSpot spot, WorldPoint origin, WorldPoint excluding, boolean avoidPlayers)
+	{
+		Set<WorldPoint> locations = locationsBySpot.get(spot);
+		if (locations == null)
+		{
+			return null;
+		}
+
+		seedIfNeeded();
+
+		Vein closest = null;
+		int closestDistance = Integer.MAX_VALUE;
+		for (WorldPoint location : locations)
+		{
+			if (location.equals(excluding))
+			{
+				continue;
+			}
+
+			Vein vein = veinsByLocation.get(location);
+			if (vein == null || !vein.isWalkableAround() || vein.getNearestWalkableTile() == null)
+			{
+				continue;
+			}
+
+			int distance = origin.distanceTo2D(vein.getNearestWalkableTile());
+			if (distance >= closestDistance || (avoidPlayers && isPlayerNearby(location)))
+			{
+				continue;
+			}
+
+			closest = vein;
+			closestDistance = distance;
+		}
+		return closest;
+	}
+
+	/**
+	 * Checks whether the vein at the location is still minable for the spot.
+	 */
+	public boolean isMinable(WorldPoint location, MLMMiningSpot spot, boolean avoidPlayers)
+	{
+		Set<WorldPoint> locations = locationsBySpot.get(spot);
+		Vein vein = veinsByLocation.get(location);
+		return locations != null && vein != null && locations.contains(location) && vein.isWalkableAround()
+			&& !(avoidPlayers && isPlayerNearby(location));
+	}
+
+	/**
+	 * Checks the grid cells within reach of the location for a player standing next to it.
+	 */
+	public boolean isPlayerNearby(WorldPoint location)
+	{
+		Map<Long, List<WorldPoint>> cells = playersByCell;
+		int minCellX = (location.getX() - PLAYER_NEARBY_DISTANCE) >> PLAYER_CELL_SHIFT;
+		int maxCellX = (location.getX() + PLAYER_NEARBY_DISTANCE) >> PLAYER_CELL_SHIFT;
+		int minCellY = (location.getY() - PLAYER_NEARBY_DISTANCE) >> PLAYER_CELL_SHIFT;
+		int maxCellY = (location.getY() + PLAYER_NEARBY_DISTANCE) >> PLAYER_CELL_SHIFT;
+
+		for (int cellX = minCellX; cellX <= maxCellX; cellX++)
+		{
+			for (int cellY = minCellY; cellY <= maxCellY; cellY++)
+			{
+				List<WorldPoint> players = cells.get(toKey(cellX, cellY, location.getPlane()));
+				if (players == null)
+				{
+					continue;
+				}
+
+				for (WorldPoint player : players)
+				{
+					if (player.distanceTo(location) <= PLAYER_NEARBY_DISTANCE)
+					{
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	public int size()
+	{
+		return veinsByLocation.size();
+	}
+
+	/**
+	 * Scans the scene once when the plugin was started after the veins had already spawned.
+	 */
+	private void seedIfNeeded()
+	{
+		if (seeded)
+		{
+			return;
+		}
+		seeded = true;
+
+		for (WallObject wallObject : Rs2GameObject.getWallObjects())
+		{
+			if (isVein(wallObject.getId()))
+			{
+				onWallObjectSpawned(wallObject);
+			}
+		}
+	}
+
+	private void remove(WorldPoint location)
+	{
+		if (veinsByLocation.remove(location) != null)
+		{
+			locationsBySpot.values().forEach(locations -> locations.remove(location));
+		}
+	}
+
+	private static long cellKey(int x, int y, int plane)
+	{
+		return toKey(x >> PLAYER_CELL_SHIFT, y >> PLAYER_CELL_SHIFT, plane);
+	}
+
+	private static long toKey(int cellX, int cellY, int plane)
+	{
+		return ((long) plane << 40) | ((long) (cellX & 0xFFFFF) << 20) | (cellY & 0xFFFFF);
+	}
+}
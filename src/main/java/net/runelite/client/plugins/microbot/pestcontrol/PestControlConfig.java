@@ -36,12 +36,21 @@ public interface PestControlConfig extends Config {
     default PestControlNpc Priority3() {
         return PestControlNpc.BRAWLER;
     }
+    @ConfigItem(
+            keyName = "priorityRange",
+            name = "Priority range",
+            description = "How many tiles each priority is worth, a lower priority npc is attacked first when it is this much closer",
+            position = 5
+    )
+    default int priorityRange() {
+        return 64;
+    }
 
     @ConfigItem(
             keyName = "Alch in boat",
             name = "Alch while waiting",
             description = "Alch while waiting",
-            position = 5
+            position = 6
     )
     default boolean alchInBoat() {
         return false;
@@ -51,7 +60,7 @@ public interface PestControlConfig extends Config {
             keyName = "itemToAlch",
             name = "Item to alch",
             description = "Item to alch",
-            position = 6
+            position = 7
     )
     default String alchItem() {
         return "";
@@ -61,7 +70,7 @@ public interface PestControlConfig extends Config {
             keyName = "QuickPrayer",
             name = "Enable QuickPrayer",
             description = "Enables quick prayer",
-            position = 7
+            position = 8
     )
     default boolean quickPrayer() {
         return false;
@@ -71,7 +80,7 @@ public interface PestControlConfig extends Config {
             keyName = "Special Attack",
             name = "Use Special Attack on %",
             description = "What percentage to use Special Attack",
-            position = 8
+            position = 9
     )
     default int specialAttackPercentage() {
         return 100;
@@ -81,7 +90,7 @@ public interface PestControlConfig extends Config {
             keyName = "inventorySetup",
             name = "Inventory Setup",
             description = "Inventory setup to use",
-            position = 9
+            position = 10
     )
     default InventorySetup inventorySetup() {
         return null;
@@ -90,7 +99,7 @@ public interface PestControlConfig extends Config {
             keyName = "World",
             name = "World",
             description = "Pest Control world",
-            position = 10
+            position = 11
     )
 
     default int world() {
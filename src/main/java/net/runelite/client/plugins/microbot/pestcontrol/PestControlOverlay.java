@@ -39,6 +39,17 @@ public class PestControlOverlay  extends OverlayPanel {
                     .left(Microbot.status)
                     .build());
 
+            panelComponent.getChildren().add(LineComponent.builder()
+                    .left("Points/game:")
+                    .right(String.format("%.1f (%d games)", plugin.pestControlScript.getPointsPerGame(), plugin.pestControlScript.getGamesPlayed()))
+                    .build());
+
+            PestControlTargetIndex targetIndex = plugin.pestControlScript.getTargetIndex();
+            panelComponent.getChildren().add(LineComponent.builder()
+                    .left("Reaction:")
+                    .right(targetIndex.getLastReactionMs() + " ms (avg " + targetIndex.getAverageReactionMs() + " ms)")
+                    .build());
+
             if (PestControlScript.DEBUG) {
                 for(Portal portal: portals) {
                     if (portal.getHitPoints() == null) continue;
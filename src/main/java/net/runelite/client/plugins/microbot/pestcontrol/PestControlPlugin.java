@@ -3,7 +3,10 @@ package net.runelite.client.plugins.microbot.pestcontrol;
 import com.google.inject.Provides;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
+import net.runelite.api.GameState;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
@@ -98,6 +101,7 @@ public class PestControlPlugin extends Plugin implements SchedulablePlugin {
     private PestControlOverlay pestControlOverlay;
 
     private final Pattern SHIELD_DROP = Pattern.compile("The ([a-z]+), [^ ]+ portal shield has dropped!", Pattern.CASE_INSENSITIVE);
+    private final Pattern POINTS_AWARDED = Pattern.compile("awarded you ([0-9]+) Void Knight Commendation point", Pattern.CASE_INSENSITIVE);
 
 
     @Override
@@ -117,6 +121,10 @@ public class PestControlPlugin extends Plugin implements SchedulablePlugin {
     @Subscribe
     public void onChatMessage(ChatMessage chatMessage) {
         if (chatMessage.getType() == ChatMessageType.GAMEMESSAGE) {
+            Matcher pointsMatcher = POINTS_AWARDED.matcher(chatMessage.getMessage());
+            if (pointsMatcher.find()) {
+                pestControlScript.recordPoints(Integer.parseInt(pointsMatcher.group(1)));
+            }
             Matcher matcher = SHIELD_DROP.matcher(chatMessage.getMessage());
             if (matcher.lookingAt()) {
                 switch (matcher.group(1)) {
@@ -136,4 +144,17 @@ public class PestControlPlugin extends Plugin implements SchedulablePlugin {
             }
         }
     }
+
+    @Subscribe
+    public void onGameTick(GameTick gameTick) {
+        if (!pestControlScript.isRunning()) return;
+        pestControlScript.getTargetIndex().onGameTick(Microbot.getClient());
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        if (event.getGameState() == GameState.LOADING) {
+            pestControlScript.getTargetIndex().onSceneLoading();
+        }
+    }
 }
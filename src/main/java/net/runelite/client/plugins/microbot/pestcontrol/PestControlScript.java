@@ -1,8 +1,7 @@
 package net.runelite.client.plugins.microbot.pestcontrol;
 
-import com.google.common.collect.ImmutableSet;
-import net.runelite.api.NPCComposition;
-import net.runelite.api.NpcID;
+import lombok.Getter;
+import net.runelite.api.NPC;
 import net.runelite.api.ObjectID;
 import net.runelite.api.Skill;
 import net.runelite.api.coords.WorldPoint;
@@ -23,22 +22,27 @@ import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import net.runelite.client.plugins.pestcontrol.Portal;
-import org.apache.commons.lang3.tuple.Pair;
 
 import javax.inject.Inject;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 import static net.runelite.client.plugins.microbot.util.prayer.Rs2Prayer.isQuickPrayerEnabled;
-import static net.runelite.client.plugins.microbot.util.walker.Rs2Walker.distanceToRegion;
 import static net.runelite.client.plugins.pestcontrol.Portal.*;
 
 public class PestControlScript extends Script {
 
     boolean initialise = true;
     boolean walkToCenter = false;
+    boolean inGame = false;
     PestControlConfig config;
     private final PestControlPlugin plugin;
+    @Getter
+    private final PestControlTargetIndex targetIndex = new PestControlTargetIndex();
+
+    // Points per game
+    private volatile int gamesPlayed = 0;
+    private volatile int pointsEarned = 0;
 
     @Inject
     public PestControlScript(PestControlPlugin plugin, PestControlConfig config) {
@@ -46,23 +50,6 @@ public class PestControlScript extends Script {
         this.config = config;
     }
 
-
-    private static final Set<Integer> SPINNER_IDS = ImmutableSet.of(
-            NpcID.SPINNER,
-            NpcID.SPINNER_1710,
-            NpcID.SPINNER_1711,
-            NpcID.SPINNER_1712,
-            NpcID.SPINNER_1713
-    );
-
-    private static final Set<Integer> BRAWLER_IDS = ImmutableSet.of(
-            NpcID.BRAWLER,
-            NpcID.BRAWLER_1736,
-            NpcID.BRAWLER_1738,
-            NpcID.BRAWLER_1737,
-            NpcID.BRAWLER_1735
-    );
-
     final int distanceToPortal = 8;
     public static final boolean DEBUG = false;
 
@@ -108,6 +95,7 @@ public class PestControlScript extends Script {
                 if (isInPestControl) {
                     plugin.lockCondition.lock();
                     initialise = false;
+                    inGame = true;
                     if (!isQuickPrayerEnabled() && Microbot.getClient().getBoostedSkillLevel(Skill.PRAYER) != 0 && config.quickPrayer()) {
                         final Widget prayerOrb = Rs2Widget.getWidget(ComponentID.MINIMAP_QUICK_PRAYER_ORB);
                         if (prayerOrb != null) {
@@ -133,9 +121,12 @@ public class PestControlScript extends Script {
                         return;
                     }
 
-                    var brawler = Rs2Npc.getNpc("brawler");
-                    if (brawler != null && brawler.getWorldLocation().distanceTo(Rs2Player.getWorldLocation()) < 3) {
-                        Rs2Npc.interact(brawler, "attack");
+                    NPC brawler = targetIndex.getNearest(PestControlNpc.BRAWLER);
+                    int brawlerDistance = targetIndex.getDistance(PestControlNpc.BRAWLER);
+                    if (brawler != null && brawlerDistance >= 0 && brawlerDistance < 3) {
+                        if (Rs2Npc.interact(new Rs2NpcModel(brawler), "attack")) {
+                            targetIndex.markAttacked();
+                        }
                         sleepUntil(() -> !Rs2Combat.inCombat());
                         return;
                     }
@@ -144,20 +135,7 @@ public class PestControlScript extends Script {
                         return;
 
 
-                    if (handleAttack(PestControlNpc.BRAWLER, 1)
-                            || handleAttack(PestControlNpc.PORTAL, 1)
-                            || handleAttack(PestControlNpc.SPINNER, 1)) {
-                        return;
-                    }
-
-                    if (handleAttack(PestControlNpc.BRAWLER, 2)
-                            || handleAttack(PestControlNpc.PORTAL, 2)
-                            || handleAttack(PestControlNpc.SPINNER, 2)) {
-                        return;
-                    }
-                    if (handleAttack(PestControlNpc.BRAWLER, 3)
-                            || handleAttack(PestControlNpc.PORTAL, 3)
-                            || handleAttack(PestControlNpc.SPINNER, 3)) {
+                    if (handleAttack()) {
                         return;
                     }
                     Rs2NpcModel portal = Arrays.stream(Rs2Npc.getPestControlPortals()).findFirst().orElse(null);
@@ -174,6 +152,11 @@ public class PestControlScript extends Script {
 
                 } else {
                     plugin.lockCondition.unlock();
+                    if (inGame) {
+                        inGame = false;
+                        gamesPlayed++;
+                        Microbot.log("Games played: " + gamesPlayed + ", points per game: " + getPointsPerGame());
+                    }
                     Rs2Walker.setTarget(null);
                     resetPortals();
                     walkToCenter = false;
@@ -253,110 +236,59 @@ public class PestControlScript extends Script {
 
     }
 
-    private boolean handleAttack(PestControlNpc npcType, int priority) {
-        if (priority == 1) {
-            if (config.Priority1() == npcType) {
-                if (npcType == PestControlNpc.BRAWLER) {
-                    return attackBrawler();
-                } else if (npcType == PestControlNpc.PORTAL) {
-                    return attackPortals();
-                } else if (npcType == PestControlNpc.SPINNER) {
-                    return attackSpinner();
-                }
-            }
-        } else if (priority == 2) {
-            if (config.Priority2() == npcType) {
-                if (npcType == PestControlNpc.BRAWLER) {
-                    return attackBrawler();
-                } else if (npcType == PestControlNpc.PORTAL) {
-                    return attackPortals();
-                } else if (npcType == PestControlNpc.SPINNER) {
-                    return attackSpinner();
-                }
-            }
-        } else {
-            if (config.Priority2() == npcType) {
-                if (npcType == PestControlNpc.BRAWLER) {
-                    return attackBrawler();
-                } else if (npcType == PestControlNpc.PORTAL) {
-                    return attackPortals();
-                } else if (npcType == PestControlNpc.SPINNER) {
-                    return attackSpinner();
-                }
-            }
+    /**
+     * Attacks the target picked from the configured priorities by the target index.
+     */
+    private boolean handleAttack() {
+        PestControlNpc npcType = targetIndex.pickTarget(config.Priority1(), config.Priority2(), config.Priority3(), config.priorityRange());
+        if (npcType == null) return false;
+
+        if (npcType == PestControlNpc.PORTAL) {
+            return attackPortal();
         }
 
+        NPC target = targetIndex.getNearest(npcType);
+        if (target == null) return false;
+        if (Rs2Npc.interact(new Rs2NpcModel(target), "attack")) {
+            targetIndex.markAttacked();
+            sleepUntil(() -> !Microbot.getClient().getLocalPlayer().isInteracting());
+            return true;
+        }
         return false;
     }
 
-    public Portal getClosestAttackablePortal() {
-        List<Pair<Portal, Integer>> distancesToPortal = new ArrayList();
-        for (Portal portal : portals) {
-            if (!portal.isHasShield() && !portal.getHitPoints().getText().trim().equals("0")) {
-                distancesToPortal.add(Pair.of(portal, distanceToRegion(portal.getRegionX(), portal.getRegionY())));
-            }
+    /**
+     * Walks to the selected open portal, its NPC is only used for the attack once it is in view.
+     */
+    private boolean attackPortal() {
+        WorldPoint portalTile = targetIndex.getLocation(PestControlNpc.PORTAL);
+        if (portalTile == null) return false;
+
+        NPC npcPortal = targetIndex.getNearest(PestControlNpc.PORTAL);
+        if (npcPortal == null || targetIndex.getDistance(PestControlNpc.PORTAL) > distanceToPortal) {
+            Rs2Walker.walkTo(portalTile, 5);
+            npcPortal = targetIndex.getNearest(PestControlNpc.PORTAL);
         }
-
-        Pair<Portal, Integer> closestPortal = distancesToPortal.stream().min(Map.Entry.comparingByValue()).orElse(null);
-
-        if (closestPortal == null) return null;
-
-        return closestPortal.getKey();
-    }
-
-    private static boolean attackPortal() {
-        if (!Microbot.getClient().getLocalPlayer().isInteracting()) {
-            Rs2NpcModel npcPortal = Rs2Npc.getNpc("portal");
-            if (npcPortal == null) return false;
-            NPCComposition npc = Microbot.getClientThread().runOnClientThreadOptional(() ->
-                    Microbot.getClient().getNpcDefinition(npcPortal.getId())).orElse(null);
-            if (npc == null) return false;
-
-            if (Arrays.stream(npc.getActions()).anyMatch(x -> x != null && x.equalsIgnoreCase("attack"))) {
-                return Rs2Npc.interact(npcPortal, "attack");
-            } else {
-                return false;
-            }
+        if (npcPortal == null || Microbot.getClient().getLocalPlayer().isInteracting()) return true;
+        if (Rs2Npc.interact(new Rs2NpcModel(npcPortal), "attack")) {
+            targetIndex.markAttacked();
         }
-        return false;
+        return true;
     }
 
-
-    private boolean attackPortals() {
-        Portal closestAttackablePortal = getClosestAttackablePortal();
-        if (closestAttackablePortal == null) return false;
-        for (Portal portal : portals) {
-            if (!portal.isHasShield() && !portal.getHitPoints().getText().trim().equals("0") && closestAttackablePortal == portal) {
-                if (!Rs2Walker.isCloseToRegion(distanceToPortal, portal.getRegionX(), portal.getRegionY())) {
-                    Rs2Walker.walkTo(WorldPoint.fromRegion(Rs2Player.getWorldLocation().getRegionID(), portal.getRegionX(), portal.getRegionY(), Microbot.getClient().getPlane()), 5);
-                    attackPortal();
-                } else {
-                    attackPortal();
-                }
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Called with the commendation points awarded at the end of a game.
+     */
+    void recordPoints(int points) {
+        pointsEarned += points;
     }
 
-    private boolean attackSpinner() {
-        for (int spinner : SPINNER_IDS) {
-            if (Rs2Npc.interact(spinner, "attack")) {
-                sleepUntil(() -> !Microbot.getClient().getLocalPlayer().isInteracting());
-                return true;
-            }
-        }
-        return false;
+    public int getGamesPlayed() {
+        return gamesPlayed;
     }
 
-    private boolean attackBrawler() {
-        for (int brawler : BRAWLER_IDS) {
-            if (Rs2Npc.interact(brawler, "attack")) {
-                sleepUntil(() -> !Microbot.getClient().getLocalPlayer().isInteracting());
-                return true;
-            }
-        }
-        return false;
+    public double getPointsPerGame() {
+        return gamesPlayed == 0 ? 0 : (double) pointsEarned / gamesPlayed;
     }
 
     @Override
@@ -364,6 +296,7 @@ public class PestControlScript extends Script {
         Microbot.log("Pest control about to shutdown");
         initialise = true;
         walkToCenter = false;
+        inGame = false;
         super.shutdown();
     }
 }
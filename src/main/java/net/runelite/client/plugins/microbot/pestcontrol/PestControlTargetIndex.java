@@ -0,0 +1,271 @@
+package net.runelite.client.plugins.microbot.pestcontrol;
+
+import com.google.common.collect.ImmutableSet;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.NpcID;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.plugins.pestcontrol.Portal;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classifies the portals, spinners and brawlers of the current game in a single pass over the NPCs
+ * once per game tick, and keeps the nearest attackable NPC of each kind for the script.
+ * Whether a spinner or brawler id can be attacked is read from its definition once and cached.
+ * The portal target is the nearest {@link Portal} by region coordinates whose shield, tracked from the chat
+ * messages, is down and which has hitpoints left. Portal NPCs are only visible from close by, so the target
+ * is kept without an NPC until its NPC comes into view.
+ * <p>
+ * Also measures the reaction time, from the tick the player became idle with a target available
+ * to the next successful attack.
+ */
+@Slf4j
+public class PestControlTargetIndex {
+    private static final Set<Integer> SPINNER_IDS = ImmutableSet.of(
+            NpcID.SPINNER,
+            NpcID.SPINNER_1710,
+            NpcID.SPINNER_1711,
+            NpcID.SPINNER_1712,
+            NpcID.SPINNER_1713
+    );
+
+    private static final Set<Integer> BRAWLER_IDS = ImmutableSet.of(
+            NpcID.BRAWLER,
+            NpcID.BRAWLER_1736,
+            NpcID.BRAWLER_1738,
+            NpcID.BRAWLER_1737,
+            NpcID.BRAWLER_1735
+    );
+
+    // How far a portal NPC may be from the tile of its Portal
+    private static final int PORTAL_MATCH_DISTANCE = 5;
+
+    // Cached for the NPC ids which aren't pest control targets
+    private static final Attackability NONE = new Attackability(null, false);
+
+    private final Map<Integer, Attackability> attackabilityById = new ConcurrentHashMap<>();
+
+    private volatile Map<PestControlNpc, Target> targets = Collections.emptyMap();
+
+    // Reaction time
+    private volatile long idleSince = 0;
+    private volatile long lastReactionMs = 0;
+    private long reactionSum = 0;
+    private int reactionSamples = 0;
+
+    /**
+     * Rebuilds the nearest target of each kind, called once per game tick on the client thread.
+     */
+    public void onGameTick(Client client) {
+        Player player = client.getLocalPlayer();
+        if (player == null) return;
+        WorldPoint origin = player.getWorldLocation();
+        WorldPoint portalTile = getNearestOpenPortal(origin);
+        NPC portalNpc = null;
+        int portalNpcDistance = Integer.MAX_VALUE;
+
+        Map<PestControlNpc, Target> nearest = new EnumMap<>(PestControlNpc.class);
+        for (NPC npc : client.getTopLevelWorldView().npcs()) {
+            Attackability attackability = getAttackability(client, npc.getId());
+            if (!attackability.attackable || npc.isDead()) continue;
+
+            WorldPoint location = npc.getWorldLocation();
+            if (location == null) continue;
+
+            if (attackability.type == PestControlNpc.PORTAL) {
+                // Only the NPC of the selected portal is kept, for the final interaction
+                if (portalTile == null) continue;
+                int distance = location.distanceTo(portalTile);
+                if (distance <= PORTAL_MATCH_DISTANCE && distance < portalNpcDistance) {
+                    portalNpc = npc;
+                    portalNpcDistance = distance;
+                }
+                continue;
+            }
+            int distance = location.distanceTo(origin);
+
+            Target current = nearest.get(attackability.type);
+            if (current == null || distance < current.distance) {
+                nearest.put(attackability.type, new Target(npc, location, distance));
+            }
+        }
+        if (portalTile != null) {
+            nearest.put(PestControlNpc.PORTAL, new Target(portalNpc, portalTile, portalTile.distanceTo(origin)));
+        }
+        targets = nearest;
+
+        if (player.getInteracting() != null || nearest.isEmpty()) {
+            idleSince = 0;
+        } else if (idleSince == 0) {
+            idleSince = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * NPCs of the previous scene are gone, their targets are dropped until the next tick.
+     */
+    public void onSceneLoading() {
+        targets = Collections.emptyMap();
+        idleSince = 0;
+    }
+
+    /**
+     * @return the nearest attackable NPC of the kind, or null if there is none. For portals this is the NPC of
+     * the selected portal, which is null while the portal is out of view
+     */
+    public NPC getNearest(PestControlNpc type) {
+        Target target = targets.get(type);
+        return target == null ? null : target.npc;
+    }
+
+    /**
+     * @return the location of the target of the kind, the portal tile for portals, or null if there is none
+     */
+    public WorldPoint getLocation(PestControlNpc type) {
+        Target target = targets.get(type);
+        return target == null ? null : target.location;
+    }
+
+    /**
+     * @return the distance to the target of the kind, or -1 if there is none
+     */
+    public int getDistance(PestControlNpc type) {
+        Target target = targets.get(type);
+        return target == null ? -1 : target.distance;
+    }
+
+    /**
+     * Picks the kind of NPC to attack from the configured priorities. Each priority is worth
+     * {@code priorityRange} tiles over the next one, so a lower priority target is only chosen
+     * when it is that much closer than a higher priority one.
+     *
+     * @return the kind to attack, or null if none of them has an attackable NPC
+     */
+    public PestControlNpc pickTarget(PestControlNpc priority1, PestControlNpc priority2, PestControlNpc priority3, int priorityRange) {
+        Map<PestControlNpc, Target> current = targets;
+        PestControlNpc best = null;
+        int bestScore = Integer.MIN_VALUE;
+        PestControlNpc[] priorities = {priority1, priority2, priority3};
+        for (int i = 0; i < priorities.length; i++) {
+            Target target = current.get(priorities[i]);
+            if (target == null) continue;
+            int score = (priorities.length - i) * priorityRange - target.distance;
+            if (score > bestScore) {
+                best = priorities[i];
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Called after a successful attack, records the time since the player became idle.
+     */
+    public void markAttacked() {
+        long since = idleSince;
+        if (since == 0) return;
+        long reaction = System.currentTimeMillis() - since;
+        synchronized (this) {
+            reactionSum += reaction;
+            reactionSamples++;
+        }
+        lastReactionMs = reaction;
+        idleSince = 0;
+        log.debug("Attacked {} ms after becoming idle", reaction);
+    }
+
+    public long getLastReactionMs() {
+        return lastReactionMs;
+    }
+
+    public synchronized long getAverageReactionMs() {
+        return reactionSamples == 0 ? 0 : reactionSum / reactionSamples;
+    }
+
+    private Attackability getAttackability(Client client, int npcId) {
+        Attackability cached = attackabilityById.get(npcId);
+        if (cached != null) return cached;
+
+        Attackability attackability = NONE;
+        NPCComposition composition = client.getNpcDefinition(npcId);
+        if (composition != null) {
+            PestControlNpc type = classify(npcId, composition.getName());
+            if (type == PestControlNpc.PORTAL) {
+                // Decided by the tracked shield state on every tick
+                attackability = new Attackability(type, true);
+            } else if (type != null) {
+                attackability = new Attackability(type, hasAttackAction(composition));
+            }
+        }
+        attackabilityById.put(npcId, attackability);
+        return attackability;
+    }
+
+    /**
+     * @return the tile of the nearest portal whose shield has dropped and which has hitpoints left,
+     * or null if there is none
+     */
+    private static WorldPoint getNearestOpenPortal(WorldPoint origin) {
+        WorldPoint nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (Portal portal : PestControlScript.portals) {
+            if (portal.isHasShield()) continue;
+            Widget hitPoints = portal.getHitPoints();
+            if (hitPoints != null && hitPoints.getText().trim().equals("0")) continue;
+            WorldPoint tile = WorldPoint.fromRegion(origin.getRegionID(), portal.getRegionX(), portal.getRegionY(), origin.getPlane());
+            int distance = tile.distanceTo(origin);
+            if (distance < nearestDistance) {
+                nearest = tile;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private static PestControlNpc classify(int npcId, String name) {
+        if (SPINNER_IDS.contains(npcId)) return PestControlNpc.SPINNER;
+        if (BRAWLER_IDS.contains(npcId)) return PestControlNpc.BRAWLER;
+        if ("portal".equalsIgnoreCase(name)) return PestControlNpc.PORTAL;
+        return null;
+    }
+
+    private static boolean hasAttackAction(NPCComposition composition) {
+        String[] actions = composition.getActions();
+        if (actions == null) return false;
+        for (String action : actions) {
+            if ("attack".equalsIgnoreCase(action)) return true;
+        }
+        return false;
+    }
+
+    private static final class Attackability {
+        private final PestControlNpc type;
+        private final boolean attackable;
+
+        private Attackability(PestControlNpc type, boolean attackable) {
+            this.type = type;
+            this.attackable = attackable;
+        }
+    }
+
+    private static final class Target {
+        private final NPC npc;
+        private final WorldPoint location;
+        private final int distance;
+
+        private Target(NPC npc, WorldPoint location, int distance) {
+            this.npc = npc;
+            this.location = location;
+            this.distance = distance;
+        }
+    }
+}
@@ -24,229 +24,349 @@
  */
 package net.runelite.client.plugins.microbot.shootingstar;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Type;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.client.game.WorldService;
 import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarLocation;
 import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarProvider;
-import net.runelite.client.plugins.microbot.shootingstar.model.OSRSVaultStarModel;
 import net.runelite.client.plugins.microbot.shootingstar.model.Star;
-import net.runelite.client.plugins.microbot.shootingstar.model.ZeroSevenStarModel;
+import net.runelite.client.plugins.microbot.shootingstar.model.StarSnapshot;
 import net.runelite.http.api.worlds.World;
 import net.runelite.http.api.worlds.WorldResult;
 import net.runelite.http.api.worlds.WorldType;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
-
+import okhttp3.ResponseBody;
+
+/**
+ * Fetches shooting star calls in the background.
+ * <p>
+ * Both providers are queried concurrently on every refresh, so falling back to the alternative provider costs no
+ * extra round-trip. Requests are conditional (ETag / Last-Modified), a 304 response re-uses the previously decoded
+ * payload. The result of each refresh is published as an immutable {@link StarSnapshot} which can be read from any
+ * thread without blocking.
+ */
 @Slf4j
 @Singleton
 public class ShootingStarApiClient
 {
-	private final OkHttpClient okHttpClient = new OkHttpClient();
+	private final OkHttpClient okHttpClient;
 
 	private final Client client;
 	private final WorldService worldService;
-	private final String zeroSevenEndpoint;
-	private final String osrsVaultEndpoint;
+	private final Map<ShootingStarProvider, String> endpoints = new EnumMap<>(ShootingStarProvider.class);
+	private final Map<ShootingStarProvider, ProviderCache> providerCaches = new EnumMap<>(ShootingStarProvider.class);
 
 	private final ZoneId utcZoneId = ZoneId.of("UTC");
 
+	@Getter
+	private volatile StarSnapshot snapshot = StarSnapshot.EMPTY;
+	private CompletableFuture<StarSnapshot> pendingRefresh;
+	private ShootingStarProvider pendingProvider;
+
+	@Getter
+	private final AtomicLong bytesSaved = new AtomicLong();
+	@Getter
+	private final AtomicLong notModifiedResponses = new AtomicLong();
+	/**
+	 * Number of decoded star calls which did not match any {@link ShootingStarLocation}.
+	 */
+	@Getter
+	private final AtomicLong unmatchedLocations = new AtomicLong();
+
 	@Inject
 	public ShootingStarApiClient(Client client, WorldService worldService)
+	{
+		this(client, worldService, new OkHttpClient(), loadEndpoints());
+	}
+
+	/**
+	 * Allows pointing the client at a local stub server.
+	 */
+	ShootingStarApiClient(Client client, WorldService worldService, OkHttpClient okHttpClient, Map<ShootingStarProvider, String> endpoints)
 	{
 		this.client = client;
 		this.worldService = worldService;
-		Properties properties = loadProperties();
-		this.zeroSevenEndpoint = properties.getProperty("microbot.shootingstar.zeroseven");
-		this.osrsVaultEndpoint = properties.getProperty("microbot.shootingstar.osrsvault");
+		this.okHttpClient = okHttpClient;
+		this.endpoints.putAll(endpoints);
+		for (ShootingStarProvider provider : ShootingStarProvider.values())
+		{
+			providerCaches.put(provider, new ProviderCache());
+		}
 	}
 
-	private String getData(ShootingStarProvider provider)
+	/**
+	 * Starts a refresh of both providers unless one is already running for the same provider.
+	 * A refresh still running for another provider is cancelled, its result is never published.
+	 *
+	 * @param provider the preferred provider, the other one is only used when this one has no stars
+	 * @return a future completed with the published snapshot
+	 */
+	public synchronized CompletableFuture<StarSnapshot> refreshAsync(ShootingStarProvider provider)
 	{
-		String endpoint = getEndpoint(provider);
-
-		if (endpoint == null || endpoint.isEmpty())
+		if (client.getGameState() != GameState.LOGGED_IN)
 		{
-			log.warn("Shooting star API endpoint is not configured or is empty");
-			return "";
+			log.debug("GameState is not {}", GameState.LOGGED_IN.name());
+			return CompletableFuture.completedFuture(snapshot);
 		}
 
-		Request httpRequest = new Request.Builder()
-			.url(endpoint)
-			.get()
-			.build();
-
-		String jsonResponse;
+		if (worldService.getWorlds() == null)
+		{
+			log.warn("Worlds are not available");
+			return CompletableFuture.completedFuture(snapshot);
+		}
 
-		try (Response response = okHttpClient.newCall(httpRequest).execute())
+		if (pendingRefresh != null && !pendingRefresh.isDone())
 		{
-			if (!response.isSuccessful())
+			if (pendingProvider == provider)
 			{
-				log.warn("Failed to fetch shooting star data: {}", response.message());
-				return "";
+				return pendingRefresh;
 			}
-			jsonResponse = response.body() != null ? response.body().string() : null;
-		}
-		catch (Exception e)
-		{
-			log.trace("Error fetching shooting star data", e);
-			return "";
+			pendingRefresh.cancel(false);
 		}
 
-		if (jsonResponse == null || jsonResponse.isEmpty())
-		{
-			log.warn("Received empty response from shooting star API endpoint");
-			return "";
-		}
+		ShootingStarProvider alternativeProvider = provider == ShootingStarProvider.OSRS_VAULT ? ShootingStarProvider.ZERO_SEVEN : ShootingStarProvider.OSRS_VAULT;
+
+		CompletableFuture<List<Star>> primary = fetchAsync(provider);
+		CompletableFuture<List<Star>> alternative = fetchAsync(alternativeProvider);
 
-		return jsonResponse;
+		pendingProvider = provider;
+		pendingRefresh = primary.thenCombine(alternative, (primaryStars, alternativeStars) -> publish(provider, primaryStars, alternativeProvider, alternativeStars));
+		return pendingRefresh;
 	}
 
-	private List<Star> fetchZeroSeven(String jsonResponse)
+	/**
+	 * @return the latency of the last completed request to the provider in milliseconds, or -1 if there was none
+	 */
+	public long getLastLatencyMs(ShootingStarProvider provider)
 	{
-		Gson gson = new Gson();
-		Type listType = new TypeToken<List<ZeroSevenStarModel>>() {}.getType();
+		return providerCaches.get(provider).lastLatencyMs;
+	}
 
-		List<ZeroSevenStarModel> deserializedStarData = Collections.emptyList();
-		try
+	private synchronized StarSnapshot publish(ShootingStarProvider provider, List<Star> primaryStars, ShootingStarProvider alternativeProvider, List<Star> alternativeStars)
+	{
+		if (provider != pendingProvider)
 		{
-			List<ZeroSevenStarModel> result = gson.fromJson(jsonResponse, listType);
-			if (result != null)
-			{
-				deserializedStarData = result;
-			}
+			log.debug("Dropping stars of a refresh for {}, the provider changed to {}", provider, pendingProvider);
+			return snapshot;
 		}
-		catch (JsonSyntaxException e)
+
+		ZonedDateTime now = ZonedDateTime.now(utcZoneId);
+
+		ShootingStarProvider source = provider;
+		List<Star> starData = filterStars(provider, primaryStars, now);
+		if (starData.isEmpty())
 		{
-			log.trace("Failed to parse response: {}", jsonResponse, e);
+			log.info("Primary provider {} returned no data, falling back to {}", provider.getProviderName(), alternativeProvider.getProviderName());
+			source = alternativeProvider;
+			starData = filterStars(alternativeProvider, alternativeStars, now);
 		}
-		return new ArrayList<>(deserializedStarData);
+
+		StarSnapshot next = new StarSnapshot(snapshot.getVersion() + 1, provider, starData.isEmpty() ? null : source,
+			Collections.unmodifiableList(starData), System.currentTimeMillis());
+		snapshot = next;
+
+		log.debug("Published {} stars from {} (latency {}: {}ms, {}: {}ms, bytes saved: {}, unmatched locations: {})", starData.size(), source,
+			provider, getLastLatencyMs(provider), alternativeProvider, getLastLatencyMs(alternativeProvider), bytesSaved.get(), unmatchedLocations.get());
+		return next;
 	}
 
-	private List<Star> fetchOSRSVault(String jsonResponse)
+	private CompletableFuture<List<Star>> fetchAsync(ShootingStarProvider provider)
 	{
-		Gson gson = new Gson();
-		Type listType = new TypeToken<List<OSRSVaultStarModel>>() {}.getType();
+		String endpoint = endpoints.get(provider);
+
+		if (endpoint == null || endpoint.isEmpty())
+		{
+			log.warn("Shooting star API endpoint for {} is not configured or is empty", provider);
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		ProviderCache cache = providerCaches.get(provider);
+		Request.Builder requestBuilder = new Request.Builder()
+			.url(endpoint)
+			.get();
 
-		List<OSRSVaultStarModel> deserializedStarData = Collections.emptyList();
-		try
+		if (cache.stars != null)
 		{
-			List<OSRSVaultStarModel> result = gson.fromJson(jsonResponse, listType);
-			if (result != null)
+			if (cache.etag != null)
 			{
-				deserializedStarData = result;
+				requestBuilder.header("If-None-Match", cache.etag);
+			}
+			if (cache.lastModified != null)
+			{
+				requestBuilder.header("If-Modified-Since", cache.lastModified);
 			}
 		}
-		catch (JsonSyntaxException e)
+
+		CompletableFuture<List<Star>> future = new CompletableFuture<>();
+		long startTime = System.nanoTime();
+
+		okHttpClient.newCall(requestBuilder.build()).enqueue(new Callback()
 		{
-			log.trace("Failed to parse response: {}", jsonResponse, e);
-		}
-		return new ArrayList<>(deserializedStarData);
+			@Override
+			public void onFailure(Call call, IOException e)
+			{
+				cache.lastLatencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+				log.trace("Error fetching shooting star data from {}", provider, e);
+				future.complete(Collections.emptyList());
+			}
+
+			@Override
+			public void onResponse(Call call, Response response)
+			{
+				try (response)
+				{
+					future.complete(handleResponse(provider, cache, response));
+				}
+				catch (Exception e)
+				{
+					log.trace("Error reading shooting star data from {}", provider, e);
+					future.complete(Collections.emptyList());
+				}
+				finally
+				{
+					cache.lastLatencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+				}
+			}
+		});
+
+		return future;
 	}
 
-	public List<Star> getStarData(ShootingStarProvider provider)
+	private List<Star> handleResponse(ShootingStarProvider provider, ProviderCache cache, Response response) throws IOException
 	{
-		if (client.getGameState() != GameState.LOGGED_IN)
+		if (response.code() == 304 && cache.stars != null)
 		{
-			log.warn("GameState is not {}", GameState.LOGGED_IN.name());
-			return Collections.emptyList();
+			bytesSaved.addAndGet(cache.bodyBytes);
+			notModifiedResponses.incrementAndGet();
+			return cache.stars;
 		}
 
-		if (worldService.getWorlds() == null)
+		if (!response.isSuccessful())
 		{
-			log.warn("Worlds are not available");
+			log.warn("Failed to fetch shooting star data from {}: {}", provider, response.message());
 			return Collections.emptyList();
 		}
 
-		ZonedDateTime now = ZonedDateTime.now(utcZoneId);
+		ResponseBody body = response.body();
+		byte[] bytes = body != null ? body.bytes() : new byte[0];
 
-		List<Star> starData = tryProvider(provider, now);
-
-		ShootingStarProvider _alternativeProvider = provider != ShootingStarProvider.OSRS_VAULT ? ShootingStarProvider.ZERO_SEVEN : ShootingStarProvider.OSRS_VAULT;
-		if (starData.isEmpty())
+		if (bytes.length == 0)
 		{
-			log.info("Primary provider {} returned no data, falling back to {}", provider.getProviderName(), _alternativeProvider.getProviderName());
-			starData = tryProvider(_alternativeProvider, now);
+			log.warn("Received empty response from shooting star API endpoint {}", provider);
+			return Collections.emptyList();
 		}
 
-		return starData;
+		List<Star> stars = decode(provider, bytes);
+
+		cache.etag = response.header("ETag");
+		cache.lastModified = response.header("Last-Modified");
+		cache.bodyBytes = bytes.length;
+		cache.stars = Collections.unmodifiableList(stars);
+		return cache.stars;
 	}
 
-	private List<Star> tryProvider(ShootingStarProvider provider, ZonedDateTime now)
+	private List<Star> decode(ShootingStarProvider provider, byte[] payload)
 	{
-		String response = getData(provider);
-		if (response.isEmpty() || response.equals("[]"))
+		long expiryThreshold = ZonedDateTime.now(utcZoneId).minusMinutes(3).toInstant().toEpochMilli();
+
+		try (Reader reader = new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8))
 		{
-			log.debug("Provider {} returned empty or null response", provider);
-			return Collections.emptyList();
+			return StarPayloadDecoder.decode(provider, reader, fields -> acceptStar(fields, expiryThreshold));
 		}
-
-		List<Star> starData = (Objects.equals(provider, ShootingStarProvider.ZERO_SEVEN)) ?
-			fetchZeroSeven(response) : fetchOSRSVault(response);
-
-		if (starData.isEmpty())
+		catch (IOException | RuntimeException e)
 		{
-			log.debug("Provider {} returned empty star data after parsing", provider);
+			log.trace("Failed to parse response from {}", provider, e);
 			return Collections.emptyList();
 		}
+	}
 
-		boolean inSeasonalWorld = client.getWorldType().contains(WorldType.SEASONAL);
+	/**
+	 * Rejects stars while decoding which can never become valid: expired stars, unknown locations & game mode worlds.
+	 */
+	private boolean acceptStar(StarPayloadDecoder.StarFields star, long expiryThreshold)
+	{
+		if (star.getEndsAt() < expiryThreshold)
+		{
+			return false;
+		}
 
-		// Remove stars that are older than 3 minutes
-		starData.removeIf(s -> s.getEndsAt() < now.minusMinutes(3).toInstant().toEpochMilli());
+		ShootingStarLocation location = ShootingStarLocation.findLocation(star.getLocationKey(), star.getRawLocation());
+		if (location == null)
+		{
+			unmatchedLocations.incrementAndGet();
+			return false;
+		}
+		star.setShootingStarLocation(location);
 
-		// Log & remove stars that have no matching location key or raw location
-		starData.removeIf(s -> {
-			ShootingStarLocation location = findLocation(s.getLocationKey() != null ? s.getLocationKey().toString() : "", s.getRawLocation());
-			boolean toRemove = location == null;
-			if (toRemove)
-			{
-				log.debug("No matching ShootingStarLocation found for key: {} and raw location: {}", s.getLocationKey(), s.getRawLocation());
-			}
-			else
-			{
-				s.setShootingStarLocation(location);
-			}
-			return toRemove;
-		});
+		World world = getWorld(star.getWorld());
+		if (world == null)
+		{
+			log.debug("No matching world found for ID: {}", star.getWorld());
+			return true;
+		}
 
-		starData.forEach(s -> {
-			World world = getWorld(s.getWorld());
-			if (world == null)
+		EnumSet<WorldType> worldTypes = world.getTypes();
+		for (WorldType worldType : worldTypes)
+		{
+			if (Star.GAME_MODE_WORLD_TYPES.contains(worldType))
 			{
-				log.debug("No matching world found for ID: {}", s.getWorld());
-				return;
+				return false;
 			}
+		}
+		star.setSeasonalWorld(worldTypes.contains(WorldType.SEASONAL));
+		star.setMemberWorld(worldTypes.contains(WorldType.MEMBERS));
+		return true;
+	}
 
-			s.setGameModeWorld(world.getTypes().stream().anyMatch(wt -> s.getGameModeWorldTypes().contains(wt)));
-			s.setSeasonalWorld(world.getTypes().contains(WorldType.SEASONAL));
-			s.setMemberWorld(world.getTypes().contains(WorldType.MEMBERS));
-		});
+	private List<Star> filterStars(ShootingStarProvider provider, List<Star> decodedStars, ZonedDateTime now)
+	{
+		if (decodedStars.isEmpty())
+		{
+			log.debug("Provider {} returned empty star data after parsing", provider);
+			return Collections.emptyList();
+		}
 
-		// Filter out unwanted stars based on world type compatibility
-		starData.removeIf(star -> shouldFilterStar(star, inSeasonalWorld));
+		boolean inSeasonalWorld = client.getWorldType().contains(WorldType.SEASONAL);
+		long expiryThreshold = now.minusMinutes(3).toInstant().toEpochMilli();
 
+		// Decoded stars are cached for conditional requests and may have expired since they were parsed
+		List<Star> starData = new ArrayList<>(decodedStars.size());
+		for (Star star : decodedStars)
+		{
+			if (star.getEndsAt() >= expiryThreshold && !shouldFilterStar(star, inSeasonalWorld))
+			{
+				starData.add(star);
+			}
+		}
 		return starData;
 	}
 
-
 	private boolean shouldFilterStar(Star star, boolean inSeasonalWorld)
 	{
 		if (star.isGameModeWorld())
@@ -257,17 +377,6 @@ public class ShootingStarApiClient
 		return inSeasonalWorld != star.isSeasonalWorld();
 	}
 
-	private ShootingStarLocation findLocation(String locationKey, String rawLocation)
-	{
-		return Arrays.stream(ShootingStarLocation.values())
-			.filter(location ->
-				locationKey.equalsIgnoreCase(location.name()) ||
-					rawLocation.equalsIgnoreCase(location.getRawLocationName()) ||
-					locationKey.equalsIgnoreCase(location.getShortLocationName()))
-			.findFirst()
-			.orElse(null);
-	}
-
 	private World getWorld(int worldId)
 	{
 		assert worldService.getWorlds() != null : "World Result should not be null";
@@ -276,20 +385,7 @@ public class ShootingStarApiClient
 		return worldResult.findWorld(worldId);
 	}
 
-	private String getEndpoint(ShootingStarProvider provider)
-	{
-		if (provider == ShootingStarProvider.ZERO_SEVEN)
-		{
-			return zeroSevenEndpoint;
-		}
-		else if (provider == ShootingStarProvider.OSRS_VAULT)
-		{
-			return osrsVaultEndpoint;
-		}
-		return "";
-	}
-
-	private Properties loadProperties()
+	private static Map<ShootingStarProvider, String> loadEndpoints()
 	{
 		Properties properties = new Properties();
 		try (InputStream input = ShootingStarApiClient.class.getResourceAsStream("shootingstar.properties"))
@@ -303,6 +399,19 @@ public class ShootingStarApiClient
 		{
 			log.trace("Unable to parse shootingstar.properties", e);
 		}
-		return properties;
+
+		Map<ShootingStarProvider, String> endpoints = new EnumMap<>(ShootingStarProvider.class);
+		endpoints.put(ShootingStarProvider.ZERO_SEVEN, properties.getProperty("microbot.shootingstar.zeroseven"));
+		endpoints.put(ShootingStarProvider.OSRS_VAULT, properties.getProperty("microbot.shootingstar.osrsvault"));
+		return endpoints;
+	}
+
+	private static class ProviderCache
+	{
+		private volatile String etag;
+		private volatile String lastModified;
+		private volatile List<Star> stars;
+		private volatile int bodyBytes;
+		private volatile long lastLatencyMs = -1;
 	}
 }
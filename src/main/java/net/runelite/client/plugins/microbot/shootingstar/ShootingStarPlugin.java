@@ -15,12 +15,10 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -34,7 +32,6 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.GameState;
-import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
@@ -47,6 +44,7 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.PluginConstants;
 import net.runelite.client.plugins.microbot.breakhandler.BreakHandlerPlugin;
 import net.runelite.client.plugins.microbot.shootingstar.model.Star;
+import net.runelite.client.plugins.microbot.shootingstar.model.StarSnapshot;
 import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.Pathfinder;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
@@ -75,8 +73,9 @@ public class ShootingStarPlugin extends Plugin
 
 	static final String version = "1.4.2";
 
-	@Getter
+	// Guarded by starList, the list is merged from the http callback thread and read from the script, panel and scheduler
 	private final List<Star> starList = new ArrayList<>();
+	private final StarIndex starIndex = new StarIndex();
 
 	@Inject
 	private ShootingStarScript shootingStarScript;
@@ -84,6 +83,9 @@ public class ShootingStarPlugin extends Plugin
 	@Inject
 	private ShootingStarApiClient shootingStarApiClient;
 
+	@Inject
+	private StarSnapshotStore starSnapshotStore;
+
 	@Inject
 	private ShootingStarConfig config;
 
@@ -108,8 +110,12 @@ public class ShootingStarPlugin extends Plugin
 	@Setter
 	public int totalStarsMined = 0;
 	private final AtomicInteger apiTickCounter = new AtomicInteger(0);
+	private long lastMergedSnapshotVersion = -1;
+	private long lastFetchedAt = 0;
 	private int lastWorld = -1;
 	private final int UPDATE_INTERVAL = 3;
+	// A star of the highest tier within this many walking tiles is taken without pathfinding to every candidate
+	private final int NEARBY_STAR_DISTANCE = 15;
 	private final ZoneId utcZoneId = ZoneId.of("UTC");
 	@Getter
 	private boolean displayAsMinutes;
@@ -128,7 +134,13 @@ public class ShootingStarPlugin extends Plugin
 		hideF2PWorlds = Rs2Player.isInMemberWorld();
 
 		loadBlacklistedLocations();
-		fetchStars();
+		loadStoredStars();
+
+		// Stored stars are served immediately, only refresh right away if they are outdated
+		if (System.currentTimeMillis() - lastFetchedAt >= Duration.ofMinutes(UPDATE_INTERVAL).toMillis())
+		{
+			fetchStars();
+		}
 		createPanel();
 		updatePanelList(true);
 
@@ -140,7 +152,15 @@ public class ShootingStarPlugin extends Plugin
 	{
 		shootingStarScript.shutdown();
 		removePanel();
-		starList.clear();
+		saveStars();
+		starSnapshotStore.flush();
+		synchronized (starList)
+		{
+			starList.clear();
+			starIndex.clear();
+			lastMergedSnapshotVersion = -1;
+			lastFetchedAt = 0;
+		}
 		lastWorld = -1;
 		apiTickCounter.set(0);
 		overlayManager.remove(shootingStarOverlay);
@@ -175,10 +195,13 @@ public class ShootingStarPlugin extends Plugin
 
 		if (event.getKey().equals(ShootingStarConfig.providerName)) {
 			log.info("Provider changed to: {}", config.getProvider());
-			final int beforeSize = starList.size();
-			starList.clear();
+			synchronized (starList)
+			{
+				starList.clear();
+				starIndex.clear();
+				lastMergedSnapshotVersion = -1;
+			}
 			fetchStars();
-			log.info("Stars fetched: {} (before: {})", starList.size(), beforeSize);
 		}
 
 		if (event.getKey().equals(ShootingStarConfig.hideOverlay))
@@ -194,6 +217,7 @@ public class ShootingStarPlugin extends Plugin
 	)
 	public void tick() {
 		checkDepletedStars();
+		mergeLatestSnapshot();
 
 		if (apiTickCounter.get() >= UPDATE_INTERVAL)
 		{
@@ -243,36 +267,114 @@ public class ShootingStarPlugin extends Plugin
 		}
 	}
 
+	/**
+	 * Requests a background refresh of the star providers, the result is merged into the star list once it arrives.
+	 */
 	public void fetchStars()
 	{
-		List<Star> latestStars = shootingStarApiClient.getStarData(config.getProvider());
+		shootingStarApiClient.refreshAsync(config.getProvider())
+			.thenRun(this::mergeLatestSnapshot);
+	}
+
+	/**
+	 * Merges the latest published snapshot into the star list if it has not been merged yet.
+	 * Snapshots requested for another provider than the configured one are ignored.
+	 */
+	private void mergeLatestSnapshot()
+	{
+		StarSnapshot snapshot = shootingStarApiClient.getSnapshot();
+		if (snapshot.getRequestedProvider() != config.getProvider())
+		{
+			return;
+		}
+
 		boolean fullUpdate = false;
 
-		for (Star star : latestStars) {
-			// Find oldStar inside starList
-			Star oldStar = starList.stream()
-				.filter(star::equals)
-				.findFirst()
-				.orElse(null);
+		synchronized (starList)
+		{
+			if (snapshot.getVersion() == lastMergedSnapshotVersion)
+			{
+				return;
+			}
+			lastMergedSnapshotVersion = snapshot.getVersion();
+			if (snapshot.getFetchedAt() > 0)
+			{
+				lastFetchedAt = snapshot.getFetchedAt();
+			}
+
+			for (Star star : snapshot.getStars()) {
+				// Find oldStar inside starList
+				Star oldStar = starList.stream()
+					.filter(star::equals)
+					.findFirst()
+					.orElse(null);
 
-			// If there is an oldStar in the same world & location
-			if (oldStar != null)
+				// If there is an oldStar in the same world & location
+				if (oldStar != null)
+				{
+					oldStar.setEndsAt(star.getEndsAt());
+					updateStarTier(oldStar, star.getTier());
+					continue;
+				}
+
+				// If oldStar not found, add new star into the list
+				starList.add(star);
+				starIndex.add(star);
+				fullUpdate = true;
+			}
+
+			if (fullUpdate) {
+				updateHiddenStars();
+			}
+
+			saveStars();
+		}
+		updatePanelList(fullUpdate);
+	}
+
+	private void loadStoredStars()
+	{
+		long threshold = ZonedDateTime.now(utcZoneId).minusMinutes(UPDATE_INTERVAL).toInstant().toEpochMilli();
+		StarSnapshotStore.StoredStars storedStars = starSnapshotStore.load(threshold);
+
+		synchronized (starList)
+		{
+			for (Star star : storedStars.getStars())
 			{
-				oldStar.setEndsAt(star.getEndsAt());
-				oldStar.setTier(star.getTier());
-				continue;
+				if (starList.contains(star))
+				{
+					continue;
+				}
+				starList.add(star);
+				starIndex.add(star);
 			}
+			lastFetchedAt = storedStars.getFetchedAt();
 
-			// If oldStar not found, add new star into the list
-			starList.add(star);
-			fullUpdate = true;
+			if (!storedStars.getStars().isEmpty())
+			{
+				log.debug("Loaded {} stored stars", storedStars.getStars().size());
+				updateHiddenStars();
+			}
 		}
+	}
 
-		if (fullUpdate) {
-			updateHiddenStars();
+	private void saveStars()
+	{
+		synchronized (starList)
+		{
+			starSnapshotStore.scheduleSave(starList, lastFetchedAt);
 		}
+	}
 
-		updatePanelList(fullUpdate);
+	/**
+	 * @return a copy of the current stars
+	 */
+	public List<Star> getStarList()
+	{
+		synchronized (starList)
+		{
+			return new ArrayList<>(starList);
+		}
 	}
 
 	private void checkDepletedStars()
@@ -280,11 +382,15 @@ public class ShootingStarPlugin extends Plugin
 		ZonedDateTime now = ZonedDateTime.now(utcZoneId);
 		long threshold = now.minusMinutes(UPDATE_INTERVAL).toInstant().toEpochMilli();
 
-		List<Star> depletedStars = starList.stream()
-			.filter(star -> star.getEndsAt() < threshold)
-			.collect(Collectors.toList());
+		List<Star> depletedStars;
+		synchronized (starList)
+		{
+			depletedStars = starList.stream()
+				.filter(star -> star.getEndsAt() < threshold)
+				.collect(Collectors.toList());
 
-		depletedStars.forEach(this::removeStar);
+			depletedStars.forEach(this::removeStar);
+		}
 
 		boolean fullUpdate = !depletedStars.isEmpty();
 		updatePanelList(fullUpdate);
@@ -292,11 +398,25 @@ public class ShootingStarPlugin extends Plugin
 
 	public void removeStar(Star star)
 	{
-		if (star.equals(getSelectedStar()))
+		synchronized (starList)
 		{
-			star.setSelected(false);
+			if (star.equals(getSelectedStar()))
+			{
+				star.setSelected(false);
+			}
+			starList.remove(star);
+			starIndex.remove(star);
+			saveStars();
+		}
+	}
+
+	public void updateStarTier(Star star, int tier)
+	{
+		synchronized (starList)
+		{
+			star.setTier(tier);
+			starIndex.updateTier(star);
 		}
-		starList.remove(star);
 	}
 
 	public void updateSelectedStar(Star star)
@@ -311,22 +431,29 @@ public class ShootingStarPlugin extends Plugin
 			oldStar.setSelected(false);
 			star.setSelected(!star.isSelected());
 		}
+		saveStars();
 	}
 
 	public void updateHiddenStars()
 	{
-		starList.forEach(star -> {
-			boolean hide = hideMembersWorlds && star.isMemberWorld()
-				|| (hideF2PWorlds && !star.isMemberWorld())
-				|| (config.isHideWildernessLocations() && star.isInWilderness())
-				|| blacklistedLocations.contains(star.getShootingStarLocation().getLocationName());
-			star.setHidden(hide);
-		});
+		synchronized (starList)
+		{
+			starList.forEach(star -> {
+				boolean hide = hideMembersWorlds && star.isMemberWorld()
+					|| (hideF2PWorlds && !star.isMemberWorld())
+					|| (config.isHideWildernessLocations() && star.isInWilderness())
+					|| blacklistedLocations.contains(star.getShootingStarLocation().getLocationName());
+				star.setHidden(hide);
+			});
+		}
 	}
 
 	public Star getSelectedStar()
 	{
-		return starList.stream().filter(Star::isSelected).findFirst().orElse(null);
+		synchronized (starList)
+		{
+			return starList.stream().filter(Star::isSelected).findFirst().orElse(null);
+		}
 	}
 
 	private void createPanel()
@@ -355,15 +482,21 @@ public class ShootingStarPlugin extends Plugin
 
 	public void updatePanelList(boolean fullUpdate)
 	{
-		List<Star> stars = new ArrayList<>(starList);
+		final ShootingStarPanel starPanel = panel;
+		if (starPanel == null)
+		{
+			return;
+		}
+
+		List<Star> stars = getStarList();
 
 		if (fullUpdate)
 		{
-			SwingUtilities.invokeLater(() -> panel.updateList(stars));
+			SwingUtilities.invokeLater(() -> starPanel.updateList(stars));
 		}
 		else
 		{
-			SwingUtilities.invokeLater(() -> panel.refreshList(stars));
+			SwingUtilities.invokeLater(() -> starPanel.refreshList(stars));
 		}
 	}
 
@@ -396,29 +529,12 @@ public class ShootingStarPlugin extends Plugin
 
 	public Star getClosestHighestTierStar()
 	{
-		// Get the highest tier available
-		int highestTier = starList.stream()
-			.filter(s -> !s.isHidden() && s.hasRequirements())
-			.mapToInt(Star::getTier)
-			.max()
-			.orElse(-1);  // Return -1 if no star meets the requirements
-
-		// If no star meets the requirements, return null
-		if (highestTier == -1)
+		List<Star> accessibleStars;
+		synchronized (starList)
 		{
-			return null;
+			accessibleStars = starIndex.getCandidates(s -> !s.isHidden() && s.hasRequirements());
 		}
 
-		int minTier = Math.max(1, highestTier - 2); // The lowest tier to consider (at least 1)
-		int maxTier = Math.min(9, highestTier + 1); // The highest tier to consider (up to 9)
-
-		List<Star> accessibleStars = starList.stream()
-			.filter(s -> !s.isHidden() && s.hasRequirements())
-			.filter(s -> s.getTier() >= minTier && s.getTier() <= maxTier)
-			.sorted(Comparator.comparingInt(Star::getTier).reversed())
-			.distinct()
-			.collect(Collectors.toList());
-
 		Set<WorldPoint> accessibleStarPoints = accessibleStars.stream()
 			.map(s -> s.getShootingStarLocation().getWorldPoint())
 			.filter(Objects::nonNull)
@@ -429,49 +545,80 @@ public class ShootingStarPlugin extends Plugin
 			return null; // No accessible stars found
 		}
 
-		if (ShortestPathPlugin.getPathfinderConfig().getTransports().isEmpty())
+		// Candidates are ordered by tier, skip the pathfinder to every candidate when a star of the highest tier is next to the player
+		Star nearbyStar = getBestStarWithin(accessibleStars, NEARBY_STAR_DISTANCE);
+		if (nearbyStar != null && nearbyStar.getTier() >= accessibleStars.get(0).getTier())
 		{
-			ShortestPathPlugin.getPathfinderConfig().refresh();
+			nearbyStar.setSelected(true);
+			return nearbyStar;
 		}
 
-		Pathfinder pathfinder = new Pathfinder(ShortestPathPlugin.getPathfinderConfig(), Microbot.getClient().getLocalPlayer().getWorldLocation(), accessibleStarPoints);
-		pathfinder.run();
-		List<WorldPoint> path = pathfinder.getPath();
+		List<WorldPoint> path = findPath(accessibleStarPoints);
 
 		if (path.isEmpty())
 		{
 			return null; // No path found to any accessible star
 		}
 
-		WorldPoint finalTile = path.get(path.size() - 1);
-		WorldArea finalTileArea = new WorldArea(finalTile, 3, 3);
+		Star closestStar;
+		synchronized (starList)
+		{
+			closestStar = starIndex.findIntersecting(path.get(path.size() - 1), accessibleStars);
+		}
+		if (closestStar != null)
+		{
+			closestStar.setSelected(true);
+		}
+		return closestStar;
+	}
 
-		Map<Star, WorldArea> starAreas = accessibleStars.stream()
-			.collect(Collectors.toMap(
-				star -> star,
-				star -> {
-					WorldPoint wp = star.getShootingStarLocation().getWorldPoint();
-					return new WorldArea(wp, 3, 3);
-				}
-			));
+	/**
+	 * Finds the highest tier of the accessible stars within the given walking distance of the player.
+	 * The closest one by straight-line distance is picked first, then checked with a path to that star alone,
+	 * so a star across a wall or river is not taken.
+	 */
+	private Star getBestStarWithin(List<Star> accessibleStars, int maxDistance)
+	{
+		WorldPoint playerLocation = Rs2Player.getWorldLocation();
+		if (playerLocation == null)
+		{
+			return null;
+		}
 
-		Optional<Star> intersectingStar = starAreas.entrySet().stream()
-			.filter(entry -> entry.getValue().intersectsWith2D(finalTileArea))
-			.map(Map.Entry::getKey)
-			.findFirst();
+		Star star;
+		synchronized (starList)
+		{
+			star = starIndex.findBest(playerLocation, maxDistance, accessibleStars::contains);
+		}
+		if (star == null)
+		{
+			return null;
+		}
 
-		if (intersectingStar.isEmpty())
+		List<WorldPoint> path = findPath(Collections.singleton(star.getShootingStarLocation().getWorldPoint()));
+		if (path.isEmpty() || path.size() - 1 > maxDistance)
 		{
 			return null;
 		}
-		else
+
+		synchronized (starList)
 		{
-			Star closestStar = intersectingStar.get();
-			closestStar.setSelected(true);
-			return closestStar;
+			return starIndex.findIntersecting(path.get(path.size() - 1), Collections.singletonList(star));
 		}
 	}
 
+	private List<WorldPoint> findPath(Set<WorldPoint> targets)
+	{
+		if (ShortestPathPlugin.getPathfinderConfig().getTransports().isEmpty())
+		{
+			ShortestPathPlugin.getPathfinderConfig().refresh();
+		}
+
+		Pathfinder pathfinder = new Pathfinder(ShortestPathPlugin.getPathfinderConfig(), Microbot.getClient().getLocalPlayer().getWorldLocation(), targets);
+		pathfinder.run();
+		return pathfinder.getPath();
+	}
+
 	private void enableBreakHandler()
 	{
 		Plugin breakHandlerPlugin = Microbot.getPlugin(BreakHandlerPlugin.class);
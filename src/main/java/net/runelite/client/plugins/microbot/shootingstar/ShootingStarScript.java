@@ -444,7 +444,7 @@ public class ShootingStarScript extends Script
 			}
 
 			int _newTier = currentStar.getTierBasedOnObjectId(starObject.getId());
-			currentStar.setTier(_newTier);
+			plugin.updateStarTier(currentStar, _newTier);
 			plugin.updatePanelList(false);
 			currentStar = selectedStar;
 		}
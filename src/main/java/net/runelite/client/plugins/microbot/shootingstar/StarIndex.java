@@ -0,0 +1,229 @@
+package net.runelite.client.plugins.microbot.shootingstar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shootingstar.model.Star;
+
+/**
+ * Incrementally maintained index of the known stars, bucketed by tier and by the region of their location.
+ * <p>
+ * The plugin adds stars when a snapshot is merged and removes them when they are depleted, so lookups never have to
+ * scan or sort the full star list.
+ */
+class StarIndex
+{
+	static final int MIN_TIER = 1;
+	static final int MAX_TIER = 9;
+
+	/**
+	 * Size of the area around a star location that the star can be mined from.
+	 */
+	private static final int STAR_AREA_SIZE = 3;
+
+	private final List<List<Star>> tierBuckets = new ArrayList<>(MAX_TIER + 1);
+	private final Map<Integer, List<Star>> regionBuckets = new HashMap<>();
+	private final Map<Star, Integer> indexedTiers = new IdentityHashMap<>();
+
+	StarIndex()
+	{
+		for (int tier = 0; tier <= MAX_TIER; tier++)
+		{
+			tierBuckets.add(new ArrayList<>());
+		}
+	}
+
+	synchronized void add(Star star)
+	{
+		if (indexedTiers.containsKey(star))
+		{
+			updateTier(star);
+			return;
+		}
+
+		int tier = clampTier(star.getTier());
+		indexedTiers.put(star, tier);
+		tierBuckets.get(tier).add(star);
+
+		WorldPoint worldPoint = star.getShootingStarLocation().getWorldPoint();
+		regionBuckets.computeIfAbsent(worldPoint.getRegionID(), k -> new ArrayList<>()).add(star);
+	}
+
+	synchronized void remove(Star star)
+	{
+		Integer tier = indexedTiers.remove(star);
+		if (tier == null)
+		{
+			return;
+		}
+
+		tierBuckets.get(tier).remove(star);
+
+		int regionId = star.getShootingStarLocation().getWorldPoint().getRegionID();
+		List<Star> region = regionBuckets.get(regionId);
+		if (region != null)
+		{
+			region.remove(star);
+			if (region.isEmpty())
+			{
+				regionBuckets.remove(regionId);
+			}
+		}
+	}
+
+	/**
+	 * Moves the star into the bucket of its current tier.
+	 */
+	synchronized void updateTier(Star star)
+	{
+		Integer indexedTier = indexedTiers.get(star);
+		int tier = clampTier(star.getTier());
+		if (indexedTier == null || indexedTier == tier)
+		{
+			return;
+		}
+
+		tierBuckets.get(indexedTier).remove(star);
+		tierBuckets.get(tier).add(star);
+		indexedTiers.put(star, tier);
+	}
+
+	synchronized void clear()
+	{
+		tierBuckets.forEach(List::clear);
+		regionBuckets.clear();
+		indexedTiers.clear();
+	}
+
+	/**
+	 * Returns the stars worth travelling to: all stars matching the filter from two tiers below up to one tier above
+	 * the highest matching tier, ordered from highest to lowest tier.
+	 */
+	synchronized List<Star> getCandidates(Predicate<Star> filter)
+	{
+		int highestTier = -1;
+		for (int tier = MAX_TIER; tier >= MIN_TIER && highestTier == -1; tier--)
+		{
+			for (Star star : tierBuckets.get(tier))
+			{
+				if (filter.test(star))
+				{
+					highestTier = tier;
+					break;
+				}
+			}
+		}
+
+		if (highestTier == -1)
+		{
+			return Collections.emptyList();
+		}
+
+		int minTier = Math.max(MIN_TIER, highestTier - 2);
+		List<Star> candidates = new ArrayList<>();
+		for (int tier = highestTier; tier >= minTier; tier--)
+		{
+			for (Star star : tierBuckets.get(tier))
+			{
+				if (filter.test(star))
+				{
+					candidates.add(star);
+				}
+			}
+		}
+		return candidates;
+	}
+
+	/**
+	 * Finds the highest tier star matching the filter within the given distance, ties are broken by distance.
+	 *
+	 * @return the best star or null if there is none in range
+	 */
+	synchronized Star findBest(WorldPoint origin, int maxDistance, Predicate<Star> filter)
+	{
+		for (int tier = MAX_TIER; tier >= MIN_TIER; tier--)
+		{
+			Star best = null;
+			int bestDistance = Integer.MAX_VALUE;
+
+			for (Star star : tierBuckets.get(tier))
+			{
+				WorldPoint worldPoint = star.getShootingStarLocation().getWorldPoint();
+				if (worldPoint.getPlane() != origin.getPlane())
+				{
+					continue;
+				}
+
+				int distance = worldPoint.distanceTo2D(origin);
+				if (distance > maxDistance || distance >= bestDistance || !filter.test(star))
+				{
+					continue;
+				}
+
+				best = star;
+				bestDistance = distance;
+			}
+
+			if (best != null)
+			{
+				return best;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the first of the given candidates whose mining area intersects with the area around the tile.
+	 * Only the regions the area can touch are searched.
+	 */
+	synchronized Star findIntersecting(WorldPoint tile, List<Star> candidates)
+	{
+		WorldArea tileArea = new WorldArea(tile, STAR_AREA_SIZE, STAR_AREA_SIZE);
+		int reach = STAR_AREA_SIZE - 1;
+
+		Star match = null;
+		int matchIndex = Integer.MAX_VALUE;
+
+		for (int dx = -reach; dx <= reach; dx += reach)
+		{
+			for (int dy = -reach; dy <= reach; dy += reach)
+			{
+				int regionId = tile.dx(dx).dy(dy).getRegionID();
+				List<Star> region = regionBuckets.get(regionId);
+				if (region == null)
+				{
+					continue;
+				}
+
+				for (Star star : region)
+				{
+					WorldArea starArea = new WorldArea(star.getShootingStarLocation().getWorldPoint(), STAR_AREA_SIZE, STAR_AREA_SIZE);
+					if (!starArea.intersectsWith2D(tileArea))
+					{
+						continue;
+					}
+
+					// Keep the candidate order (highest tier first)
+					int index = candidates.indexOf(star);
+					if (index != -1 && index < matchIndex)
+					{
+						match = star;
+						matchIndex = index;
+					}
+				}
+			}
+		}
+		return match;
+	}
+
+	private static int clampTier(int tier)
+	{
+		return Math.max(0, Math.min(MAX_TIER, tier));
+	}
+}
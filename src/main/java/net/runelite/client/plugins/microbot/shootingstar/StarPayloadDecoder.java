@@ -0,0 +1,215 @@
+package net.runelite.client.plugins.microbot.shootingstar;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarLocation;
+import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarProvider;
+import net.runelite.client.plugins.microbot.shootingstar.model.OSRSVaultStarModel;
+import net.runelite.client.plugins.microbot.shootingstar.model.Star;
+import net.runelite.client.plugins.microbot.shootingstar.model.ZeroSevenStarModel;
+
+/**
+ * Streaming decoder for the provider payloads.
+ * <p>
+ * Every entry is read into a single reused {@link StarFields} buffer and handed to a {@link StarFilter} before a
+ * {@link Star} is created, so stars which are rejected while parsing are never allocated.
+ */
+final class StarPayloadDecoder
+{
+	private StarPayloadDecoder()
+	{
+	}
+
+	interface StarFilter
+	{
+		/**
+		 * @param fields the decoded fields of the current entry, the filter may resolve the location and world flags
+		 * @return true to keep the star
+		 */
+		boolean accept(StarFields fields);
+	}
+
+	@Getter
+	@Setter
+	static final class StarFields
+	{
+		private long calledAt;
+		private long endsAt;
+		private int world;
+		private String locationKey;
+		private String rawLocation;
+		private int tier;
+		private ShootingStarLocation shootingStarLocation;
+		private boolean memberWorld;
+		private boolean gameModeWorld;
+		private boolean seasonalWorld;
+
+		private void reset()
+		{
+			calledAt = 0;
+			endsAt = 0;
+			world = 0;
+			locationKey = "";
+			rawLocation = "";
+			tier = 0;
+			shootingStarLocation = null;
+			memberWorld = false;
+			gameModeWorld = false;
+			seasonalWorld = false;
+		}
+	}
+
+	static List<Star> decode(ShootingStarProvider provider, Reader input, StarFilter filter) throws IOException
+	{
+		List<Star> stars = new ArrayList<>();
+		StarFields fields = new StarFields();
+
+		try (JsonReader reader = new JsonReader(input))
+		{
+			if (reader.peek() != JsonToken.BEGIN_ARRAY)
+			{
+				reader.skipValue();
+				return stars;
+			}
+
+			reader.beginArray();
+			while (reader.hasNext())
+			{
+				fields.reset();
+
+				if (reader.peek() != JsonToken.BEGIN_OBJECT)
+				{
+					reader.skipValue();
+					continue;
+				}
+
+				reader.beginObject();
+				while (reader.hasNext())
+				{
+					String name = reader.nextName();
+					if (reader.peek() == JsonToken.NULL)
+					{
+						reader.skipValue();
+						continue;
+					}
+
+					if (provider == ShootingStarProvider.ZERO_SEVEN)
+					{
+						readZeroSevenField(name, reader, fields);
+					}
+					else
+					{
+						readOSRSVaultField(name, reader, fields);
+					}
+				}
+				reader.endObject();
+
+				if (!filter.accept(fields))
+				{
+					continue;
+				}
+
+				stars.add(provider == ShootingStarProvider.ZERO_SEVEN ? createZeroSeven(fields) : createOSRSVault(fields));
+			}
+			reader.endArray();
+		}
+
+		return stars;
+	}
+
+	private static void readZeroSevenField(String name, JsonReader reader, StarFields fields) throws IOException
+	{
+		switch (name)
+		{
+			case "calledAt":
+				fields.calledAt = reader.nextLong();
+				break;
+			case "estimatedEnd":
+				fields.endsAt = reader.nextLong();
+				break;
+			case "world":
+				fields.world = reader.nextInt();
+				break;
+			case "locationKey":
+				fields.locationKey = readString(reader);
+				break;
+			case "rawLocation":
+				fields.rawLocation = readString(reader);
+				break;
+			case "tier":
+				fields.tier = reader.nextInt();
+				break;
+			default:
+				reader.skipValue();
+				break;
+		}
+	}
+
+	private static void readOSRSVaultField(String name, JsonReader reader, StarFields fields) throws IOException
+	{
+		switch (name)
+		{
+			case "called_at":
+				fields.calledAt = Instant.parse(reader.nextString()).toEpochMilli();
+				break;
+			case "ends_at":
+				fields.endsAt = Instant.parse(reader.nextString()).toEpochMilli();
+				break;
+			case "world":
+				fields.world = reader.nextInt();
+				break;
+			case "locationKey":
+				fields.locationKey = readString(reader);
+				break;
+			case "called_location":
+				fields.rawLocation = readString(reader);
+				break;
+			case "tier":
+				fields.tier = reader.nextInt();
+				break;
+			default:
+				reader.skipValue();
+				break;
+		}
+	}
+
+	private static String readString(JsonReader reader) throws IOException
+	{
+		JsonToken token = reader.peek();
+		if (token == JsonToken.STRING || token == JsonToken.NUMBER)
+		{
+			return reader.nextString();
+		}
+		reader.skipValue();
+		return "";
+	}
+
+	private static Star createZeroSeven(StarFields fields)
+	{
+		ZeroSevenStarModel star = new ZeroSevenStarModel(fields.calledAt, fields.endsAt, fields.world, fields.locationKey, fields.rawLocation, fields.tier);
+		applyResolvedFields(star, fields);
+		return star;
+	}
+
+	private static Star createOSRSVault(StarFields fields)
+	{
+		OSRSVaultStarModel star = new OSRSVaultStarModel(fields.calledAt, fields.endsAt, fields.world, fields.locationKey, fields.rawLocation, fields.tier);
+		applyResolvedFields(star, fields);
+		return star;
+	}
+
+	private static void applyResolvedFields(Star star, StarFields fields)
+	{
+		star.setShootingStarLocation(fields.shootingStarLocation);
+		star.setMemberWorld(fields.memberWorld);
+		star.setGameModeWorld(fields.gameModeWorld);
+		star.setSeasonalWorld(fields.seasonalWorld);
+	}
+}
@@ -0,0 +1,240 @@
+package net.runelite.client.plugins.microbot.shootingstar;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarLocation;
+import net.runelite.client.plugins.microbot.shootingstar.model.OSRSVaultStarModel;
+import net.runelite.client.plugins.microbot.shootingstar.model.Star;
+import net.runelite.client.plugins.microbot.shootingstar.model.ZeroSevenStarModel;
+
+/**
+ * Persists the merged star list to disk, so the plugin has stars to pick from before the first API round-trip.
+ * <p>
+ * Saves are batched: every change replaces the pending copy and a single write is scheduled after
+ * {@link #SAVE_DELAY_SECONDS}. Files are written to a temporary file first and atomically moved into place.
+ */
+@Slf4j
+@Singleton
+public class StarSnapshotStore
+{
+	private static final int FORMAT_VERSION = 1;
+	private static final long SAVE_DELAY_SECONDS = 30;
+
+	private static final byte ZERO_SEVEN = 0;
+	private static final byte OSRS_VAULT = 1;
+
+	private static final int FLAG_SELECTED = 1;
+	private static final int FLAG_MEMBER_WORLD = 1 << 1;
+	private static final int FLAG_GAME_MODE_WORLD = 1 << 2;
+	private static final int FLAG_SEASONAL_WORLD = 1 << 3;
+
+	private final ScheduledExecutorService executor;
+	private final Path file;
+
+	private List<Star> pendingStars;
+	private long pendingFetchedAt;
+	private ScheduledFuture<?> pendingSave;
+
+	@Value
+	public static class StoredStars
+	{
+		static final StoredStars EMPTY = new StoredStars(Collections.emptyList(), 0);
+
+		List<Star> stars;
+		long fetchedAt;
+	}
+
+	@Inject
+	public StarSnapshotStore(ScheduledExecutorService executor)
+	{
+		this(executor, new File(new File(RuneLite.RUNELITE_DIR, "shootingstar"), "stars.dat").toPath());
+	}
+
+	StarSnapshotStore(ScheduledExecutorService executor, Path file)
+	{
+		this.executor = executor;
+		this.file = file;
+	}
+
+	/**
+	 * Loads the stored stars, dropping every star that ended before the given time.
+	 */
+	public StoredStars load(long endsAfter)
+	{
+		if (!Files.exists(file))
+		{
+			return StoredStars.EMPTY;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+		{
+			if (in.readInt() != FORMAT_VERSION)
+			{
+				log.debug("Ignoring star snapshot with an unknown format");
+				return StoredStars.EMPTY;
+			}
+
+			long fetchedAt = in.readLong();
+			int count = in.readInt();
+			List<Star> stars = new ArrayList<>(count);
+
+			for (int i = 0; i < count; i++)
+			{
+				byte provider = in.readByte();
+				long calledAt = in.readLong();
+				long endsAt = in.readLong();
+				int world = in.readShort();
+				String locationKey = in.readUTF();
+				String rawLocation = in.readUTF();
+				String locationName = in.readUTF();
+				int tier = in.readByte();
+				int flags = in.readByte();
+
+				if (endsAt < endsAfter)
+				{
+					continue;
+				}
+
+				ShootingStarLocation location;
+				try
+				{
+					location = ShootingStarLocation.valueOf(locationName);
+				}
+				catch (IllegalArgumentException e)
+				{
+					continue;
+				}
+
+				Star star = provider == ZERO_SEVEN
+					? new ZeroSevenStarModel(calledAt, endsAt, world, locationKey, rawLocation, tier)
+					: new OSRSVaultStarModel(calledAt, endsAt, world, locationKey, rawLocation, tier);
+				star.setShootingStarLocation(location);
+				star.setSelected((flags & FLAG_SELECTED) != 0);
+				star.setMemberWorld((flags & FLAG_MEMBER_WORLD) != 0);
+				star.setGameModeWorld((flags & FLAG_GAME_MODE_WORLD) != 0);
+				star.setSeasonalWorld((flags & FLAG_SEASONAL_WORLD) != 0);
+				stars.add(star);
+			}
+
+			return new StoredStars(stars, fetchedAt);
+		}
+		catch (IOException e)
+		{
+			log.debug("Unable to read star snapshot", e);
+			return StoredStars.EMPTY;
+		}
+	}
+
+	/**
+	 * Schedules a write of the given stars, replacing any write which has not happened yet.
+	 */
+	public synchronized void scheduleSave(List<Star> stars, long fetchedAt)
+	{
+		pendingStars = new ArrayList<>(stars);
+		pendingFetchedAt = fetchedAt;
+
+		if (pendingSave == null || pendingSave.isDone())
+		{
+			pendingSave = executor.schedule(this::flush, SAVE_DELAY_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Writes the pending stars immediately, if there are any.
+	 */
+	public void flush()
+	{
+		List<Star> stars;
+		long fetchedAt;
+		synchronized (this)
+		{
+			if (pendingSave != null)
+			{
+				pendingSave.cancel(false);
+				pendingSave = null;
+			}
+			if (pendingStars == null)
+			{
+				return;
+			}
+			stars = pendingStars;
+			fetchedAt = pendingFetchedAt;
+			pendingStars = null;
+		}
+
+		try
+		{
+			write(stars, fetchedAt);
+		}
+		catch (IOException e)
+		{
+			log.debug("Unable to write star snapshot", e);
+		}
+	}
+
+	private void write(List<Star> stars, long fetchedAt) throws IOException
+	{
+		Files.createDirectories(file.getParent());
+		Path tempFile = Files.createTempFile(file.getParent(), "stars", ".tmp");
+
+		try
+		{
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile))))
+			{
+				out.writeInt(FORMAT_VERSION);
+				out.writeLong(fetchedAt);
+				out.writeInt(stars.size());
+
+				for (Star star : stars)
+				{
+					int flags = (star.isSelected() ? FLAG_SELECTED : 0)
+						| (star.isMemberWorld() ? FLAG_MEMBER_WORLD : 0)
+						| (star.isGameModeWorld() ? FLAG_GAME_MODE_WORLD : 0)
+						| (star.isSeasonalWorld() ? FLAG_SEASONAL_WORLD : 0);
+
+					out.writeByte(star instanceof ZeroSevenStarModel ? ZERO_SEVEN : OSRS_VAULT);
+					out.writeLong(star.getCalledAt());
+					out.writeLong(star.getEndsAt());
+					out.writeShort(star.getWorld());
+					out.writeUTF(star.getLocationKey() != null ? star.getLocationKey().toString() : "");
+					out.writeUTF(star.getRawLocation() != null ? star.getRawLocation() : "");
+					out.writeUTF(star.getShootingStarLocation().name());
+					out.writeByte(star.getTier());
+					out.writeByte(flags);
+				}
+			}
+
+			try
+			{
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (IOException e)
+			{
+				// Not every file system supports atomic moves
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(tempFile);
+		}
+	}
+}
@@ -1,5 +1,9 @@
 package net.runelite.client.plugins.microbot.shootingstar.enums;
 
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.Quest;
@@ -108,6 +112,100 @@ public enum ShootingStarLocation
 	private final String shortLocationName;
 	private final boolean isInWilderness;
 
+	private static final Map<String, ShootingStarLocation> BY_NAME;
+	private static final Map<String, ShootingStarLocation> BY_RAW_LOCATION_NAME;
+	private static final Map<String, ShootingStarLocation> BY_SHORT_LOCATION_NAME;
+	private static final Map<String, ShootingStarLocation> BY_NORMALIZED_NAME;
+
+	static
+	{
+		Map<String, ShootingStarLocation> byName = new HashMap<>();
+		Map<String, ShootingStarLocation> byRawLocationName = new HashMap<>();
+		Map<String, ShootingStarLocation> byShortLocationName = new HashMap<>();
+		Map<String, ShootingStarLocation> byNormalizedName = new HashMap<>();
+
+		for (ShootingStarLocation location : values())
+		{
+			byName.putIfAbsent(foldCase(location.name()), location);
+			byRawLocationName.putIfAbsent(foldCase(location.getRawLocationName()), location);
+			byShortLocationName.putIfAbsent(foldCase(location.getShortLocationName()), location);
+		}
+
+		// Fuzzy keys are added after all exact keys so an exact spelling of one location never maps to another one
+		for (ShootingStarLocation location : values())
+		{
+			byNormalizedName.putIfAbsent(normalize(location.name()), location);
+			byNormalizedName.putIfAbsent(normalize(location.getRawLocationName()), location);
+			byNormalizedName.putIfAbsent(normalize(location.getShortLocationName()), location);
+		}
+
+		BY_NAME = ImmutableMap.copyOf(byName);
+		BY_RAW_LOCATION_NAME = ImmutableMap.copyOf(byRawLocationName);
+		BY_SHORT_LOCATION_NAME = ImmutableMap.copyOf(byShortLocationName);
+		BY_NORMALIZED_NAME = ImmutableMap.copyOf(byNormalizedName);
+	}
+
+	/**
+	 * Resolves the location of a provider star call.
+	 * The location key is matched against the enum name & short location name, the raw location against the raw
+	 * location name, all case-insensitive. If none of them match, a fuzzy lookup ignoring punctuation & whitespace
+	 * is used to tolerate spelling drift between the providers.
+	 *
+	 * @return the matching location or null if there is none
+	 */
+	public static ShootingStarLocation findLocation(String locationKey, String rawLocation)
+	{
+		String foldedKey = locationKey != null ? foldCase(locationKey) : "";
+		String foldedRawLocation = rawLocation != null ? foldCase(rawLocation) : "";
+
+		// Prefer the first declared location when several exact keys match
+		ShootingStarLocation match = first(BY_NAME.get(foldedKey), BY_RAW_LOCATION_NAME.get(foldedRawLocation));
+		match = first(match, BY_SHORT_LOCATION_NAME.get(foldedKey));
+		if (match != null)
+		{
+			return match;
+		}
+
+		match = foldedKey.isEmpty() ? null : BY_NORMALIZED_NAME.get(normalize(foldedKey));
+		if (match == null && !foldedRawLocation.isEmpty())
+		{
+			match = BY_NORMALIZED_NAME.get(normalize(foldedRawLocation));
+		}
+		return match;
+	}
+
+	private static ShootingStarLocation first(ShootingStarLocation a, ShootingStarLocation b)
+	{
+		if (a == null)
+		{
+			return b;
+		}
+		if (b == null)
+		{
+			return a;
+		}
+		return a.ordinal() <= b.ordinal() ? a : b;
+	}
+
+	private static String foldCase(String value)
+	{
+		return value.toLowerCase(Locale.ROOT);
+	}
+
+	private static String normalize(String value)
+	{
+		StringBuilder sb = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			if (Character.isLetterOrDigit(c))
+			{
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
 	public String getLocationName()
 	{
 		return getShortLocationName();
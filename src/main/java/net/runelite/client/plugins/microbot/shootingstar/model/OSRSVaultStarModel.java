@@ -1,7 +1,6 @@
 package net.runelite.client.plugins.microbot.shootingstar.model;
 
 import com.google.gson.annotations.SerializedName;
-import java.time.Instant;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarLocation;
@@ -9,10 +8,11 @@ import net.runelite.client.plugins.microbot.shootingstar.model.Star;
 
 public class OSRSVaultStarModel implements Star
 {
-	@SerializedName("called_at")
-	private String calledAt;
-	@SerializedName("ends_at")
-	private String endsAt;
+	@Getter
+	private long calledAt;
+	@Getter
+	@Setter
+	private long endsAt;
 	@Getter
 	private int world;
 	@Getter
@@ -42,19 +42,14 @@ public class OSRSVaultStarModel implements Star
 	@Setter
 	private boolean seasonalWorld;
 
-	public long getCalledAt()
-	{
-		return Instant.parse(calledAt).toEpochMilli();
-	}
-
-	public long getEndsAt()
-	{
-		return Instant.parse(endsAt).toEpochMilli();
-	}
-
-	public void setEndsAt(long endsAt)
+	public OSRSVaultStarModel(long calledAt, long endsAt, int world, Object locationKey, String rawLocation, int tier)
 	{
-		this.endsAt = Instant.ofEpochMilli(endsAt).toString();
+		this.calledAt = calledAt;
+		this.endsAt = endsAt;
+		this.world = world;
+		this.locationKey = locationKey;
+		this.rawLocation = rawLocation;
+		this.tier = tier;
 	}
 
 	@Override
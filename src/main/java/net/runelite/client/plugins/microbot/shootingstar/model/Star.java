@@ -1,6 +1,8 @@
 package net.runelite.client.plugins.microbot.shootingstar.model;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.api.Skill;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarLocation;
@@ -9,6 +11,19 @@ import net.runelite.http.api.worlds.WorldType;
 
 public interface Star
 {
+	Set<WorldType> GAME_MODE_WORLD_TYPES = Collections.unmodifiableSet(EnumSet.of(
+		WorldType.PVP,
+		WorldType.HIGH_RISK,
+		WorldType.BOUNTY,
+		WorldType.SKILL_TOTAL,
+		WorldType.LAST_MAN_STANDING,
+		WorldType.QUEST_SPEEDRUNNING,
+		WorldType.BETA_WORLD,
+		WorldType.DEADMAN,
+		WorldType.PVP_ARENA,
+		WorldType.TOURNAMENT,
+		WorldType.FRESH_START_WORLD
+	));
 
 	long getCalledAt();
 
@@ -149,18 +164,6 @@ public interface Star
 
 	default EnumSet<WorldType> getGameModeWorldTypes()
 	{
-		return EnumSet.of(
-			WorldType.PVP,
-			WorldType.HIGH_RISK,
-			WorldType.BOUNTY,
-			WorldType.SKILL_TOTAL,
-			WorldType.LAST_MAN_STANDING,
-			WorldType.QUEST_SPEEDRUNNING,
-			WorldType.BETA_WORLD,
-			WorldType.DEADMAN,
-			WorldType.PVP_ARENA,
-			WorldType.TOURNAMENT,
-			WorldType.FRESH_START_WORLD
-		);
+		return EnumSet.copyOf(GAME_MODE_WORLD_TYPES);
 	}
-}
\ No newline at end of file
+}
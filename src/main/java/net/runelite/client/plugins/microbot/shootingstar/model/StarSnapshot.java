@@ -0,0 +1,38 @@
+package net.runelite.client.plugins.microbot.shootingstar.model;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Value;
+import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarProvider;
+
+/**
+ * Immutable result of a single background refresh of the shooting star providers.
+ * A new snapshot is only published when a refresh completes, consumers compare {@link #getVersion()}
+ * to find out whether there is anything new to merge.
+ */
+@Value
+public class StarSnapshot
+{
+	public static final StarSnapshot EMPTY = new StarSnapshot(0, null, null, Collections.emptyList(), 0);
+
+	/**
+	 * Monotonically increasing version, incremented for every published snapshot.
+	 */
+	long version;
+	/**
+	 * The preferred provider the refresh was requested for, or null for the empty snapshot.
+	 */
+	ShootingStarProvider requestedProvider;
+	/**
+	 * The provider the stars were taken from, or null when no provider returned data.
+	 */
+	ShootingStarProvider provider;
+	/**
+	 * Unmodifiable list of the filtered stars.
+	 */
+	List<Star> stars;
+	/**
+	 * Epoch millis at which the refresh completed.
+	 */
+	long fetchedAt;
+}
@@ -42,6 +42,16 @@ public class ZeroSevenStarModel implements Star
 	@Setter
 	private boolean seasonalWorld;
 
+	public ZeroSevenStarModel(long calledAt, long endsAt, int world, Object locationKey, String rawLocation, int tier)
+	{
+		this.calledAt = calledAt;
+		this.endsAt = endsAt;
+		this.world = world;
+		this.locationKey = locationKey;
+		this.rawLocation = rawLocation;
+		this.tier = tier;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
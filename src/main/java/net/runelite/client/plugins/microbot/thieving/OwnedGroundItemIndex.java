@@ -0,0 +1,84 @@
+package net.runelite.client.plugins.microbot.thieving;
+
+import net.runelite.api.TileItem;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Owned ground items ordered by price, maintained from the ItemSpawned/ItemDespawned events.
+ * The events arrive on the client thread, the script only reads the published most expensive item,
+ * so checking for loot never has to scan the ground items or wait for the client thread.
+ */
+public class OwnedGroundItemIndex {
+    private static final long NONE = -1;
+
+    // Spawned stacks per item id, an id stays in the price order while at least one stack is on the ground
+    private final Map<Integer, Integer> stacksById = new HashMap<>();
+    private final Map<Integer, Integer> priceById = new HashMap<>();
+    // price << 32 | id, so the last entry is the most expensive item
+    private final TreeSet<Long> byPrice = new TreeSet<>();
+
+    private volatile long mostExpensive = NONE;
+
+    public static boolean isOwned(TileItem item) {
+        final int ownership = item.getOwnership();
+        return ownership == TileItem.OWNERSHIP_SELF || ownership == TileItem.OWNERSHIP_GROUP;
+    }
+
+    public synchronized void add(int id) {
+        final int stacks = stacksById.merge(id, 1, Integer::sum);
+        if (stacks == 1) {
+            byPrice.add(key(id, getPrice(id)));
+            publish();
+        }
+    }
+
+    public synchronized void remove(int id) {
+        final Integer stacks = stacksById.get(id);
+        if (stacks == null) return;
+        if (stacks > 1) {
+            stacksById.put(id, stacks - 1);
+            return;
+        }
+        stacksById.remove(id);
+        byPrice.remove(key(id, getPrice(id)));
+        publish();
+    }
+
+    /**
+     * Forget all items, prices are kept as they do not change within a session often enough to matter.
+     */
+    public synchronized void clear() {
+        stacksById.clear();
+        byPrice.clear();
+        publish();
+    }
+
+    /**
+     * @return the id of the most expensive owned ground item worth at least minPrice, or -1 if there is none
+     */
+    public int getMostExpensiveId(int minPrice) {
+        final long top = mostExpensive;
+        if (top == NONE || (int) (top >>> 32) < minPrice) return -1;
+        return (int) top;
+    }
+
+    public synchronized int size() {
+        return stacksById.size();
+    }
+
+    private void publish() {
+        mostExpensive = byPrice.isEmpty() ? NONE : byPrice.last();
+    }
+
+    private int getPrice(int id) {
+        return priceById.computeIfAbsent(id, k -> Math.max(0, Microbot.getItemManager().getItemPrice(k)));
+    }
+
+    private static long key(int id, int price) {
+        return ((long) price << 32) | (id & 0xFFFFFFFFL);
+    }
+}
@@ -3,8 +3,13 @@ package net.runelite.client.plugins.microbot.thieving;
 import com.google.inject.Provides;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameState;
 import net.runelite.api.Skill;
+import net.runelite.api.TileItem;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemSpawned;
 import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
@@ -51,6 +56,9 @@ public class ThievingPlugin extends Plugin {
     @Getter
     private ThievingScript thievingScript;
 
+    @Getter
+    private final OwnedGroundItemIndex ownedGroundItems = new OwnedGroundItemIndex();
+
     private int startXp = 0;
 	@Getter
 	private int maxCoinPouch;
@@ -71,6 +79,7 @@ public class ThievingPlugin extends Plugin {
         overlayManager.remove(thievingOverlay);
 		maxCoinPouch = 0;
         startXp = 0;
+        ownedGroundItems.clear();
     }
 
     private void setStartXp() {
@@ -114,4 +123,24 @@ public class ThievingPlugin extends Plugin {
         log.warn("Attempted to cast shadow veil while it was active");
         getThievingScript().forceShadowVeilActive = System.currentTimeMillis()+30_000;
     }
+
+    @Subscribe
+    public void onItemSpawned(ItemSpawned event) {
+        final TileItem item = event.getItem();
+        if (OwnedGroundItemIndex.isOwned(item)) ownedGroundItems.add(item.getId());
+    }
+
+    @Subscribe
+    public void onItemDespawned(ItemDespawned event) {
+        final TileItem item = event.getItem();
+        if (OwnedGroundItemIndex.isOwned(item)) ownedGroundItems.remove(item.getId());
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        // ground items are not despawned when the scene is reloaded
+        if (event.getGameState() == GameState.LOADING || event.getGameState() == GameState.LOGIN_SCREEN) {
+            ownedGroundItems.clear();
+        }
+    }
 }
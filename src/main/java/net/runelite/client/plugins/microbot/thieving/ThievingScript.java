@@ -37,7 +37,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -172,18 +171,19 @@ public class ThievingScript extends Script {
     }
 
     private int getMostExpensiveGroundItemId() {
-        final int minPrice = config.keepItemsAboveValue();
-        // takes long of client thread if there are a lot of dropped items
-        return Microbot.getClientThread().runOnClientThreadOptional(() -> Rs2GroundItemCache.getAllGroundItems()
-                .filter(Rs2GroundItemModel::isOwned)
-                .map(Rs2GroundItemModel::getId)
-                .distinct()
-                .map(id -> {
-                    final int price = Microbot.getItemManager().getItemPrice(id);
-                    return Map.entry(id, price);
-                }).filter(entry -> entry.getValue() >= minPrice)
-                .max(Comparator.comparingInt(Map.Entry::getValue))
-                .map(Map.Entry::getKey).orElse(-1)).orElse(-1);
+        return plugin.getOwnedGroundItems().getMostExpensiveId(config.keepItemsAboveValue());
+    }
+
+    private void indexOwnedGroundItems() {
+        // items dropped before the plugin started did not go through ItemSpawned
+        final OwnedGroundItemIndex index = plugin.getOwnedGroundItems();
+        Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            index.clear();
+            Rs2GroundItemCache.getAllGroundItems()
+                    .filter(Rs2GroundItemModel::isOwned)
+                    .forEach(item -> index.add(item.getId()));
+            return true;
+        });
     }
 
     private State getCurrentState() {
@@ -481,6 +481,7 @@ public class ThievingScript extends Script {
         lastAction = System.currentTimeMillis();
         nextShadowVeil = System.currentTimeMillis()+60_000;
         underAttack = false;
+        indexOwnedGroundItems();
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
                 loop();
@@ -0,0 +1,188 @@
+package net.runelite.client.plugins.microbot.tithefarming;
+
+import net.runelite.api.GameObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.gameval.ObjectID;
+import net.runelite.client.plugins.microbot.tithefarming.models.TitheFarmPlant;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Keeps every patch in a queue for its next action. Dry patches are ordered by the deadline before
+ * which they have to be watered, the lane order (plant index) breaks ties and orders the other queues.
+ * Patches only move between queues when their game object changes (GameObjectSpawned), so picking
+ * the next patch is a lookup of the first entry of the most urgent non-empty queue.
+ */
+public class TitheFarmScheduler {
+    /**
+     * Growth stage length, a dry plant that is not watered within it dies.
+     */
+    private static final long STAGE_DURATION_MS = 60_000;
+
+    /**
+     * Next action of a patch, in order of priority.
+     */
+    public enum PatchAction {
+        PLANT,
+        WATER_SEEDLING,
+        WATER_STAGE_1,
+        WATER_STAGE_2,
+        HARVEST,
+        NONE
+    }
+
+    private final Map<PatchAction, TreeSet<TitheFarmPlant>> queues = new EnumMap<>(PatchAction.class);
+    private final Map<TitheFarmPlant, PatchAction> actions = new HashMap<>();
+    private final Map<TitheFarmPlant, Long> deadlines = new HashMap<>();
+    private final Map<WorldPoint, TitheFarmPlant> plantsByLocation = new HashMap<>();
+
+    private int harvestObjectId = -1;
+    private int plantCount = 0;
+    private int missedWaterings = 0;
+
+    public TitheFarmScheduler() {
+        for (PatchAction action : PatchAction.values()) {
+            // Patches without a deadline sort by lane order only
+            queues.put(action, new TreeSet<>(Comparator
+                    .comparingLong((TitheFarmPlant plant) -> deadlines.getOrDefault(plant, Long.MAX_VALUE))
+                    .thenComparingInt(TitheFarmPlant::getIndex)));
+        }
+    }
+
+    /**
+     * Rebuilds the queues for a new set of patches, the lane order is the plant index.
+     */
+    public synchronized void reset(List<TitheFarmPlant> plants) {
+        queues.values().forEach(TreeSet::clear);
+        actions.clear();
+        deadlines.clear();
+        plantsByLocation.clear();
+        plantCount = plants.size();
+        harvestObjectId = plants.isEmpty() ? -1 : plants.get(0).expectedHarvestObject();
+
+        for (TitheFarmPlant plant : plants) {
+            if (plant.getGameObject() != null) {
+                plantsByLocation.put(plant.getGameObject().getWorldLocation(), plant);
+            }
+            update(plant);
+        }
+    }
+
+    /**
+     * Moves the patch at the object's location to the queue of its new state.
+     */
+    public synchronized void onGameObjectSpawned(GameObject gameObject) {
+        TitheFarmPlant plant = plantsByLocation.get(gameObject.getWorldLocation());
+        if (plant == null) return;
+        plant.setGameObject(gameObject);
+        update(plant);
+    }
+
+    /**
+     * @param allPlanted whether empty patches should no longer be planted
+     * @return the patch needing to be planted or watered first, or null if there is none
+     */
+    public synchronized TitheFarmPlant nextToPlantOrWater(boolean allPlanted) {
+        if (!allPlanted) {
+            TitheFarmPlant plant = first(PatchAction.PLANT, PatchAction.WATER_SEEDLING);
+            if (plant != null) return plant;
+        }
+        return firstByDeadline(PatchAction.WATER_STAGE_1, PatchAction.WATER_STAGE_2);
+    }
+
+    public synchronized TitheFarmPlant nextToHarvest() {
+        return first(PatchAction.HARVEST, null);
+    }
+
+    public synchronized boolean hasEmptyPatch() {
+        return !queues.get(PatchAction.PLANT).isEmpty();
+    }
+
+    public synchronized boolean allPatchesEmpty() {
+        return queues.get(PatchAction.PLANT).size() == plantCount;
+    }
+
+    public synchronized boolean hasHarvestablePatch() {
+        return !queues.get(PatchAction.HARVEST).isEmpty();
+    }
+
+    /**
+     * @return the number of dry stages which were not watered before their deadline
+     */
+    public synchronized int getMissedWaterings() {
+        return missedWaterings;
+    }
+
+    private TitheFarmPlant first(PatchAction action, PatchAction tieAction) {
+        TitheFarmPlant plant = queues.get(action).isEmpty() ? null : queues.get(action).first();
+        if (tieAction == null || queues.get(tieAction).isEmpty()) return plant;
+
+        // Empty patches and seedlings share the lane order
+        TitheFarmPlant other = queues.get(tieAction).first();
+        return plant == null || other.getIndex() < plant.getIndex() ? other : plant;
+    }
+
+    /**
+     * @return the first patch of both queues with the earliest deadline, the first queue wins ties
+     */
+    private TitheFarmPlant firstByDeadline(PatchAction action, PatchAction otherAction) {
+        TitheFarmPlant plant = queues.get(action).isEmpty() ? null : queues.get(action).first();
+        TitheFarmPlant other = queues.get(otherAction).isEmpty() ? null : queues.get(otherAction).first();
+        if (plant == null || other == null) return plant != null ? plant : other;
+        return deadlines.get(other) < deadlines.get(plant) ? other : plant;
+    }
+
+    private void update(TitheFarmPlant plant) {
+        PatchAction previous = actions.get(plant);
+        PatchAction action = classify(plant);
+        if (previous == action) return;
+
+        if (previous != null) {
+            queues.get(previous).remove(plant);
+            Long deadline = deadlines.remove(plant);
+            if (deadline != null && isWater(previous) && !plant.isWatered() && System.currentTimeMillis() > deadline) {
+                missedWaterings++;
+            }
+        }
+
+        // The deadline is part of the queue order, so it is set before the patch is queued
+        actions.put(plant, action);
+        if (isWater(action)) {
+            deadlines.put(plant, System.currentTimeMillis() + STAGE_DURATION_MS);
+        }
+        queues.get(action).add(plant);
+    }
+
+    private static boolean isWater(PatchAction action) {
+        return action == PatchAction.WATER_SEEDLING || action == PatchAction.WATER_STAGE_1 || action == PatchAction.WATER_STAGE_2;
+    }
+
+    private PatchAction classify(TitheFarmPlant plant) {
+        if (plant.getGameObject() == null) return PatchAction.NONE;
+
+        int id = plant.getGameObject().getId();
+        switch (id) {
+            case ObjectID.HOSIDIUS_TITHE_EMPTY:
+                return PatchAction.PLANT;
+            case ObjectID.HOSIDIUS_TITHE_A_1_DRY:
+            case ObjectID.HOSIDIUS_TITHE_B_1_DRY:
+            case ObjectID.HOSIDIUS_TITHE_C_1_DRY:
+                return PatchAction.WATER_SEEDLING;
+            case ObjectID.HOSIDIUS_TITHE_A_2_DRY:
+            case ObjectID.HOSIDIUS_TITHE_B_2_DRY:
+            case ObjectID.HOSIDIUS_TITHE_C_2_DRY:
+                return PatchAction.WATER_STAGE_1;
+            case ObjectID.HOSIDIUS_TITHE_A_3_DRY:
+            case ObjectID.HOSIDIUS_TITHE_B_3_DRY:
+            case ObjectID.HOSIDIUS_TITHE_C_3_DRY:
+                return PatchAction.WATER_STAGE_2;
+            default:
+                return id == harvestObjectId ? PatchAction.HARVEST : PatchAction.NONE;
+        }
+    }
+}
@@ -48,6 +48,11 @@ public class TitheFarmingOverlay extends OverlayPanel {
                 .right(String.valueOf(RateCalculator.getRatePerHour(TitheFarmingScript.fruits)))
                 .build());
 
+        panelComponent.getChildren().add(LineComponent.builder()
+                .left("Missed waterings:")
+                .right(String.valueOf(TitheFarmingScript.scheduler.getMissedWaterings()))
+                .build());
+
         panelComponent.getChildren().add(LineComponent.builder()
                 .left("")
                 .right("")
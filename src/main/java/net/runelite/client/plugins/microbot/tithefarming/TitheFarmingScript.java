@@ -28,7 +28,6 @@ import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -52,6 +51,8 @@ public class TitheFarmingScript extends Script {
 
     public static List<TitheFarmPlant> plants = new ArrayList<>();
 
+    public static final TitheFarmScheduler scheduler = new TitheFarmScheduler();
+
 
     public static TitheFarmState state = TitheFarmState.STARTING;
 
@@ -166,6 +167,7 @@ public class TitheFarmingScript extends Script {
                         new TitheFarmPlant(55, 49, 18)));
                 break;
         }
+        scheduler.reset(plants);
     }
 
 
@@ -179,6 +181,7 @@ public class TitheFarmingScript extends Script {
                 if (init) {
                     state = STARTING;
                     plants = new ArrayList<>();
+                    scheduler.reset(plants);
                     Rs2ItemModel rs2ItemSeed = Rs2Inventory.get(TitheFarmMaterial.getSeedForLevel().getFruitId());
                     initialFruit = rs2ItemSeed == null ? 0 : rs2ItemSeed.getQuantity();
                     init = false;
@@ -276,27 +279,10 @@ public class TitheFarmingScript extends Script {
 
     private void coreLoop(TitheFarmingConfig config) {
         if (Rs2Player.isMoving()) return;
-        Comparator<TitheFarmPlant> sortByIndex = Comparator.comparingInt(TitheFarmPlant::getIndex);
         TitheFarmPlant plant = null;
         if (state != HARVEST) {
-            if (!allPlanted) {
-                plant = plants.stream()
-                        .sorted(sortByIndex)
-                        .filter(TitheFarmPlant::isEmptyPatchOrSeedling) //empty patch and seedling first
-                        .findFirst().orElse(null);
-            }
-            if (plant == null)
-                plant = plants.stream()
-                        .sorted(sortByIndex)
-                        .filter(TitheFarmPlant::isStage1) // then stage1 plants
-                        .findFirst()
-                        .orElseGet(() ->
-                                plants.stream()
-                                        .sorted(sortByIndex)
-                                        .filter(TitheFarmPlant::isStage2) //then stage2 plants
-                                        .findFirst()
-                                        .orElse(null)
-                        );
+            // empty patches and seedlings first, then stage1 and stage2 plants by the earliest watering deadline
+            plant = scheduler.nextToPlantOrWater(allPlanted);
         }
 
 
@@ -307,16 +293,12 @@ public class TitheFarmingScript extends Script {
 
         // if we finished planting all patches, don't plant anything until we finish harvesting
         // otherwise if we lag/miss a plant, and it dies, we will keep trying to plant seeds and mess up the loop
-        if (plants.stream().noneMatch(TitheFarmPlant::isEmptyPatch))
+        if (!scheduler.hasEmptyPatch())
             allPlanted = true;
 
-        if (plant == null && plants.stream().anyMatch(TitheFarmPlant::isValidToHarvest)) {
+        if (plant == null && scheduler.hasHarvestablePatch()) {
             state = TitheFarmState.HARVEST;
-            plant = plants.stream()
-                    .sorted(sortByIndex)
-                    .filter(TitheFarmPlant::isValidToHarvest)
-                    .findFirst()
-                    .orElse(null);
+            plant = scheduler.nextToHarvest();
         }
 
         if (plant == null) return;
@@ -362,7 +344,7 @@ public class TitheFarmingScript extends Script {
             clickPatch(plant, "harvest");
             sleepUntil(() -> Rs2Player.getAnimation() == AnimationID.HUMAN_DIG, config.sleepAfterHarvestingSeed());
             if (Rs2Player.isAnimating()) {
-                sleepUntil(() -> plants.stream().anyMatch(x -> x.getIndex() == finalPlant.getIndex() && x.isEmptyPatch()));
+                sleepUntil(finalPlant::isEmptyPatch);
             }
         }
     }
@@ -502,7 +484,7 @@ public class TitheFarmingScript extends Script {
     }
 
     private boolean hasAllEmptyPatches() {
-        return plants.stream().allMatch(TitheFarmPlant::isEmptyPatch);
+        return scheduler.allPatchesEmpty();
     }
 
     private boolean isInMinigame() {
@@ -2,6 +2,8 @@ package net.runelite.client.plugins.microbot.valetotems;
 
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.valetotems.models.GameSession;
+import net.runelite.client.plugins.microbot.valetotems.utils.GameObjectRegistry;
+import net.runelite.client.plugins.microbot.valetotems.utils.PathCache;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -94,6 +96,22 @@ public class ValeTotemOverlay extends OverlayPanel {
                         .right(formatTime((long) session.getAverageTotemCompletionTime()))
                         .build());
                 
+                panelComponent.getChildren().add(LineComponent.builder()
+                        .left("Object Lookups:")
+                        .right(GameObjectRegistry.getHits() + " hit / " + GameObjectRegistry.getMisses() + " miss")
+                        .build());
+                
+                panelComponent.getChildren().add(LineComponent.builder()
+                        .left("Path Cache:")
+                        .right(String.format("%.0f%% (%d hit / %d repair / %d miss)", PathCache.getHitRate() * 100,
+                                PathCache.getHits(), PathCache.getRepairs(), PathCache.getMisses()))
+                        .build());
+                
+                panelComponent.getChildren().add(LineComponent.builder()
+                        .left("Path Repair / Full:")
+                        .right(PathCache.getLastRepairMs() + "ms / " + PathCache.getLastFullPathMs() + "ms")
+                        .build());
+                
                 // Error count
                 int errorCount = session.getErrorMessages().size();
                 if (errorCount > 0) {
@@ -2,12 +2,18 @@ package net.runelite.client.plugins.microbot.valetotems;
 
 import com.google.inject.Provides;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.microbot.PluginConstants;
+import net.runelite.client.plugins.microbot.valetotems.utils.GameObjectRegistry;
+import net.runelite.client.plugins.microbot.valetotems.utils.PathCache;
 import net.runelite.client.ui.overlay.OverlayManager;
 
 import javax.inject.Inject;
@@ -50,6 +56,7 @@ public class ValeTotemPlugin extends Plugin {
         if (overlayManager != null) {
             overlayManager.add(valeTotemOverlay);
         }
+        GameObjectRegistry.resetStats();
         valeTotemScript.run(config);
         log.info("Vale Totems plugin started");
     }
@@ -61,13 +68,36 @@ public class ValeTotemPlugin extends Plugin {
         if (overlayManager != null && valeTotemOverlay != null) {
             overlayManager.remove(valeTotemOverlay);
         }
+        GameObjectRegistry.clear();
+        PathCache.clear();
         log.info("Vale Totems plugin stopped");
     }
 
     @Subscribe
     public void onGameTick(GameTick tick) {
-        // Plugin tick events can be used for additional monitoring or UI updates
         // Main bot logic is handled in the ValeTotemScript
+        // Re-check object waits whose state can change without a respawn
+        GameObjectRegistry.onGameTick();
+    }
+
+    @Subscribe
+    public void onGameObjectSpawned(GameObjectSpawned event) {
+        GameObjectRegistry.onGameObjectSpawned(event);
+    }
+
+    @Subscribe
+    public void onGameObjectDespawned(GameObjectDespawned event) {
+        GameObjectRegistry.onGameObjectDespawned(event);
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        GameObjectRegistry.onGameStateChanged(event);
+    }
+
+    @Subscribe
+    public void onVarbitChanged(VarbitChanged event) {
+        GameObjectRegistry.onVarbitChanged();
     }
 
     /**
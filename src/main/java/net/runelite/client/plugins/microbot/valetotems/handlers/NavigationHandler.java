@@ -10,6 +10,7 @@ import net.runelite.client.plugins.microbot.valetotems.enums.TotemLocation;
 import net.runelite.client.plugins.microbot.valetotems.utils.CoordinateUtils;
 import net.runelite.client.plugins.microbot.valetotems.utils.GameObjectUtils;
 import net.runelite.client.plugins.microbot.valetotems.utils.InventoryUtils;
+import net.runelite.client.plugins.microbot.valetotems.utils.PathCache;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.plugins.microbot.util.walker.WalkerState;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
@@ -18,6 +19,7 @@ import net.runelite.client.plugins.microbot.util.camera.Rs2Camera;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
 
+import static net.runelite.api.Constants.GAME_TICK_LENGTH;
 import static net.runelite.client.plugins.microbot.util.Global.sleep;
 import static net.runelite.client.plugins.microbot.util.Global.sleepGaussian;
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
@@ -130,8 +132,6 @@ public class NavigationHandler {
             // Configure pathfinder to use agility shortcuts before generating the path
             checkPathfinderSettings();
 
-            WorldPoint destination = totemLocation.getLocation();
-
             // Check if already at destination
             if (CoordinateUtils.isAtTotemLocation(totemLocation, ARRIVAL_TOLERANCE)) {
                 return true;
@@ -145,7 +145,7 @@ public class NavigationHandler {
             // Reset ent trail flag for new navigation
             justWalkedOverEntTrails = false;
 
-            List<WorldPoint> path = Rs2Walker.getWalkPath(destination);
+            List<WorldPoint> path = PathCache.getPath(totemLocation);
             if (path == null || path.isEmpty()) {
                 System.err.println("Could not generate initial path to " + totemLocation.getDescription());
                 return false;
@@ -159,8 +159,8 @@ public class NavigationHandler {
                 // Priority 1: Check for and handle ent trails.
                 // This has ABSOLUTE priority - even if we're fletching, we stop and handle ent trails first
                 if (checkAndWalkOverEntTrails()) {
-                    System.out.println("Detoured for ent trails. Recalculating path to totem...");
-                    path = Rs2Walker.getWalkPath(destination);
+                    System.out.println("Detoured for ent trails. Rejoining path to totem...");
+                    path = PathCache.rejoinPath(totemLocation);
                     if (path == null || path.isEmpty()) {
                         System.err.println("Could not recalculate path after ent trails");
                         return false;
@@ -170,8 +170,8 @@ public class NavigationHandler {
 
                 // If we've strayed too far from our path, recalculate it
                 if (isTooFarFromPath(path, 15)) {
-                    System.out.println("Strayed from path. Recalculating...");
-                    path = Rs2Walker.getWalkPath(destination);
+                    System.out.println("Strayed from path. Repairing...");
+                    path = PathCache.rejoinPath(totemLocation);
                     if (path == null || path.isEmpty()) {
                         System.err.println("Could not recalculate path to " + totemLocation.getDescription());
                         return false;
@@ -185,8 +185,8 @@ public class NavigationHandler {
 
                 // Priority 2: Handle agility shortcuts and doors.
                 if (handlePathTransports(path, currentIndexOnPath)) {
-                    System.out.println("Used a transport. Recalculating path...");
-                    path = Rs2Walker.getWalkPath(destination);
+                    System.out.println("Used a transport. Rejoining path...");
+                    path = PathCache.rejoinPath(totemLocation);
                     if (path == null || path.isEmpty()) {
                         System.err.println("Could not recalculate path after transport");
                         return false;
@@ -236,8 +236,11 @@ public class NavigationHandler {
                             }
                             
                             System.out.println("Fletching complete. Resuming navigation...");
-                            // After fletching, recalculate path as we've been standing still
-                            path = Rs2Walker.getWalkPath(destination);
+                            // After fletching, rejoin the path as we may have drifted while standing still
+                            List<WorldPoint> resumedPath = PathCache.rejoinPath(totemLocation);
+                            if (resumedPath != null && !resumedPath.isEmpty()) {
+                                path = resumedPath;
+                            }
                             continue; // Restart loop
                         }
                     }
@@ -281,8 +284,9 @@ public class NavigationHandler {
                     }
                 }
 
-                // Non-blocking short sleep to prevent excessive CPU usage
-                sleep(50); 
+                // Wait until the player moves or a tick passes, the path only changes with the player's position
+                final WorldPoint loopLocation = CoordinateUtils.getPlayerLocation();
+                sleepUntil(() -> !CoordinateUtils.getPlayerLocation().equals(loopLocation), GAME_TICK_LENGTH);
             }
 
             boolean arrived = CoordinateUtils.isAtTotemLocation(totemLocation, ARRIVAL_TOLERANCE);
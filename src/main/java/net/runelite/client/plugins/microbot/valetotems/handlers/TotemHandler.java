@@ -62,8 +62,6 @@ public class TotemHandler {
                 return false;
             }
 
-            GameObjectUtils.invalidateCacheAtLocation(currentTotemLocation.getLocation());
-            
             currentState = checkTotemState(currentTotemLocation);
         }
 
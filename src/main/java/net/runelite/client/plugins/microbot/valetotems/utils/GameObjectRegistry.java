@@ -0,0 +1,322 @@
+package net.runelite.client.plugins.microbot.valetotems.utils;
+
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Location-keyed registry of the Vale Totems objects (totem sites and offerings piles)
+ * Kept up to date by GameObjectSpawned/GameObjectDespawned events forwarded from the plugin,
+ * so lookups by location are a single map read instead of a scene search
+ * Waits are futures which are completed by the spawn event or by the game tick re-check
+ */
+public class GameObjectRegistry {
+
+    /**
+     * Name fragments of the objects worth tracking
+     */
+    private static final String[] TRACKED_NAME_TERMS = {"totem", "offering"};
+
+    /**
+     * How far from the requested location an object may be for {@link #getObjectAt}, the location
+     * of a large object is not always the tile it was configured with
+     */
+    private static final int OBJECT_AT_RADIUS = 10;
+
+    private static final Map<WorldPoint, GameObject> objectsByLocation = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> trackedNamesById = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> multilocNamesById = new ConcurrentHashMap<>();
+    private static final List<PendingWait> pendingWaits = new CopyOnWriteArrayList<>();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    /**
+     * True once a scene load has been observed, from then on every object in the scene went through the spawn events
+     * and a missing entry means the object really is not there
+     */
+    private static volatile boolean sceneComplete = false;
+
+    private static final String UNTRACKED = "";
+
+    /**
+     * A wait for an object at a location, completed once the condition holds
+     */
+    private static class PendingWait {
+        private final WorldPoint location;
+        private final Predicate<GameObject> condition;
+        private final CompletableFuture<GameObject> future = new CompletableFuture<>();
+
+        PendingWait(WorldPoint location, Predicate<GameObject> condition) {
+            this.location = location;
+            this.condition = condition;
+        }
+
+        boolean tryComplete(GameObject gameObject) {
+            if (gameObject != null && condition.test(gameObject)) {
+                return future.complete(gameObject);
+            }
+            return false;
+        }
+    }
+
+    public static void onGameObjectSpawned(GameObjectSpawned event) {
+        GameObject gameObject = event.getGameObject();
+        WorldPoint location = gameObject.getWorldLocation();
+
+        // Waits may target untracked objects as well, so they are checked first
+        for (PendingWait wait : pendingWaits) {
+            if (wait.location.equals(location) && wait.tryComplete(gameObject)) {
+                pendingWaits.remove(wait);
+            }
+        }
+
+        if (isTracked(gameObject.getId())) {
+            objectsByLocation.put(location, gameObject);
+        }
+    }
+
+    public static void onGameObjectDespawned(GameObjectDespawned event) {
+        GameObject gameObject = event.getGameObject();
+        objectsByLocation.remove(gameObject.getWorldLocation(), gameObject);
+    }
+
+    public static void onGameStateChanged(GameStateChanged event) {
+        if (event.getGameState() == GameState.LOADING) {
+            // Every object of the new scene is spawned again after loading
+            objectsByLocation.clear();
+            sceneComplete = true;
+        } else if (event.getGameState() == GameState.LOGIN_SCREEN || event.getGameState() == GameState.HOPPING) {
+            objectsByLocation.clear();
+            sceneComplete = false;
+        }
+    }
+
+    /**
+     * The impostor of a multiloc depends on varbits, their names are resolved again after a change
+     * Called on VarbitChanged from the plugin
+     */
+    public static void onVarbitChanged() {
+        multilocNamesById.clear();
+    }
+
+    /**
+     * Re-checks the pending waits, needed for state changes which do not respawn the object (e.g. totem actions)
+     * Called every game tick from the plugin
+     */
+    public static void onGameTick() {
+        for (PendingWait wait : pendingWaits) {
+            if (wait.future.isDone() || wait.tryComplete(objectsByLocation.get(wait.location))) {
+                pendingWaits.remove(wait);
+            }
+        }
+    }
+
+    /**
+     * Get the tracked object at a location whose name contains the search term, or the nearest one
+     * around it if there is none on the exact tile
+     * Falls back to a scene search until the registry has seen a full scene load
+     * @param searchTerm the search term to look for
+     * @param location the world point location
+     * @return the game object at or nearest to that location, or null if not found
+     */
+    public static GameObject getObjectAt(String searchTerm, WorldPoint location) {
+        GameObject gameObject = objectsByLocation.get(location);
+        if (gameObject == null || !nameMatches(gameObject, searchTerm)) {
+            gameObject = getNearest(searchTerm, location, OBJECT_AT_RADIUS);
+        }
+        if (gameObject != null) {
+            hits.incrementAndGet();
+            return gameObject;
+        }
+
+        misses.incrementAndGet();
+        if (sceneComplete && isTrackedTerm(searchTerm)) {
+            return null;
+        }
+
+        gameObject = Rs2GameObject.getGameObject(searchTerm, false, location);
+        if (gameObject != null && isTracked(gameObject.getId())) {
+            objectsByLocation.putIfAbsent(gameObject.getWorldLocation(), gameObject);
+        }
+        return gameObject;
+    }
+
+    /**
+     * Find the nearest tracked object within a radius whose name contains the search term
+     * @param searchTerm the search term to look for
+     * @param location the center point to search from
+     * @param radius the search radius in tiles
+     * @return the nearest game object, or null if not found
+     */
+    public static GameObject findNearby(String searchTerm, WorldPoint location, int radius) {
+        GameObject nearest = getNearest(searchTerm, location, radius);
+        if (nearest != null) {
+            hits.incrementAndGet();
+            return nearest;
+        }
+
+        misses.incrementAndGet();
+        if (sceneComplete && isTrackedTerm(searchTerm)) {
+            return null;
+        }
+
+        nearest = Rs2GameObject.getGameObject(searchTerm, false, location, radius);
+        if (nearest != null && isTracked(nearest.getId())) {
+            objectsByLocation.putIfAbsent(nearest.getWorldLocation(), nearest);
+        }
+        return nearest;
+    }
+
+    /**
+     * Wait for an object matching the condition at a location
+     * The returned future is already completed if the object is present
+     * @param location the location to watch
+     * @param condition the condition the object has to meet
+     * @return future completed with the object, cancel it when no longer interested
+     */
+    public static CompletableFuture<GameObject> awaitObject(WorldPoint location, Predicate<GameObject> condition) {
+        PendingWait wait = new PendingWait(location, condition);
+        if (wait.tryComplete(objectsByLocation.get(location))) {
+            return wait.future;
+        }
+
+        pendingWaits.add(wait);
+        wait.future.whenComplete((gameObject, throwable) -> pendingWaits.remove(wait));
+
+        // The object may have spawned between the check and registering the wait
+        wait.tryComplete(objectsByLocation.get(location));
+        return wait.future;
+    }
+
+    /**
+     * Check whether the object's name contains the search term (case-insensitive)
+     * @param gameObject the game object to check
+     * @param searchTerm the search term to look for
+     * @return true if the name matches
+     */
+    public static boolean nameMatches(GameObject gameObject, String searchTerm) {
+        String name = getTrackedName(gameObject.getId());
+        return !name.isEmpty() && name.contains(searchTerm.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Clear all tracked objects and cancel pending waits
+     */
+    public static void clear() {
+        objectsByLocation.clear();
+        multilocNamesById.clear();
+        sceneComplete = false;
+        List<PendingWait> waits = new ArrayList<>(pendingWaits);
+        pendingWaits.clear();
+        waits.forEach(wait -> wait.future.cancel(false));
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static int getTrackedObjectCount() {
+        return objectsByLocation.size();
+    }
+
+    public static int getPendingWaitCount() {
+        return pendingWaits.size();
+    }
+
+    public static void resetStats() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private static GameObject getNearest(String searchTerm, WorldPoint location, int radius) {
+        GameObject nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (GameObject gameObject : objectsByLocation.values()) {
+            int distance = gameObject.getWorldLocation().distanceTo(location);
+            if (distance <= radius && distance < nearestDistance && nameMatches(gameObject, searchTerm)) {
+                nearest = gameObject;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private static boolean isTrackedTerm(String searchTerm) {
+        String term = searchTerm.toLowerCase(Locale.ROOT);
+        for (String trackedTerm : TRACKED_NAME_TERMS) {
+            if (trackedTerm.contains(term) || term.contains(trackedTerm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTracked(int objectId) {
+        return !getTrackedName(objectId).isEmpty();
+    }
+
+    /**
+     * Resolve the lower-case name of an object ID, or an empty string if it is not a Vale Totems object
+     * Names of plain objects are cached for good, names of multilocs until the next varbit change
+     */
+    private static String getTrackedName(int objectId) {
+        String cached = trackedNamesById.get(objectId);
+        if (cached == null) {
+            cached = multilocNamesById.get(objectId);
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        return Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            ObjectComposition composition = Microbot.getClient().getObjectDefinition(objectId);
+            if (composition == null) {
+                return UNTRACKED;
+            }
+
+            boolean multiloc = composition.getImpostorIds() != null;
+            if (multiloc) {
+                composition = composition.getImpostor();
+            }
+
+            String name = toTrackedName(composition);
+            (multiloc ? multilocNamesById : trackedNamesById).put(objectId, name);
+            return name;
+        }).orElse(UNTRACKED);
+    }
+
+    private static String toTrackedName(ObjectComposition composition) {
+        if (composition == null || composition.getName() == null) {
+            return UNTRACKED;
+        }
+
+        String name = composition.getName().toLowerCase(Locale.ROOT);
+        for (String trackedTerm : TRACKED_NAME_TERMS) {
+            if (name.contains(trackedTerm)) {
+                return name;
+            }
+        }
+        return UNTRACKED;
+    }
+}
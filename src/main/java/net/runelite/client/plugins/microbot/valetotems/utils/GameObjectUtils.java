@@ -8,122 +8,35 @@ import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Utility class for interacting with game objects in the Vale Totems minigame
  * Uses Rs2GameObject ready-made methods instead of reinventing functionality
  * Updated to use string-based searching for totem sites and offerings
+ * Totem sites and offerings are looked up in the event-driven {@link GameObjectRegistry}
  */
 public class GameObjectUtils {
     
-    // Cache configuration
-    private static final long CACHE_EXPIRY_MS = 10000; // 10 seconds cache expiry
-    private static final int MAX_CACHE_SIZE = 10; // Prevent memory leaks
-    
-    // GameObject cache to avoid expensive repeated searches
-    private static final Map<WorldPoint, CachedGameObject> gameObjectCache = new ConcurrentHashMap<>();
-    
-    /**
-     * Inner class to store cached GameObject with timestamp
-     */
-    private static class CachedGameObject {
-        private final GameObject gameObject;
-        private final long timestamp;
-        
-        public CachedGameObject(GameObject gameObject) {
-            this.gameObject = gameObject;
-            this.timestamp = System.currentTimeMillis();
-        }
-        
-        public GameObject getGameObject() {
-            return gameObject;
-        }
-        
-        public boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > CACHE_EXPIRY_MS;
-        }
-    }
-
-    /**
-     * Get cached GameObject or perform expensive search and cache result
-     * @param searchTerm the search term to look for
-     * @param location the exact world point location
-     * @return the game object at that location, or null if not found
-     */
-    private static GameObject getCachedObjectAtLocationByName(String searchTerm, WorldPoint location) {
-        // Check cache first
-        CachedGameObject cached = gameObjectCache.get(location);
-        if (cached != null && !cached.isExpired()) {
-            Microbot.log("Cache HIT for location: " + location + " (searchTerm: " + searchTerm + ")");
-            return cached.getGameObject();
-        }
-        
-        // Cache miss or expired - perform expensive search
-        Microbot.log("Cache MISS for location: " + location + " (searchTerm: " + searchTerm + ") - performing search");
-        long startTime = System.currentTimeMillis();
-        GameObject gameObject = Rs2GameObject.getGameObject(searchTerm, false, location);
-        long searchTime = System.currentTimeMillis() - startTime;
-        Microbot.log("Search completed in " + searchTime + "ms for location: " + location);
-        
-        // Cache the result (even if null to avoid repeated searches)
-        cacheGameObject(location, gameObject);
-        
-        return gameObject;
-    }
-    
-    /**
-     * Cache a GameObject at a location
-     * @param location the world point location
-     * @param gameObject the game object to cache (can be null)
-     */
-    private static void cacheGameObject(WorldPoint location, GameObject gameObject) {
-        // Clean up cache if it's getting too large
-        if (gameObjectCache.size() >= MAX_CACHE_SIZE) {
-            cleanExpiredCache();
-            
-            // If still too large after cleanup, remove oldest entries
-            if (gameObjectCache.size() >= MAX_CACHE_SIZE) {
-                gameObjectCache.clear(); // Simple cleanup - remove all
-            }
-        }
-        
-        gameObjectCache.put(location, new CachedGameObject(gameObject));
-    }
-    
     /**
-     * Clean expired entries from cache
-     */
-    private static void cleanExpiredCache() {
-        gameObjectCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
-    }
-    
-    /**
-     * Clear the entire cache (useful for testing or reset)
+     * Clear the object registry (useful for testing or reset)
      */
     public static void clearCache() {
-        gameObjectCache.clear();
-    }
-    
-    /**
-     * Invalidate cache for a specific location
-     * @param location the world point to invalidate
-     */
-    public static void invalidateCacheAtLocation(WorldPoint location) {
-        gameObjectCache.remove(location);
+        GameObjectRegistry.clear();
     }
-    
+
     /**
-     * Get cache statistics for debugging
-     * @return string with cache info
+     * Get registry statistics for debugging
+     * @return string with registry info
      */
     public static String getCacheStats() {
-        int totalEntries = gameObjectCache.size();
-        int expiredEntries = (int) gameObjectCache.values().stream()
-                .mapToLong(cached -> cached.isExpired() ? 1 : 0)
-                .sum();
-        return String.format("Cache: %d total entries, %d expired", totalEntries, expiredEntries);
+        return String.format("Registry: %d objects, %d hits, %d misses, %d waits",
+                GameObjectRegistry.getTrackedObjectCount(), GameObjectRegistry.getHits(),
+                GameObjectRegistry.getMisses(), GameObjectRegistry.getPendingWaitCount());
     }
 
     /**
@@ -161,7 +74,7 @@ public class GameObjectUtils {
      * @return the game object at that location, or null if not found
      */
     public static GameObject findObjectAtLocationByName(String searchTerm, WorldPoint location) {
-        return getCachedObjectAtLocationByName(searchTerm, location);
+        return GameObjectRegistry.getObjectAt(searchTerm, location);
     }
 
     /**
@@ -288,36 +201,41 @@ public class GameObjectUtils {
      * @return the GameObjectId enum for the totem state, or null if no totem found
      */
     public static GameObjectId getTotemStateAtLocation(WorldPoint location) {
-        // Search for any totem object at the location using cached method
-        Microbot.log("getTotemStateAtLocation started: " + (System.currentTimeMillis()));
-        GameObject totem = getCachedObjectAtLocationByName(GameObjectId.TOTEM_SITE.getSearchTerm(), location);
-        Microbot.log("getTotemStateAtLocation finished: " + (System.currentTimeMillis()));
-        if (totem != null) {
-            // Get the ObjectComposition to access actions
-            try {
-                Microbot.log("getTotemStateAtLocation findObjectComposition started: " + (System.currentTimeMillis()));
-                String[] actions = Rs2GameObject.findObjectComposition(totem.getId()).getActions();
-                Microbot.log("getTotemStateAtLocation findObjectComposition finished: " + (System.currentTimeMillis()));
-                if (actions != null) {
-                    List<String> actionList = Arrays.asList(actions);
-                    
-                    // Check for specific actions to determine totem state
-                    if (actionList.contains("Build")) {
-                        return GameObjectId.TOTEM_SITE;
-                    } else if (actionList.contains("Decorate")) {
-                        return GameObjectId.TOTEM_READY_FOR_DECORATION;
-                    } else {
-                        // If no Build or Decorate action, assume it's ready for carving
-                        return GameObjectId.EMPTY_TOTEM;
-                    }
-                }
-            } catch (Exception e) {
-                System.err.println("Error getting actions for totem: " + e.getMessage());
+        return getTotemState(GameObjectRegistry.getObjectAt(GameObjectId.TOTEM_SITE.getSearchTerm(), location));
+    }
+
+    /**
+     * Determine the totem state from the actions of a totem object
+     * @param totem the totem object, can be null
+     * @return the GameObjectId enum for the totem state, or null if it is not a totem
+     */
+    private static GameObjectId getTotemState(GameObject totem) {
+        if (totem == null) {
+            return null; // No totem object found at the location.
+        }
+
+        // Get the ObjectComposition to access actions
+        try {
+            String[] actions = Rs2GameObject.findObjectComposition(totem.getId()).getActions();
+            if (actions == null) {
                 return null;
             }
-        }
 
-        return null; // No totem object found at the location.
+            List<String> actionList = Arrays.asList(actions);
+
+            // Check for specific actions to determine totem state
+            if (actionList.contains("Build")) {
+                return GameObjectId.TOTEM_SITE;
+            } else if (actionList.contains("Decorate")) {
+                return GameObjectId.TOTEM_READY_FOR_DECORATION;
+            } else {
+                // If no Build or Decorate action, assume it's ready for carving
+                return GameObjectId.EMPTY_TOTEM;
+            }
+        } catch (Exception e) {
+            System.err.println("Error getting actions for totem: " + e.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -330,11 +248,7 @@ public class GameObjectUtils {
         // Use string-based search for offerings
         String offeringsSearchTerm = GameObjectId.OFFERINGS_MANY.getSearchTerm();
         
-        List<GameObject> nearbyObjects = Rs2GameObject.getGameObjects(
-            Rs2GameObject.nameMatches(offeringsSearchTerm, false), location, radius
-        );
-        
-        if (!nearbyObjects.isEmpty()) {
+        if (GameObjectRegistry.findNearby(offeringsSearchTerm, location, radius) != null) {
             // Default to assuming offerings are available since we found an offerings pile
             // May need refinement to distinguish between different offering states
             return GameObjectId.OFFERINGS_MANY;
@@ -352,9 +266,7 @@ public class GameObjectUtils {
         // Use string-based search for offerings
         String offeringsSearchTerm = GameObjectId.OFFERINGS_MANY.getSearchTerm();
         
-        return Rs2GameObject.getGameObject(
-            offeringsSearchTerm, false, location, radius
-        );
+        return GameObjectRegistry.findNearby(offeringsSearchTerm, location, radius);
     }
 
     /**
@@ -379,22 +291,11 @@ public class GameObjectUtils {
      * @return true if object appeared within timeout
      */
     public static boolean waitForObjectAtLocationByName(String searchTerm, WorldPoint location, long timeoutMs) {
-        long startTime = System.currentTimeMillis();
-        
-        while (System.currentTimeMillis() - startTime < timeoutMs) {
-            if (Rs2GameObject.getGameObject(searchTerm, false, location) != null) {
-                return true;
-            }
-            
-            try {
-                Thread.sleep(100); // Check every 100ms
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
+        if (GameObjectRegistry.getObjectAt(searchTerm, location) != null) {
+            return true;
         }
-        
-        return false;
+        return await(GameObjectRegistry.awaitObject(location,
+                gameObject -> GameObjectRegistry.nameMatches(gameObject, searchTerm)), timeoutMs);
     }
 
     /**
@@ -405,22 +306,10 @@ public class GameObjectUtils {
      * @return true if object appeared within timeout
      */
     public static boolean waitForObjectAtLocation(int objectId, WorldPoint location, long timeoutMs) {
-        long startTime = System.currentTimeMillis();
-        
-        while (System.currentTimeMillis() - startTime < timeoutMs) {
-            if (Rs2GameObject.getGameObject(objectId, location) != null) {
-                return true;
-            }
-            
-            try {
-                Thread.sleep(100); // Check every 100ms
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
+        if (Rs2GameObject.getGameObject(objectId, location) != null) {
+            return true;
         }
-        
-        return false;
+        return await(GameObjectRegistry.awaitObject(location, gameObject -> gameObject.getId() == objectId), timeoutMs);
     }
 
     /**
@@ -431,25 +320,31 @@ public class GameObjectUtils {
      * @return true if state appeared within timeout
      */
     public static boolean waitForTotemStateAtLocation(GameObjectId expectedState, WorldPoint location, long timeoutMs) {
-        long startTime = System.currentTimeMillis();
-        invalidateCacheAtLocation(location);
-
-        while (System.currentTimeMillis() - startTime < timeoutMs) {
-            if (getTotemStateAtLocation(location) == expectedState) {
-                return true;
-            }
-
-            invalidateCacheAtLocation(location);
-
-            try {
-                Thread.sleep(100); // Check every 100ms
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
+        if (getTotemStateAtLocation(location) == expectedState) {
+            return true;
         }
+        return await(GameObjectRegistry.awaitObject(location,
+                gameObject -> GameObjectRegistry.nameMatches(gameObject, GameObjectId.TOTEM_SITE.getSearchTerm())
+                        && getTotemState(gameObject) == expectedState), timeoutMs);
+    }
 
-        return false;
+    /**
+     * Block until the future completes or the timeout passes, the future is cancelled on timeout
+     * @param future the future to wait for
+     * @param timeoutMs maximum time to wait in milliseconds
+     * @return true if the future completed within timeout
+     */
+    private static boolean await(CompletableFuture<GameObject> future, long timeoutMs) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS) != null;
+        } catch (TimeoutException | CancellationException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            future.cancel(false);
+        }
     }
 
     /**
@@ -0,0 +1,191 @@
+package net.runelite.client.plugins.microbot.valetotems.utils;
+
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
+import net.runelite.client.plugins.microbot.valetotems.enums.TotemLocation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the walking paths to each totem location
+ * The first lap computes the bank-to-totem and totem-to-totem paths, later laps reuse them
+ * When the player strays or takes a detour, the path is repaired by pathing back to the nearest cached tile
+ * instead of computing the whole route again
+ */
+public class PathCache {
+
+    private static final int MAX_PATHS_PER_DESTINATION = 3; // e.g. from the bank and from the previous totem
+    private static final int ON_PATH_TOLERANCE = 15; // Same tolerance as the stray check in NavigationHandler
+    private static final int REPAIR_RADIUS = 30; // Beyond this a full path is computed
+    private static final int REPAIR_JOIN_AHEAD = 5; // Rejoin the cached path a few tiles ahead of the nearest tile
+
+    private static final Map<TotemLocation, List<List<WorldPoint>>> pathsByDestination = new EnumMap<>(TotemLocation.class);
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong repairs = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static volatile long lastRepairMs = 0;
+    private static volatile long lastFullPathMs = 0;
+
+    /**
+     * Get a path from the player's location to the totem, called when a leg starts
+     * Returns a cached path if the player is on it, a repaired cached path if the player is close to it,
+     * and otherwise computes a new path and caches it
+     * @param totemLocation the destination totem
+     * @return the path, or null if no path could be found
+     */
+    public static List<WorldPoint> getPath(TotemLocation totemLocation) {
+        return getPath(totemLocation, true);
+    }
+
+    /**
+     * Get a path back to the totem after a detour (ent trails, transports, straying) during a leg
+     * Same as {@link #getPath(TotemLocation)}, except that a newly computed path is not cached,
+     * as it starts from wherever the detour ended and would evict one of the legs of the lap
+     * @param totemLocation the destination totem
+     * @return the path, or null if no path could be found
+     */
+    public static List<WorldPoint> rejoinPath(TotemLocation totemLocation) {
+        return getPath(totemLocation, false);
+    }
+
+    private static List<WorldPoint> getPath(TotemLocation totemLocation, boolean cacheFullPath) {
+        WorldPoint playerLocation = CoordinateUtils.getPlayerLocation();
+
+        List<WorldPoint> bestPath = null;
+        int bestIndex = -1;
+        int bestDistance = Integer.MAX_VALUE;
+
+        synchronized (pathsByDestination) {
+            for (List<WorldPoint> path : pathsByDestination.getOrDefault(totemLocation, Collections.emptyList())) {
+                int index = getClosestIndex(path, playerLocation);
+                int distance = path.get(index).distanceTo(playerLocation);
+                if (distance < bestDistance) {
+                    bestPath = path;
+                    bestIndex = index;
+                    bestDistance = distance;
+                }
+            }
+        }
+
+        if (bestPath != null && bestDistance <= ON_PATH_TOLERANCE) {
+            hits.incrementAndGet();
+            return bestPath;
+        }
+
+        if (bestPath != null && bestDistance <= REPAIR_RADIUS) {
+            List<WorldPoint> repaired = repair(bestPath, bestIndex);
+            if (repaired != null) {
+                return repaired;
+            }
+        }
+
+        misses.incrementAndGet();
+        long startTime = System.currentTimeMillis();
+        List<WorldPoint> path = Rs2Walker.getWalkPath(totemLocation.getLocation());
+        lastFullPathMs = System.currentTimeMillis() - startTime;
+
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        if (!cacheFullPath) {
+            return path;
+        }
+
+        List<WorldPoint> cached = Collections.unmodifiableList(new ArrayList<>(path));
+        synchronized (pathsByDestination) {
+            List<List<WorldPoint>> paths = pathsByDestination.computeIfAbsent(totemLocation, k -> new ArrayList<>());
+            if (paths.size() >= MAX_PATHS_PER_DESTINATION) {
+                paths.remove(0);
+            }
+            paths.add(cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Path back onto the cached path a few tiles ahead of its nearest tile, then follow the cached path
+     * @param cachedPath the cached path to rejoin
+     * @param closestIndex index of the cached tile nearest to the player
+     * @return the repaired path, or null if the cached path could not be reached
+     */
+    private static List<WorldPoint> repair(List<WorldPoint> cachedPath, int closestIndex) {
+        long startTime = System.currentTimeMillis();
+        int joinIndex = Math.min(closestIndex + REPAIR_JOIN_AHEAD, cachedPath.size() - 1);
+
+        List<WorldPoint> toPath = Rs2Walker.getWalkPath(cachedPath.get(joinIndex));
+        lastRepairMs = System.currentTimeMillis() - startTime;
+
+        if (toPath == null || toPath.isEmpty()) {
+            return null;
+        }
+
+        List<WorldPoint> repaired = new ArrayList<>(toPath.size() + cachedPath.size() - joinIndex);
+        repaired.addAll(toPath);
+        repaired.addAll(cachedPath.subList(joinIndex + 1, cachedPath.size()));
+        repairs.incrementAndGet();
+        return repaired;
+    }
+
+    private static int getClosestIndex(List<WorldPoint> path, WorldPoint location) {
+        int closestIndex = 0;
+        int closestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < path.size(); i++) {
+            int distance = path.get(i).distanceTo(location);
+            if (distance < closestDistance) {
+                closestIndex = i;
+                closestDistance = distance;
+            }
+        }
+        return closestIndex;
+    }
+
+    /**
+     * Clear all cached paths and statistics
+     */
+    public static void clear() {
+        synchronized (pathsByDestination) {
+            pathsByDestination.clear();
+        }
+        hits.set(0);
+        repairs.set(0);
+        misses.set(0);
+        lastRepairMs = 0;
+        lastFullPathMs = 0;
+    }
+
+    /**
+     * Get the share of path requests served from the cache, including repaired paths
+     * @return hit rate between 0 and 1
+     */
+    public static double getHitRate() {
+        long served = hits.get() + repairs.get();
+        long total = served + misses.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getRepairs() {
+        return repairs.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static long getLastRepairMs() {
+        return lastRepairMs;
+    }
+
+    public static long getLastFullPathMs() {
+        return lastFullPathMs;
+    }
+}
@@ -0,0 +1,148 @@
+package net.runelite.client.plugins.microbot.vorkath;
+
+import net.runelite.api.Projectile;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.gameval.ObjectID;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Fixed-size occupancy grid of the acid pools around Vorkath, filled from GameObjectSpawned and ProjectileMoved.
+ * The grid is anchored on Vorkath's location, tiles outside of it are ignored.
+ * The tiles of the acid objects are kept separately from spawn to despawn, wherever they are,
+ * so the pools which spawned before the grid was anchored are marked once it is.
+ * Also keeps the set of projectile ids currently in flight, so checking for a projectile is a bit lookup.
+ * Written on the client thread, read by the script.
+ */
+public class VorkathAcidGrid {
+    private static final int SIZE = 64;
+    private static final int HALF = SIZE / 2;
+    private static final int MAX_PROJECTILE_ID = 4096;
+
+    private final BitSet pools = new BitSet(SIZE * SIZE);
+    private volatile BitSet projectiles = new BitSet(MAX_PROJECTILE_ID);
+    private final Set<WorldPoint> acidTiles = new HashSet<>();
+    private volatile int version = 0;
+
+    private boolean anchored = false;
+    private int originX;
+    private int originY;
+    private int plane;
+
+    public static boolean isAcidObject(int id) {
+        return id == ObjectID.VORKATH_ACID || id == ObjectID.OLM_ACID_POOL || id == ObjectID.MYQ5_ACID_POOL;
+    }
+
+    /**
+     * Centers the grid on Vorkath, clearing it when Vorkath is not inside the current grid (e.g. a new instance).
+     */
+    public synchronized void anchor(WorldPoint vorkathLocation) {
+        if (anchored && contains(vorkathLocation.getX(), vorkathLocation.getY(), vorkathLocation.getPlane())) return;
+        originX = vorkathLocation.getX() - HALF;
+        originY = vorkathLocation.getY() - HALF;
+        plane = vorkathLocation.getPlane();
+        anchored = true;
+        pools.clear();
+        for (WorldPoint tile : acidTiles) {
+            if (contains(tile.getX(), tile.getY(), tile.getPlane())) pools.set(index(tile.getX(), tile.getY()));
+        }
+        version++;
+    }
+
+    public synchronized void markPool(WorldPoint tile) {
+        if (tile == null || !anchored || !contains(tile.getX(), tile.getY(), tile.getPlane())) return;
+        int index = index(tile.getX(), tile.getY());
+        if (!pools.get(index)) {
+            pools.set(index);
+            version++;
+        }
+    }
+
+    public synchronized void onAcidObjectSpawned(WorldPoint tile) {
+        if (tile == null) return;
+        acidTiles.add(tile);
+        markPool(tile);
+    }
+
+    public synchronized void onAcidObjectDespawned(WorldPoint tile) {
+        acidTiles.remove(tile);
+    }
+
+    /**
+     * Projectiles only report movement when they are created or retargeted, so this marks them right away
+     * and {@link #updateProjectiles} drops them once they have landed.
+     */
+    public void onProjectileMoved(int projectileId) {
+        if (projectileId < 0 || projectileId >= MAX_PROJECTILE_ID || projectiles.get(projectileId)) return;
+        BitSet updated = (BitSet) projectiles.clone();
+        updated.set(projectileId);
+        projectiles = updated;
+    }
+
+    /**
+     * Rebuilds the projectiles in flight, called once per game tick.
+     */
+    public void updateProjectiles(Iterable<Projectile> inFlight) {
+        BitSet updated = new BitSet(MAX_PROJECTILE_ID);
+        for (Projectile projectile : inFlight) {
+            int id = projectile.getId();
+            if (id >= 0 && id < MAX_PROJECTILE_ID) updated.set(id);
+        }
+        projectiles = updated;
+    }
+
+    public boolean isProjectileInFlight(int projectileId) {
+        return projectileId >= 0 && projectileId < MAX_PROJECTILE_ID && projectiles.get(projectileId);
+    }
+
+    public synchronized boolean hasAcidObjects() {
+        return !acidTiles.isEmpty();
+    }
+
+    public synchronized boolean isPool(int x, int y) {
+        return anchored && contains(x, y, plane) && pools.get(index(x, y));
+    }
+
+    /**
+     * A tile is safe to stand on when neither it nor the tile north of it has acid.
+     */
+    public synchronized boolean isTileSafe(int x, int y) {
+        return !isPool(x, y) && !isPool(x, y + 1);
+    }
+
+    /**
+     * Incremented whenever a pool is added or the grid is re-anchored, so plans based on an older layout can be detected.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Clears the pools after an acid phase, the anchor is kept.
+     * Acid objects which are still there are only forgotten when they despawn.
+     */
+    public synchronized void clearPools() {
+        pools.clear();
+        version++;
+    }
+
+    /**
+     * Forgets everything, called when the scene is loaded again, which spawns the objects in it again.
+     */
+    public synchronized void reset() {
+        clearPools();
+        acidTiles.clear();
+        anchored = false;
+        projectiles = new BitSet(MAX_PROJECTILE_ID);
+    }
+
+    private boolean contains(int x, int y, int tilePlane) {
+        return tilePlane == plane && x >= originX && x < originX + SIZE && y >= originY && y < originY + SIZE;
+    }
+
+    private int index(int x, int y) {
+        return (y - originY) * SIZE + (x - originX);
+    }
+}
@@ -4,9 +4,16 @@ import com.google.inject.Provides;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.NpcSpawned;
 import net.runelite.api.events.ProjectileMoved;
+import net.runelite.api.gameval.NpcID;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
@@ -62,13 +69,55 @@ public class VorkathPlugin extends Plugin {
     protected void shutDown() {
         vorkathScript.shutdown();
         overlayManager.remove(exampleOverlay);
+        vorkathScript.getAcidGrid().reset();
     }
 
     @Subscribe
     public void onProjectileMoved(ProjectileMoved e)
     {
+        VorkathAcidGrid acidGrid = vorkathScript.getAcidGrid();
+        acidGrid.onProjectileMoved(e.getProjectile().getId());
         if (e.getProjectile().getId() == vorkathScript.getAcidProjectileId()) {
-            vorkathScript.getAcidPools().add(WorldPoint.fromLocal(client, e.getPosition()));
+            acidGrid.markPool(WorldPoint.fromLocal(client, e.getPosition()));
+        }
+    }
+
+    @Subscribe
+    public void onGameTick(GameTick e)
+    {
+        vorkathScript.getAcidGrid().updateProjectiles(client.getProjectiles());
+    }
+
+    @Subscribe
+    public void onGameObjectSpawned(GameObjectSpawned e)
+    {
+        if (VorkathAcidGrid.isAcidObject(e.getGameObject().getId())) {
+            vorkathScript.getAcidGrid().onAcidObjectSpawned(e.getGameObject().getWorldLocation());
+        }
+    }
+
+    @Subscribe
+    public void onGameObjectDespawned(GameObjectDespawned e)
+    {
+        if (VorkathAcidGrid.isAcidObject(e.getGameObject().getId())) {
+            vorkathScript.getAcidGrid().onAcidObjectDespawned(e.getGameObject().getWorldLocation());
+        }
+    }
+
+    @Subscribe
+    public void onNpcSpawned(NpcSpawned e)
+    {
+        int id = e.getNpc().getId();
+        if (id == NpcID.VORKATH || id == NpcID.VORKATH_SLEEPING) {
+            vorkathScript.getAcidGrid().anchor(e.getNpc().getWorldLocation());
+        }
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged e)
+    {
+        if (e.getGameState() == GameState.LOADING) {
+            vorkathScript.getAcidGrid().reset();
         }
     }
 
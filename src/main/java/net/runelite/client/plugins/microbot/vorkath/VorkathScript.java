@@ -7,7 +7,6 @@ package net.runelite.client.plugins.microbot.vorkath;
 import lombok.Getter;
 import net.runelite.api.*;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.gameval.NpcID;
 import net.runelite.api.gameval.ObjectID;
@@ -39,9 +38,6 @@ import net.runelite.client.plugins.skillcalculator.skills.MagicAction;
 
 import javax.inject.Inject;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -73,7 +69,8 @@ public class VorkathScript extends Script {
     private final int redProjectileId = 1481;
     private final int acidRedProjectileId = 1482;
     @Getter
-    private final HashSet<WorldPoint> acidPools = new HashSet<>();
+    private final VorkathAcidGrid acidGrid = new VorkathAcidGrid();
+    private final WooxWalkPlanner wooxWalkPlanner = new WooxWalkPlanner(acidGrid);
     public int vorkathSessionKills = 0;
     public int tempVorkathKills = 0;
     public int kcPerTrip = 0;
@@ -269,6 +266,9 @@ public class VorkathScript extends Script {
                         break;
                     case FIGHT_VORKATH:
                         vorkath = Rs2Npc.getNpc(NpcID.VORKATH);
+                        if (vorkath != null) {
+                            acidGrid.anchor(vorkath.getWorldLocation());
+                        }
                         if (vorkath == null || vorkath.isDead()) {
                             vorkathSessionKills++;
                             tempVorkathKills--;
@@ -569,13 +569,7 @@ public class VorkathScript extends Script {
     }
 
     private boolean doesProjectileExistById(int id) {
-        for (Projectile projectile : Microbot.getClient().getProjectiles()) {
-            if (projectile.getId() == id) {
-                //println("Projectile $id found")
-                return true;
-            }
-        }
-        return false;
+        return acidGrid.isProjectileInFlight(id);
     }
 
     private boolean isCloseToRelleka() {
@@ -610,34 +604,25 @@ public class VorkathScript extends Script {
     }
 
     WorldPoint findSafeTile() {
-        WorldPoint swPoint = new WorldPoint(vorkath.getWorldLocation().getX() + 1, vorkath.getWorldLocation().getY() - 8, 0);
-        WorldArea wooxWalkArea = new WorldArea(swPoint, 5, 1);
-
-        List<WorldPoint> safeTiles = wooxWalkArea.toWorldPointList().stream().filter(this::isTileSafe).collect(Collectors.toList());
-
-        // Find the closest safe tile by x-coordinate to the player
-        return safeTiles.stream().min(Comparator.comparingInt(tile -> Math.abs(tile.getX() - Microbot.getClient().getLocalPlayer().getWorldLocation().getX()))).orElse(null);
+        WorldPoint vorkathLocation = vorkath.getWorldLocation();
+        acidGrid.anchor(vorkathLocation);
+        // Closest safe tile by x-coordinate to the player
+        return wooxWalkPlanner.getSafeTile(vorkathLocation, Microbot.getClient().getLocalPlayer().getWorldLocation().getX());
     }
 
-
     boolean isTileSafe(WorldPoint tile) {
-        return !acidPools.contains(tile)
-                && !acidPools.contains(new WorldPoint(tile.getX(), tile.getY() + 1, tile.getPlane()));
-
+        return acidGrid.isTileSafe(tile.getX(), tile.getY());
     }
 
     private void handleAcidWalk() {
-        if (!doesProjectileExistById(acidProjectileId) && !doesProjectileExistById(acidRedProjectileId) && Rs2GameObject.getGameObjects(obj -> obj.getId() == ObjectID.VORKATH_ACID).isEmpty()) {
+        if (!doesProjectileExistById(acidProjectileId) && !doesProjectileExistById(acidRedProjectileId) && !acidGrid.hasAcidObjects()) {
             Rs2Npc.interact(vorkath, "attack");
             state = State.FIGHT_VORKATH;
-            acidPools.clear();
+            acidGrid.clearPools();
+            wooxWalkPlanner.reset();
             return;
         }
 
-        Rs2GameObject.getGameObjects(obj -> obj.getId() == ObjectID.VORKATH_ACID).forEach(tileObject -> acidPools.add(tileObject.getWorldLocation()));
-        Rs2GameObject.getGameObjects(obj -> obj.getId() == ObjectID.OLM_ACID_POOL).forEach(tileObject -> acidPools.add(tileObject.getWorldLocation()));
-        Rs2GameObject.getGameObjects(obj -> obj.getId() == ObjectID.MYQ5_ACID_POOL).forEach(tileObject -> acidPools.add(tileObject.getWorldLocation()));
-
         WorldPoint safeTile = findSafeTile();
         WorldPoint playerLocation = Microbot.getClient().getLocalPlayer().getWorldLocation();
 
@@ -0,0 +1,77 @@
+package net.runelite.client.plugins.microbot.vorkath;
+
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Caches which tiles of the 5-tile woox walk row south of Vorkath are free of acid, per acid grid version.
+ * The row is only checked against the grid again when the grid version or Vorkath's location has changed.
+ */
+public class WooxWalkPlanner {
+    // Walk row relative to Vorkath's south-west tile
+    private static final int ROW_OFFSET_X = 1;
+    private static final int ROW_OFFSET_Y = -8;
+    private static final int ROW_LENGTH = 5;
+
+    private final VorkathAcidGrid grid;
+
+    private int plannedVersion = -1;
+    private int plannedVorkathX;
+    private int plannedVorkathY;
+    // Safe tiles of the row as a bit mask, bit i is the tile at x = rowX + i
+    private int safeMask;
+    private int rowX;
+    private int rowY;
+    private int plane;
+
+    public WooxWalkPlanner(VorkathAcidGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Returns the safe tile of the walk row closest to the player's x coordinate, or null if the whole row has acid.
+     */
+    public WorldPoint getSafeTile(WorldPoint vorkathLocation, int playerX) {
+        plan(vorkathLocation);
+        if (safeMask == 0) return null;
+
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < ROW_LENGTH; i++) {
+            if ((safeMask & (1 << i)) == 0) continue;
+            int distance = Math.abs(rowX + i - playerX);
+            if (distance < bestDistance) {
+                best = i;
+                bestDistance = distance;
+            }
+        }
+        return new WorldPoint(rowX + best, rowY, plane);
+    }
+
+    /**
+     * Forget the current plan, called when an acid phase ends.
+     */
+    public void reset() {
+        plannedVersion = -1;
+    }
+
+    private void plan(WorldPoint vorkathLocation) {
+        int version = grid.getVersion();
+        if (version == plannedVersion && vorkathLocation.getX() == plannedVorkathX && vorkathLocation.getY() == plannedVorkathY) {
+            return;
+        }
+
+        rowX = vorkathLocation.getX() + ROW_OFFSET_X;
+        rowY = vorkathLocation.getY() + ROW_OFFSET_Y;
+        plane = vorkathLocation.getPlane();
+
+        int mask = 0;
+        for (int i = 0; i < ROW_LENGTH; i++) {
+            if (grid.isTileSafe(rowX + i, rowY)) mask |= 1 << i;
+        }
+
+        safeMask = mask;
+        plannedVersion = version;
+        plannedVorkathX = vorkathLocation.getX();
+        plannedVorkathY = vorkathLocation.getY();
+    }
+}
@@ -0,0 +1,140 @@
+package net.runelite.client.plugins.microbot.wildernessagility;
+
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.client.plugins.microbot.Microbot;
+
+/**
+ * Running inventory value and lap history for the Wilderness Agility script.
+ * The inventory totals are recomputed from ItemContainerChanged on the client thread,
+ * so the overlay and the banking checks only read the last published values.
+ * Laps are kept in a fixed-size ring buffer.
+ */
+public class WildernessAgilityLedger {
+    private static final int LAP_HISTORY = 20;
+
+    private final int ticketItemId;
+    private final Map<Integer, Integer> priceCache = new HashMap<>();
+
+    // --- Inventory (written on the client thread) ---
+    private volatile long inventoryValue = 0;
+    private volatile int occupiedSlots = 0;
+    private volatile int ticketCount = 0;
+
+    // --- Lap history ---
+    private final long[] lapTimes = new long[LAP_HISTORY];
+    private final long[] lapLoot = new long[LAP_HISTORY];
+    private int lapIndex = 0;
+    private int lapSamples = 0;
+    private long lapTimeSum = 0;
+    private int lapTimeSamples = 0;
+    private long lapLootSum = 0;
+    private long previousLapTime = 0;
+    private long fastestLapTime = Long.MAX_VALUE;
+
+    public WildernessAgilityLedger(int ticketItemId) {
+        this.ticketItemId = ticketItemId;
+    }
+
+    /**
+     * Recomputes the inventory totals, called from ItemContainerChanged for the inventory.
+     */
+    public void onInventoryChanged(ItemContainer container) {
+        long value = 0;
+        int slots = 0;
+        int tickets = 0;
+        if (container != null) {
+            for (Item item : container.getItems()) {
+                if (item == null || item.getId() < 0 || item.getQuantity() <= 0) continue;
+                slots++;
+                value += (long) getPrice(item.getId()) * item.getQuantity();
+                if (item.getId() == ticketItemId) tickets += item.getQuantity();
+            }
+        }
+        inventoryValue = value;
+        occupiedSlots = slots;
+        ticketCount = tickets;
+    }
+
+    /**
+     * Records a looted dispenser.
+     * @param lapTime duration of the lap in milliseconds, or 0 for the first loot when no lap was timed yet
+     * @param loot value gained from the dispenser
+     */
+    public synchronized void recordLap(long lapTime, long loot) {
+        // Evict the oldest entry once the buffer is full
+        if (lapSamples == LAP_HISTORY) {
+            lapLootSum -= lapLoot[lapIndex];
+            if (lapTimes[lapIndex] > 0) {
+                lapTimeSum -= lapTimes[lapIndex];
+                lapTimeSamples--;
+            }
+        } else {
+            lapSamples++;
+        }
+
+        lapTimes[lapIndex] = lapTime;
+        lapLoot[lapIndex] = loot;
+        lapLootSum += loot;
+        if (lapTime > 0) {
+            lapTimeSum += lapTime;
+            lapTimeSamples++;
+            previousLapTime = lapTime;
+            if (lapTime < fastestLapTime) fastestLapTime = lapTime;
+        }
+        lapIndex = (lapIndex + 1) % LAP_HISTORY;
+    }
+
+    public synchronized void resetLaps() {
+        lapIndex = 0;
+        lapSamples = 0;
+        lapTimeSum = 0;
+        lapTimeSamples = 0;
+        lapLootSum = 0;
+        previousLapTime = 0;
+        fastestLapTime = Long.MAX_VALUE;
+    }
+
+    public long getInventoryValue() {
+        return inventoryValue;
+    }
+
+    public int getOccupiedSlots() {
+        return occupiedSlots;
+    }
+
+    public int getTicketCount() {
+        return ticketCount;
+    }
+
+    /** @return duration of the last timed lap in milliseconds, 0 if none */
+    public synchronized long getPreviousLapTime() {
+        return previousLapTime;
+    }
+
+    /** @return fastest lap in milliseconds, Long.MAX_VALUE if none */
+    public synchronized long getFastestLapTime() {
+        return fastestLapTime;
+    }
+
+    /** @return average of the recent timed laps in milliseconds, 0 if none */
+    public synchronized long getAverageLapTime() {
+        return lapTimeSamples == 0 ? 0 : lapTimeSum / lapTimeSamples;
+    }
+
+    /** @return average dispenser loot over the recent laps */
+    public synchronized long getAverageLoot() {
+        return lapSamples == 0 ? 0 : lapLootSum / lapSamples;
+    }
+
+    private int getPrice(int itemId) {
+        Integer price = priceCache.get(itemId);
+        if (price == null) {
+            price = Microbot.getItemManager().getItemPrice(itemId);
+            priceCache.put(itemId, price);
+        }
+        return price;
+    }
+}
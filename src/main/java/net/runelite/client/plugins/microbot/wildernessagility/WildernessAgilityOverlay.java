@@ -67,6 +67,18 @@ public class WildernessAgilityOverlay extends OverlayPanel {
                 .leftColor(new Color(0xFFD600)) // race car yellow
                 .rightColor(new Color(0xFFD600))
                 .build());
+        panelComponent.getChildren().add(LineComponent.builder()
+                .left("Average Lap Time")
+                .right(script.getAverageLapTime())
+                .leftColor(Color.WHITE)
+                .rightColor(Color.WHITE)
+                .build());
+        panelComponent.getChildren().add(LineComponent.builder()
+                .left("Average Loot")
+                .right(String.format("%,d gp", script.getLedger().getAverageLoot()))
+                .leftColor(new Color(0x2ECC40))
+                .rightColor(new Color(0x2ECC40))
+                .build());
         // Optionally show current obstacle if you track it
         // panelComponent.getChildren().add(LineComponent.builder()
         //         .left("Current Obstacle")
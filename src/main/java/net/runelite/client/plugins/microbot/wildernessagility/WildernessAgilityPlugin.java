@@ -9,6 +9,8 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.PluginConstants;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.ChatMessageType;
 import net.runelite.client.util.Text;
 import net.runelite.client.eventbus.Subscribe;
@@ -72,4 +74,11 @@ public class WildernessAgilityPlugin extends Plugin {
             script.setLastFcJoinMessageTime(System.currentTimeMillis());
         }
     }
+
+    @Subscribe
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        if (event.getContainerId() == InventoryID.INV) {
+            script.getLedger().onInventoryChanged(event.getItemContainer());
+        }
+    }
 } 
\ No newline at end of file
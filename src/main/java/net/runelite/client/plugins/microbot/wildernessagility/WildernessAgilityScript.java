@@ -3,11 +3,11 @@ package net.runelite.client.plugins.microbot.wildernessagility;
 import java.text.NumberFormat;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.TileObject;
+import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.plugins.microbot.*;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
@@ -70,9 +70,9 @@ public final class WildernessAgilityScript extends Script {
     private int pipeStartXp = 0;
     private int ropeStartXp = 0;
     private int stonesStartXp = 0;
-    private long previousLapTime = 0;
-    private long fastestLapTime = Long.MAX_VALUE;
     private long lastLapTimestamp = 0;
+    @Getter
+    private final WildernessAgilityLedger ledger = new WildernessAgilityLedger(TICKET_ITEM_ID);
     private long startTime = 0;
 
     // --- State & Progress ---
@@ -141,6 +141,12 @@ public final class WildernessAgilityScript extends Script {
             currentState = ObstacleState.START;
         }
         startTime = System.currentTimeMillis();
+        ledger.resetLaps();
+        // Seed the ledger, later changes arrive through ItemContainerChanged
+        Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            ledger.onInventoryChanged(Microbot.getClient().getItemContainer(InventoryID.INV));
+            return true;
+        });
         Microbot.log("[WildernessAgilityScript] startup called");
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
@@ -224,6 +230,8 @@ public final class WildernessAgilityScript extends Script {
         lapCount = 0;
         dispenserLoots = 0;
         startTime = 0;
+        lastLapTimestamp = 0;
+        ledger.resetLaps();
         currentState = ObstacleState.START;
         pitRecoveryTarget = null;
         isWaitingForPipe = false;
@@ -268,18 +276,12 @@ public final class WildernessAgilityScript extends Script {
     }
 
     private boolean waitForInventoryChanges(int timeoutMs) {
-        List<Rs2ItemModel> before = Rs2Inventory.items().collect(Collectors.toList());
-        long start = System.currentTimeMillis();
-        while (System.currentTimeMillis() - start < timeoutMs && isRunning()) {
-            List<Rs2ItemModel> after = Rs2Inventory.items().collect(Collectors.toList());
-            if (after.size() != before.size()) return true;
-            sleep(50);
-        }
-        return false;
+        int before = ledger.getOccupiedSlots();
+        return sleepUntil(() -> ledger.getOccupiedSlots() != before || !isRunning(), timeoutMs) && isRunning();
     }
 
     public int getInventoryValue() {
-        return Rs2Inventory.items().filter(Objects::nonNull).mapToInt(Rs2ItemModel::getPrice).sum();
+        return (int) Math.min(Integer.MAX_VALUE, ledger.getInventoryValue());
     }
 
     public String getRunningTime() {
@@ -574,7 +576,7 @@ public final class WildernessAgilityScript extends Script {
 
             // Immediate interaction without waiting for next tick
             if (!Rs2Player.isAnimating() && freshDispenser != null) {
-                dispenserTicketsBefore = Rs2Inventory.itemQuantity(TICKET_ITEM_ID);
+                dispenserTicketsBefore = ledger.getTicketCount();
                 dispenserPreValue = getInventoryValue();
                 dispenserLootAttempts = 1;
                 waitingForDispenserLoot = true;
@@ -602,7 +604,7 @@ public final class WildernessAgilityScript extends Script {
                         lastObjectCheck = System.currentTimeMillis();
                         currentState = ObstacleState.DISPENSER;
                         if (!Rs2Player.isAnimating() && freshDispenser != null) {
-                            dispenserTicketsBefore = Rs2Inventory.itemQuantity(TICKET_ITEM_ID);
+                            dispenserTicketsBefore = ledger.getTicketCount();
                             dispenserPreValue = getInventoryValue();
                             dispenserLootAttempts = 1;
                             waitingForDispenserLoot = true;
@@ -632,22 +634,17 @@ public final class WildernessAgilityScript extends Script {
         // Update inventory value only here
         cachedInventoryValue = getInventoryValue();
 
-        int currentTickets = Rs2Inventory.itemQuantity(TICKET_ITEM_ID);
+        int currentTickets = ledger.getTicketCount();
 
         // If we're waiting for loot, check for ticket gain regardless of animation state
         if (waitingForDispenserLoot) {
-            if (Rs2Inventory.itemQuantity(TICKET_ITEM_ID) > dispenserTicketsBefore) {
+            if (currentTickets > dispenserTicketsBefore) {
                 long now = System.currentTimeMillis();
-                if (lastLapTimestamp > 0) {
-                    previousLapTime = now - lastLapTimestamp;
-                    if (previousLapTime < fastestLapTime) {
-                        fastestLapTime = previousLapTime;
-                    }
-                }
+                int dispenserValue = getInventoryValue() - dispenserPreValue;
+                ledger.recordLap(lastLapTimestamp > 0 ? now - lastLapTimestamp : 0, dispenserValue);
                 lastLapTimestamp = now;
                 dispenserLoots++;
                 lapCount++;
-                int dispenserValue = getInventoryValue() - dispenserPreValue;
                 String formattedValue = NumberFormat.getIntegerInstance().format(dispenserValue);
                 info("Dispenser Value: " + formattedValue);
                 currentState = ObstacleState.CONFIG_CHECKS;
@@ -675,13 +672,13 @@ public final class WildernessAgilityScript extends Script {
     private void handleConfigChecks() {
         TileObject dispenser = cachedDispenserObj;
         if (dispenser == null) return;
-        int ticketCount = Rs2Inventory.itemQuantity(TICKET_ITEM_ID);
+        int ticketCount = ledger.getTicketCount();
         if (ticketCount >= config.useTicketsWhen()) {
             boolean didInteract = Rs2Inventory.interact(TICKET_ITEM_ID, "Use");
             if (didInteract) {
                 didInteract = Rs2GameObject.interact(dispenser, "Use");
                 if (didInteract) {
-                    sleepUntil(() -> Rs2Inventory.itemQuantity(TICKET_ITEM_ID) < ticketCount, 2000);
+                    sleepUntil(() -> ledger.getTicketCount() < ticketCount, 2000);
                 }
             }
         }
@@ -971,15 +968,23 @@ public final class WildernessAgilityScript extends Script {
     }
 
     public String getPreviousLapTime() {
+        long previousLapTime = ledger.getPreviousLapTime();
         if (previousLapTime == 0) return "-";
         return String.format("%.2f s", previousLapTime / 1000.0);
     }
 
     public String getFastestLapTime() {
+        long fastestLapTime = ledger.getFastestLapTime();
         if (fastestLapTime == Long.MAX_VALUE) return "-";
         return String.format("%.2f s", fastestLapTime / 1000.0);
     }
 
+    public String getAverageLapTime() {
+        long averageLapTime = ledger.getAverageLapTime();
+        if (averageLapTime == 0) return "-";
+        return String.format("%.2f s", averageLapTime / 1000.0);
+    }
+
     private void setupWorldHop() {
         originalWorld = Rs2Player.getWorld();
         bankWorld1 = getConfigWorld(config.bankWorld1());